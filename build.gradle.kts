@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,10 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    // Mono 반환 API (ReactivePointController) - 기본은 서블릿, spring.main.web-application-type=reactive 이면 Netty 로 실행
+    implementation(libs.spring.boot.starter.webflux)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     testImplementation("org.mockito:mockito-core:5.10.0")
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
@@ -36,7 +41,8 @@ dependencies {
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    // 가상 스레드(spring.threads.virtual.enabled) 사용을 위해 21 로 올림
+    sourceCompatibility = JavaVersion.VERSION_21
     /*toolchain {
         languageVersion = JavaLanguageVersion.of(17) // 회사에서 java 1.8 사용중
     }*/
@@ -56,5 +62,32 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+// 부하 테스트는 오래 걸리므로 별도 태스크로 실행 (./gradlew loadTest)
+val loadTest by tasks.registering(Test::class) {
+    group = "verification"
+    description = "Runs tests tagged with 'load'."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    // 스냅샷 재시작 테스트(사용자 1,000만 명)용
+    maxHeapSize = "2g"
+    // -Dpoint.load.rate=500 -Dpoint.engine=GROUP_COMMIT 처럼 준 설정을 테스트 JVM 에 넘긴다.
+    System.getProperties().stringPropertyNames()
+        .filter { it.startsWith("point.") }
+        .forEach { systemProperty(it, System.getProperty(it)) }
+    useJUnitPlatform {
+        includeTags("load")
+    }
+}
+// benchmark tasks (./gradlew jmh, 특정 벤치마크만 : ./gradlew jmh -Pjmh.includes=PointServiceBenchmark)
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    warmupIterations = 2
+    iterations = 3
+    fork = 1
+    resultFormat = "JSON"
+    (findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
 }
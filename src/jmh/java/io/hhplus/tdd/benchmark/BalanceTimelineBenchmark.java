@@ -0,0 +1,72 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.InMemoryPointHistoryTable;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.BalanceTimeline;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 특정 시각의 잔액 조회(GET /point/{id}?at=) 비용과 잔액 기록이 쓰기 경로에 더하는 비용
+ * - balanceAt : 내역 historiesPerUser 건인 사용자의 임의 시각 잔액 조회
+ *   balanceTimeline 이 true 이면 BalanceTimeline 이진 탐색, false 이면 사용자 색인의 전체 내역을 더한다.
+ * - append : 히스토리 한 건 기록 시 BalanceTimeline 에 누적 잔액을 붙이는 비용 (사용자 1,000명)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BalanceTimelineBenchmark {
+
+    private static final long TARGET_USER_ID = 7L;
+
+    @Param({"false", "true"})
+    private boolean balanceTimeline;
+
+    @Param({"100", "10000"})
+    private int historiesPerUser;
+
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.getHistory().setIndexed(true);
+        properties.getHistory().setBalanceTimeline(balanceTimeline);
+        pointHistoryRepository = new PointHistoryRepository(new InMemoryPointHistoryTable(), properties);
+
+        for (int i = 1; i <= historiesPerUser; i++) {
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointHistoryRepository.insert(TARGET_USER_ID, 100L, type, i);
+        }
+    }
+
+    @Benchmark
+    public UserPoint balanceAt() {
+        return pointHistoryRepository.selectBalanceAt(TARGET_USER_ID, ThreadLocalRandom.current().nextLong(historiesPerUser));
+    }
+
+    /**
+     * 반복마다 새로 만들어 누적 기록이 메모리를 계속 차지하지 않도록 한다.
+     */
+    @State(Scope.Thread)
+    public static class AppendState {
+        private BalanceTimeline timeline;
+        private long millis;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            timeline = new BalanceTimeline();
+        }
+    }
+
+    @Benchmark
+    public void append(AppendState state) {
+        long millis = ++state.millis;
+        state.timeline.append(millis % 1_000, 100L, TransactionType.CHARGE, millis);
+    }
+}
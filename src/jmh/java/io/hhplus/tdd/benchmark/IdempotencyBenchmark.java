@@ -0,0 +1,53 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.TableLatency;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멱등 키 재시도 비용
+ * - retryStorm : 모든 스레드가 한 사용자의 같은 키로 계속 재요청하는 경우 (처음 한 번만 처리)
+ * - freshRequests : 같은 사용자에게 매번 새 충전/사용을 처리하는 경우 (락, 테이블을 거침)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class IdempotencyBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+    private static final long AMOUNT = 100L;
+
+    @Param({"NONE"})
+    private TableLatency latency;
+
+    private PointService pointService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PointProperties properties = new PointProperties();
+        pointService = new PointService(
+                new UserPointRepository(latency.userPointTable(), properties),
+                new PointHistoryRepository(latency.pointHistoryTable(), properties),
+                properties, PointMetrics.noop());
+    }
+
+    @Benchmark
+    public UserPoint retryStorm() {
+        pointService.chargePoint(HOT_USER_ID, AMOUNT, "charge-key");
+        return pointService.usePoint(HOT_USER_ID, AMOUNT, "use-key");
+    }
+
+    @Benchmark
+    public UserPoint freshRequests() {
+        pointService.chargePoint(HOT_USER_ID, AMOUNT);
+        return pointService.usePoint(HOT_USER_ID, AMOUNT);
+    }
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.common.lock.UserLock;
+import io.hhplus.tdd.common.lock.UserLockRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기존 lockMap(한 번 생성된 락을 계속 보관)과 UserLockRegistry 의 힙 사용량/처리량 비교
+ * 서로 다른 사용자 수만큼 락을 잡았다 놓은 뒤 GC 이후 남아있는 힙을 측정한다.
+ *
+ * JMH 측정이 아닌 단독 실행 프로그램이다. (힙 잔존량 측정)
+ * 실행 예) java -Xmx4g -cp build/classes/java/main:build/classes/java/jmh io.hhplus.tdd.benchmark.LockRegistryBenchmark 10000000 8
+ */
+public class LockRegistryBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+        run("lockMap", users, threads, userId -> {
+            ReentrantLock lock = lockMap.computeIfAbsent(userId, k -> new ReentrantLock());
+            lock.lock();
+            lock.unlock();
+        }, lockMap::size);
+        lockMap.clear();
+
+        UserLockRegistry registry = new UserLockRegistry();
+        run("registry", users, threads, userId -> {
+            try (UserLock lock = registry.acquire(userId)) {
+                lock.lock();
+                lock.unlock();
+            }
+        }, registry::size);
+    }
+
+    private static void run(String name, int users, int threads, LockAction action, Retained retained) throws Exception {
+        long baseHeap = usedHeap();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.execute(() -> {
+                for (long userId = offset; userId < users; userId += threads) {
+                    action.run(userId);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long retainedHeap = usedHeap() - baseHeap;
+        System.out.printf("%-8s users=%,d threads=%d ops/s=%,.0f retainedLocks=%,d retainedHeap=%,dMB%n",
+                name, users, threads, users / (elapsedNanos / 1e9), retained.size(), retainedHeap / 1024 / 1024);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @FunctionalInterface
+    private interface LockAction {
+        void run(long userId);
+    }
+
+    @FunctionalInterface
+    private interface Retained {
+        int size();
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.InMemoryPointHistoryTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarHistoryStore;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.List;
+
+/**
+ * 히스토리 보관 방식별 메모리 사용량과 GC 정지 시간 측정
+ * - table : PointHistory 객체를 리스트에 보관 (PointHistoryTable 과 같은 방식)
+ * - columnar : ColumnarHistoryStore
+ * records 건을 기록하는 동안의 GC 횟수/시간, 기록 후 레코드당 힙 사용량, 전체 GC 한 번의 정지 시간을 출력한다.
+ *
+ * JMH 측정이 아닌 단독 실행 프로그램이며, 방식마다 JVM 을 따로 띄워 실행한다.
+ * 실행 예) java -Xmx6g -cp build/classes/java/main:build/classes/java/jmh io.hhplus.tdd.benchmark.PointHistoryMemoryBenchmark columnar 50000000
+ */
+public class PointHistoryMemoryBenchmark {
+
+    private static final int USERS = 100_000;
+
+    public static void main(String[] args) {
+        String store = args.length > 0 ? args[0] : "columnar";
+        long records = args.length > 1 ? Long.parseLong(args[1]) : 50_000_000L;
+
+        long baseline = usedHeapAfterGc();
+        long[] gcBefore = gcStats();
+        long start = System.nanoTime();
+        Object retained = switch (store) {
+            case "table" -> fillTable(records);
+            case "columnar" -> fillColumnar(records);
+            default -> throw new IllegalArgumentException("table 또는 columnar 만 지원합니다: " + store);
+        };
+        long insertNanos = System.nanoTime() - start;
+        long[] gcAfter = gcStats();
+
+        long used = usedHeapAfterGc() - baseline;
+        long fullGcStart = System.nanoTime();
+        System.gc();
+        long fullGcNanos = System.nanoTime() - fullGcStart;
+
+        System.out.printf("%-8s records=%,d insert=%.1fs gc(count=%d, time=%,dms) heap=%,dMB bytes/record=%.1f fullGc=%,dms%n",
+                store, records, insertNanos / 1e9, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1],
+                used / 1024 / 1024, (double) used / records, fullGcNanos / 1_000_000);
+        // 측정이 끝날 때까지 보관 데이터가 수거되지 않도록 유지한다.
+        Reference.reachabilityFence(retained);
+    }
+
+    private static InMemoryPointHistoryTable fillTable(long records) {
+        InMemoryPointHistoryTable table = new InMemoryPointHistoryTable();
+        for (long i = 0; i < records; i++) {
+            table.insert(i % USERS, 100L, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+        return table;
+    }
+
+    private static ColumnarHistoryStore fillColumnar(long records) {
+        ColumnarHistoryStore store = new ColumnarHistoryStore();
+        for (long i = 0; i < records; i++) {
+            store.insert(i % USERS, 100L, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+        return store;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // [GC 횟수, 누적 GC 시간(ms)]
+    private static long[] gcStats() {
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean bean : beans) {
+            count += Math.max(0, bean.getCollectionCount());
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return new long[]{count, time};
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.PointHistoryTables;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.UserHistoryIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 히스토리 수가 늘어날 때 한 사용자의 히스토리 조회 시간
+ * - tableScan : PointHistoryTable.selectAllByUserId (전체 리스트 탐색)
+ * - userIndex : UserHistoryIndex.selectAll (사용자별 색인)
+ * 사용자 한 명의 내역 수는 totalHistories / users 로 같은 비율로 늘어난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryTableBenchmark {
+
+    private static final long TARGET_USER_ID = 7L;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int totalHistories;
+
+    @Param({"1000"})
+    private int users;
+
+    private PointHistoryTable pointHistoryTable;
+    private UserHistoryIndex userHistoryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryTable = new PointHistoryTable();
+        userHistoryIndex = new UserHistoryIndex();
+
+        List<PointHistory> histories = new ArrayList<>(totalHistories);
+        for (int i = 1; i <= totalHistories; i++) {
+            PointHistory history = new PointHistory(i, i % users, 100L, TransactionType.CHARGE, i);
+            histories.add(history);
+            userHistoryIndex.append(history);
+        }
+        PointHistoryTables.fill(pointHistoryTable, histories);
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return pointHistoryTable.selectAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> userIndex() {
+        return userHistoryIndex.selectAll(TARGET_USER_ID);
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.InMemoryPointHistoryTable;
+import io.hhplus.tdd.benchmark.support.InMemoryUserPointTable;
+import io.hhplus.tdd.common.GlobalExceptionHandler;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.validation.PointValidator;
+import io.hhplus.tdd.point.validation.PointViolation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 금액 요청을 거절하는 비용 (-prof gc 로 요청당 할당량 gc.alloc.rate.norm 비교)
+ * - exceptionPath : 검증 예외(스택 트레이스 포함)를 던지고 GlobalExceptionHandler 가 ErrorResponse 를 만든다.
+ * - limitExceptionPath : 한도 초과 예외(스택 트레이스 없음)를 던지고 ErrorResponse 를 만든다.
+ * - precheckPath : PointService.precheckAmount 가 위반 사유를 돌려주고 미리 만든 응답을 그대로 쓴다.
+ * 응답 직렬화(Jackson)는 포함하지 않는다. (precheckPath 는 이미 직렬화된 본문을 쓰므로 실제 차이는 더 크다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointRejectionBenchmark {
+
+    private final PointValidator pointValidator = new PointValidator();
+    private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointService = new PointService(new InMemoryUserPointTable(), new InMemoryPointHistoryTable());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        pointService.close();
+    }
+
+    @Benchmark
+    public Object exceptionPath() {
+        try {
+            pointValidator.validateChargeAmount(-1L, 4_999L);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return exceptionHandler.handleIllegalArgument(e);
+        }
+    }
+
+    @Benchmark
+    public Object limitExceptionPath() {
+        try {
+            pointValidator.validateChargeAmount(100_001L, 105_000L);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return exceptionHandler.handleIllegalArgument(e);
+        }
+    }
+
+    @Benchmark
+    public Object precheckPath() {
+        PointViolation violation = pointService.precheckAmount(TransactionType.CHARGE, -1L);
+        return GlobalExceptionHandler.rejection(violation);
+    }
+}
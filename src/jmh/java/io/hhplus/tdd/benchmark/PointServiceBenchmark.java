@@ -0,0 +1,84 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.TableLatency;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointEngine;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 충전/사용 처리량
+ * - singleUserContention : 모든 스레드가 한 사용자에게 몰리는 경우
+ * - manyUserSpread : 스레드마다 임의의 사용자에게 분산되는 경우
+ * 처리 방식(engine)별로 비교한다. (LOCK, GROUP_COMMIT, CAS, SHARDED)
+ * combining 이 true 이면 LOCK 방식에서 락 대기가 쌓인 사용자만 묶음 처리한다. (-p combining=true,false 로 비교)
+ * metrics 가 true 이면 지표(락 대기/점유, 테이블 호출, 처리 결과)를 기록하는 비용이 포함된다.
+ * 충전 후 같은 금액을 사용해 잔액이 한도에 걸리지 않도록 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PointServiceBenchmark {
+
+    private static final long HOT_USER_ID = 1L;
+    private static final long AMOUNT = 100L;
+
+    @Param({"NONE"})
+    private TableLatency latency;
+
+    @Param({"LOCK", "GROUP_COMMIT", "CAS", "SHARDED"})
+    private PointEngine.Type engine;
+
+    @Param({"10000"})
+    private int users;
+
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    @Param({"false"})
+    private boolean combining;
+
+    private PointService pointService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.setEngine(engine);
+        properties.getCombining().setEnabled(combining);
+
+        PointMetrics pointMetrics = metrics ? new PointMetrics(new SimpleMeterRegistry()) : PointMetrics.noop();
+        pointService = new PointService(
+                new UserPointRepository(latency.userPointTable(), properties, pointMetrics),
+                new PointHistoryRepository(latency.pointHistoryTable(), properties, pointMetrics),
+                properties, pointMetrics);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        // 샤드 스레드 등 이전 반복의 자원을 정리한다.
+        pointService.close();
+    }
+
+    @Benchmark
+    public UserPoint singleUserContention() {
+        pointService.chargePoint(HOT_USER_ID, AMOUNT);
+        return pointService.usePoint(HOT_USER_ID, AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint manyUserSpread() {
+        long userId = ThreadLocalRandom.current().nextLong(users);
+        pointService.chargePoint(userId, AMOUNT);
+        return pointService.usePoint(userId, AMOUNT);
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.TableLatency;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.DTO.PointTransferResult;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임의의 두 사용자 사이 이체 처리량 (스트레스)
+ * 여러 스레드가 서로 반대 방향을 포함한 임의의 쌍으로 동시에 이체한다.
+ * users 가 작을수록 같은 사용자 락을 두고 경합이 심해진다.
+ * 반복이 끝날 때마다 전체 포인트 합이 처음과 같은지 확인하고, 다르면 벤치마크를 실패시킨다.
+ * - randomPairTransfer : transferPoint (두 락을 순서대로 잡고 한 번에 처리)
+ * - useThenCharge : 기존 방식 - usePoint 후 chargePoint (받는 쪽이 실패하면 보낸 쪽에 되돌려 충전)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class PointTransferBenchmark {
+
+    // 한 번에 충전할 수 있는 양(100,000)씩 나눠서 채운다.
+    private static final long INITIAL_POINT = 500_000L;
+    private static final long CHARGE_UNIT = 100_000L;
+
+    @Param({"NONE"})
+    private TableLatency latency;
+
+    @Param({"2", "16", "10000"})
+    private int users;
+
+    private PointService pointService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PointProperties properties = new PointProperties();
+        PointMetrics pointMetrics = PointMetrics.noop();
+        pointService = new PointService(
+                new UserPointRepository(latency.userPointTable(), properties, pointMetrics),
+                new PointHistoryRepository(latency.pointHistoryTable(), properties, pointMetrics),
+                properties, pointMetrics);
+
+        for (long userId = 0; userId < users; userId++) {
+            for (long charged = 0; charged < INITIAL_POINT; charged += CHARGE_UNIT) {
+                pointService.chargePoint(userId, CHARGE_UNIT);
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyTotal() throws IOException {
+        long total = 0;
+        for (long userId = 0; userId < users; userId++) {
+            total += pointService.selectUserPoint(userId).point();
+        }
+        pointService.close();
+        if (total != INITIAL_POINT * users) {
+            throw new IllegalStateException("전체 포인트 합이 달라졌습니다. expected=" + INITIAL_POINT * users + ", actual=" + total);
+        }
+    }
+
+    @Benchmark
+    public PointTransferResult randomPairTransfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long from = random.nextLong(users);
+        // from 을 뺀 나머지 중에서 고른다.
+        long to = (from + 1 + random.nextLong(users - 1)) % users;
+        try {
+            return pointService.transferPoint(from, to, random.nextLong(1, 1_000));
+        } catch (IllegalArgumentException e) {
+            // 잔액 부족 / 한도 초과는 기록되지 않으므로 합에 영향이 없다.
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Object useThenCharge() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long from = random.nextLong(users);
+        long to = (from + 1 + random.nextLong(users - 1)) % users;
+        long amount = random.nextLong(1, 1_000);
+        try {
+            pointService.usePoint(from, amount);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        try {
+            return pointService.chargePoint(to, amount);
+        } catch (IllegalArgumentException e) {
+            return pointService.chargePoint(from, amount);
+        }
+    }
+}
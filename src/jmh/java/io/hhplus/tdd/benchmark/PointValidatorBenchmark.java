@@ -0,0 +1,46 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.validation.PointValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointValidator 통과/거절 경로의 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointValidatorBenchmark {
+
+    private final PointValidator pointValidator = new PointValidator();
+
+    @Benchmark
+    public void chargeAccepted() {
+        pointValidator.validateChargeAmount(1_000L, 5_000L);
+    }
+
+    @Benchmark
+    public void chargeRejected(Blackhole blackhole) {
+        try {
+            pointValidator.validateChargeAmount(-1L, 4_999L);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void useAccepted() {
+        pointValidator.validateUseAmount(1_000L, 4_000L);
+    }
+
+    @Benchmark
+    public void useRejected(Blackhole blackhole) {
+        try {
+            pointValidator.validateUseAmount(6_000L, -1_000L);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+}
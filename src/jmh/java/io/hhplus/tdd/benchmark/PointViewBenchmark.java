@@ -0,0 +1,98 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.TableLatency;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 사용자에게 충전/사용이 이어지는 동안 "잔액 + 최근 10건" 조회 처리량
+ * 그룹마다 writer 1 스레드가 같은 사용자에게 1 포인트씩 충전/사용을 번갈아 하고, reader 3 스레드가 조회한다.
+ * - combined : selectUserPointView (view=true 이면 교체된 뷰를 그대로 반환)
+ * - separate : 기존 방식 - selectUserPoint 후 selectUserHistories(최근 10건) (두 조회 사이 기록이 끼어들 수 있음)
+ * view 는 writer 가 기록할 때마다 뷰를 교체하는 비용도 함께 보여준다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointViewBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int RECENT_SIZE = 10;
+
+    @Param({"NONE"})
+    private TableLatency latency;
+
+    @Param({"false", "true"})
+    private boolean view;
+
+    private PointService pointService;
+    private boolean charge;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.getHistory().setIndexed(true);
+        properties.getView().setEnabled(view);
+        properties.getView().setRecentSize(RECENT_SIZE);
+        PointMetrics pointMetrics = PointMetrics.noop();
+        pointService = new PointService(
+                new UserPointRepository(latency.userPointTable(), properties, pointMetrics),
+                new PointHistoryRepository(latency.pointHistoryTable(), properties, pointMetrics),
+                properties, pointMetrics);
+        pointService.chargePoint(USER_ID, 1_000L);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        pointService.close();
+    }
+
+    @Benchmark
+    @Group("combined")
+    @GroupThreads(3)
+    public UserPointView combinedRead() {
+        return pointService.selectUserPointView(USER_ID);
+    }
+
+    @Benchmark
+    @Group("combined")
+    @GroupThreads(1)
+    public UserPoint combinedWrite() {
+        return write();
+    }
+
+    @Benchmark
+    @Group("separate")
+    @GroupThreads(3)
+    public void separateRead(Blackhole blackhole) {
+        UserPoint userPoint = pointService.selectUserPoint(USER_ID);
+        List<PointHistory> histories = pointService.selectUserHistories(USER_ID, null, RECENT_SIZE);
+        blackhole.consume(userPoint);
+        blackhole.consume(histories);
+    }
+
+    @Benchmark
+    @Group("separate")
+    @GroupThreads(1)
+    public UserPoint separateWrite() {
+        return write();
+    }
+
+    // writer 스레드만 호출한다.
+    private UserPoint write() {
+        charge = !charge;
+        return charge ? pointService.chargePoint(USER_ID, 1L) : pointService.usePoint(USER_ID, 1L);
+    }
+}
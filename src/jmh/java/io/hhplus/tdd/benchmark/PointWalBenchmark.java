@@ -0,0 +1,71 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointWriteAheadLog 기록 처리량과 재시작 시 복구(replay) 시간 측정
+ * records 건을 threads 개 스레드로 나눠 기록한 뒤, 다시 열면서 사용자별 잔액을 합산한다.
+ *
+ * JMH 측정이 아닌 단독 실행 프로그램이다. (1회성 대용량 기록/복구 측정)
+ * 실행 예) java -cp build/classes/java/main:build/classes/java/jmh io.hhplus.tdd.benchmark.PointWalBenchmark 100000000 8 /tmp/point.wal
+ */
+public class PointWalBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final int SYNC_BATCH_SIZE = 1_000;
+    private static final Duration SYNC_INTERVAL = Duration.ofMillis(100);
+
+    public static void main(String[] args) throws Exception {
+        long records = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Path path = args.length > 2 ? Path.of(args[2]) : Files.createTempFile("point", ".wal");
+        Files.deleteIfExists(path);
+
+        // 기록
+        PointWriteAheadLog wal = new PointWriteAheadLog(path, SEGMENT_SIZE, SYNC_BATCH_SIZE, SYNC_INTERVAL, history -> {
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.execute(() -> {
+                for (long i = offset; i < records; i += threads) {
+                    wal.append(i % USERS, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, 100L, i);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        wal.close();
+        long appendNanos = System.nanoTime() - start;
+
+        // 복구
+        long[] balances = new long[USERS];
+        start = System.nanoTime();
+        PointWriteAheadLog reopened = new PointWriteAheadLog(path, SEGMENT_SIZE, SYNC_BATCH_SIZE, SYNC_INTERVAL, history -> {
+            int userId = (int) history.userId();
+            balances[userId] += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+        });
+        long replayNanos = System.nanoTime() - start;
+        long replayed = reopened.records();
+        reopened.close();
+
+        long fileBytes = Files.size(path);
+        System.out.printf("append  records=%,d threads=%d time=%.1fs records/s=%,.0f MB/s=%,.1f%n",
+                records, threads, appendNanos / 1e9, records / (appendNanos / 1e9),
+                fileBytes / 1024.0 / 1024 / (appendNanos / 1e9));
+        System.out.printf("replay  records=%,d time=%.1fs records/s=%,.0f file=%,dMB (%d bytes/record)%n",
+                replayed, replayNanos / 1e9, replayed / (replayNanos / 1e9), fileBytes / 1024 / 1024,
+                fileBytes / Math.max(1, replayed));
+        Files.deleteIfExists(path);
+    }
+}
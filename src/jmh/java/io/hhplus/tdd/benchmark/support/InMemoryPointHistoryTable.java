@@ -0,0 +1,30 @@
+package io.hhplus.tdd.benchmark.support;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지연(throttle) 없는 PointHistoryTable
+ * 원본과 같이 전체 리스트를 훑어서 조회한다.
+ */
+public class InMemoryPointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private long cursor = 1;
+
+    @Override
+    public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+        table.add(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public synchronized List<PointHistory> selectAllByUserId(long userId) {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+}
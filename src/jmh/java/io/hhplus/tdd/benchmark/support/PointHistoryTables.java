@@ -0,0 +1,28 @@
+package io.hhplus.tdd.benchmark.support;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * 원본 PointHistoryTable 에 지연 없이 대량의 내역을 채우기 위한 도구
+ * insert 는 건당 최대 300ms 를 쉬므로 내부 리스트에 직접 추가한다. (벤치마크 전용)
+ */
+public final class PointHistoryTables {
+
+    private PointHistoryTables() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void fill(PointHistoryTable pointHistoryTable, List<PointHistory> histories) {
+        try {
+            Field field = PointHistoryTable.class.getDeclaredField("table");
+            field.setAccessible(true);
+            ((List<PointHistory>) field.get(pointHistoryTable)).addAll(histories);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.benchmark.support;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+
+/**
+ * 벤치마크에서 사용할 테이블 지연 방식
+ * - NONE : 지연 없는 인메모리 테이블 (우리 코드의 비용만 측정)
+ * - SIMULATED : 원본 테이블 (임의의 sleep 지연 포함)
+ */
+public enum TableLatency {
+    NONE, SIMULATED;
+
+    public UserPointTable userPointTable() {
+        return this == NONE ? new InMemoryUserPointTable() : new UserPointTable();
+    }
+
+    public PointHistoryTable pointHistoryTable() {
+        return this == NONE ? new InMemoryPointHistoryTable() : new PointHistoryTable();
+    }
+}
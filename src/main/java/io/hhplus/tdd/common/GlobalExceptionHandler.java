@@ -1,37 +1,189 @@
 package io.hhplus.tdd.common;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.common.DTO.ErrorResponse;
+import io.hhplus.tdd.common.exception.ClusterAccessDeniedException;
+import io.hhplus.tdd.common.exception.ClusterRoutingException;
+import io.hhplus.tdd.common.exception.UnsupportedPointOperationException;
+import io.hhplus.tdd.common.exception.UserBusyException;
 import io.hhplus.tdd.common.exception.UserNotFoundException;
+import io.hhplus.tdd.point.validation.PointViolation;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * 이 클래스는 HTTP 요청을 처리하는 도중 발생한 예외를 처리한다.
+ * 예외별 응답 상태와 메시지는 errorOf 한 곳에서 정하고, 일괄 처리 결과(PointBatchResult)도 같은 기준을 사용한다.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+    private static final String ERROR_MESSAGE = "에러가 발생했습니다.";
+
+    // 금액 검증 위반별 400 응답 본문 - timestamp 값 앞까지 미리 직렬화해 두고 초가 바뀔 때만 시각을 이어 붙인다.
+    private static final byte[] REJECTION_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final Map<PointViolation, byte[]> REJECTIONS = prepareRejections();
+    // 현재 초의 거절 응답 (여러 스레드가 동시에 초를 넘기면 같은 응답을 한 번 더 만들 수 있지만 내용은 같다.)
+    private static volatile RejectionsAt rejectionsAt = RejectionsAt.of(System.currentTimeMillis() / 1_000);
+
+    /**
+     * 예외 없이 검증에서 거절한 요청의 응답 (PointService.precheckAmount)
+     * 본문 형식은 ErrorResponse 와 같고, 같은 초 안에서는 미리 만든 응답을 그대로 돌려주므로 잘못된 요청이 몰려도 요청마다 할당하지 않는다.
+     * 대신 timestamp 는 초 단위까지만 기록한다.
+     */
+    public static ResponseEntity<byte[]> rejection(PointViolation violation) {
+        long second = System.currentTimeMillis() / 1_000;
+        RejectionsAt current = rejectionsAt;
+        if (current.second() != second) {
+            current = RejectionsAt.of(second);
+            rejectionsAt = current;
+        }
+        return current.responses().get(violation);
+    }
+
+    /**
+     * 예외에 해당하는 응답 상태
+     */
+    public static HttpStatus statusOf(Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            return HttpStatus.BAD_REQUEST;
+        } else if (e instanceof UserNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        } else if (e instanceof UserBusyException) {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        } else if (e instanceof RejectedExecutionException || e instanceof ClusterRoutingException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        } else if (e instanceof UnsupportedPointOperationException) {
+            return HttpStatus.NOT_IMPLEMENTED;
+        } else if (e instanceof ClusterAccessDeniedException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * 예외에 해당하는 에러 응답 본문 (처리되지 않은 예외는 내용을 감춘다.)
+     */
+    public static ErrorResponse errorOf(Throwable e) {
+        HttpStatus status = statusOf(e);
+        String message;
+        if (e instanceof RejectedExecutionException) {
+            message = BUSY_MESSAGE;
+        } else if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+            message = ERROR_MESSAGE;
+        } else {
+            message = e.getMessage();
+        }
+        return new ErrorResponse(String.valueOf(status.value()), message);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
-        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return buildErrorResponse(ex);
     }
 
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException e) {
-        return buildErrorResponse(HttpStatus.NOT_FOUND, e.getMessage());
+        return buildErrorResponse(e);
+    }
+
+    // 비동기 처리 대기열이 가득 찬 경우
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return buildErrorResponse(e);
+    }
+
+    // 한 사용자에게 요청이 몰려 기다리지 않고 거절한 경우 (Retry-After 초 뒤 재시도)
+    @ExceptionHandler(UserBusyException.class)
+    public ResponseEntity<ErrorResponse> handleUserBusy(UserBusyException e) {
+        long retryAfterSeconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1_000);
+        return ResponseEntity.status(statusOf(e))
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorOf(e));
+    }
+
+    // 담당 노드로 요청을 보내지 못한 경우 (재시도 가능)
+    @ExceptionHandler(ClusterRoutingException.class)
+    public ResponseEntity<ErrorResponse> handleClusterRouting(ClusterRoutingException e) {
+        return buildErrorResponse(e);
+    }
+
+    // 설정한 처리 방식에서 지원하지 않는 요청인 경우
+    @ExceptionHandler(UnsupportedPointOperationException.class)
+    public ResponseEntity<ErrorResponse> handleUnsupportedOperation(UnsupportedPointOperationException e) {
+        return buildErrorResponse(e);
+    }
+
+    // 클러스터 내부 요청의 비밀 값이 맞지 않는 경우
+    @ExceptionHandler(ClusterAccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleClusterAccessDenied(ClusterAccessDeniedException e) {
+        return buildErrorResponse(e);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleOtherExceptions(Exception e) {
         System.out.println("처리되지 않은 예외: " + e.getClass().getSimpleName() + ": " + e.getMessage());
-        return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "에러가 발생했습니다.");
+        return buildErrorResponse(e);
+    }
+
+    // ErrorResponse 와 같은 필드 순서로 직렬화한 뒤 timestamp 값과 닫는 부분("})을 떼어 둔다.
+    private static Map<PointViolation, byte[]> prepareRejections() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<PointViolation, byte[]> rejections = new EnumMap<>(PointViolation.class);
+        for (PointViolation violation : PointViolation.values()) {
+            Map<String, String> body = new LinkedHashMap<>();
+            body.put("error", String.valueOf(HttpStatus.BAD_REQUEST.value()));
+            body.put("message", violation.getMessage());
+            body.put("timestamp", "");
+            try {
+                byte[] serialized = objectMapper.writeValueAsBytes(body);
+                rejections.put(violation, Arrays.copyOf(serialized, serialized.length - REJECTION_SUFFIX.length));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return rejections;
+    }
+
+    // 한 초 동안 재사용하는 위반별 거절 응답 (본문은 만든 뒤 바꾸지 않는다.)
+    private record RejectionsAt(long second, Map<PointViolation, ResponseEntity<byte[]>> responses) {
+
+        private static RejectionsAt of(long second) {
+            Map<PointViolation, ResponseEntity<byte[]>> responses = new EnumMap<>(PointViolation.class);
+            byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME
+                    .format(LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault()))
+                    .getBytes(StandardCharsets.UTF_8);
+            REJECTIONS.forEach((violation, prefix) -> {
+                byte[] body = Arrays.copyOf(prefix, prefix.length + timestamp.length + REJECTION_SUFFIX.length);
+                System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+                System.arraycopy(REJECTION_SUFFIX, 0, body, prefix.length + timestamp.length, REJECTION_SUFFIX.length);
+                responses.put(violation, ResponseEntity.badRequest()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+            });
+            return new RejectionsAt(second, responses);
+        }
     }
 
     // 공통 응답 포맷 생성기
-    private ResponseEntity<ErrorResponse> buildErrorResponse(HttpStatus status, String message) {
-        return ResponseEntity.status(status)
-                .body(new ErrorResponse(String.valueOf(status.value()), message));
+    private static ResponseEntity<ErrorResponse> buildErrorResponse(Exception e) {
+        return ResponseEntity.status(statusOf(e)).body(errorOf(e));
     }
 }
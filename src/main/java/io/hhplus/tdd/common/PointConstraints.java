@@ -4,6 +4,8 @@ public class PointConstraints {
     public static final long MIN_POINT = 0;
     public static final long MAX_POINT = 1_000_000;
     public static final long MAX_POINT_PER_CHARGE = 100_000;
+    public static final int MAX_HISTORY_PAGE_SIZE = 1_000;
+    public static final int MAX_BATCH_SIZE = 10_000;
 
     private PointConstraints() {
         // 인스턴스화 방지
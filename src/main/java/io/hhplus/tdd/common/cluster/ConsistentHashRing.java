@@ -0,0 +1,62 @@
+package io.hhplus.tdd.common.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일관된 해싱(consistent hashing) 링 - 키(userId)를 담당할 노드를 정한다.
+ * 노드마다 virtualNodes 개의 위치를 링에 두어 키가 노드에 고르게 나뉘도록 한다.
+ * 노드를 하나 더하면 기존 키 중 약 1/N 만 새 노드로 옮겨 가고, 나머지는 담당 노드가 바뀌지 않는다.
+ * 생성 후에는 바뀌지 않으므로(불변) 여러 스레드에서 그대로 사용할 수 있다.
+ */
+public class ConsistentHashRing {
+
+    private final List<String> nodes;
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다.");
+        }
+        this.nodes = List.copyOf(nodes);
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * 키를 담당하는 노드 - 키의 위치에서 시계 방향으로 처음 만나는 노드
+     */
+    public String ownerOf(long key) {
+        if (ring.isEmpty()) {
+            throw new IllegalStateException("클러스터에 노드가 없습니다.");
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(mix(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    // FNV-1a 로 문자열을 64비트로 바꾼 뒤 비트를 섞는다.
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // 연속된 userId 가 링 위에서 흩어지도록 섞는다. (SplitMix64 마무리 단계)
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,112 @@
+package io.hhplus.tdd.common.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 블로킹 작업을 제한된 스레드 풀에서 실행하되, 같은 사용자의 작업은 요청 순서대로 하나씩 실행한다.
+ * - 사용자별로 마지막 작업(tail)에 다음 작업을 이어 붙이므로, 앞 작업을 기다리는 동안에는 스레드를 차지하지 않는다.
+ * - 끝나지 않은 작업이 전체 threads + queueCapacity 건, 또는 한 사용자당 maxPendingPerUser 건에 이르면
+ *   RejectedExecutionException 으로 실패한 future 를 돌려준다. (이어 붙인 작업도 모두 포함)
+ * - 작업이 모두 끝난 사용자는 보관하지 않는다. (요청 중인 사용자 수만큼만 보관)
+ */
+public class UserOrderedExecutor implements AutoCloseable {
+
+    private final ThreadPoolExecutor pool;
+    private final ConcurrentHashMap<Long, Tail> tails = new ConcurrentHashMap<>();
+    private final int maxPending;
+    private final int maxPendingPerUser;
+    // 끝나지 않은 전체 작업 수
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public UserOrderedExecutor(String name, int threads, int queueCapacity) {
+        this(name, threads, queueCapacity, threads + queueCapacity);
+    }
+
+    public UserOrderedExecutor(String name, int threads, int queueCapacity, int maxPendingPerUser) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.pool.allowCoreThreadTimeOut(true);
+        this.maxPending = threads + queueCapacity;
+        this.maxPendingPerUser = maxPendingPerUser;
+    }
+
+    /**
+     * 사용자의 앞선 작업이 끝난 뒤 task 를 실행한다. (앞선 작업의 성공/실패와 관계없이)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("대기 중인 작업이 너무 많습니다."));
+        }
+
+        CompletableFuture<T>[] submitted = new CompletableFuture[1];
+        try {
+            tails.compute(userId, (id, tail) -> {
+                if (tail != null && tail.pending >= maxPendingPerUser) {
+                    return tail;
+                }
+                Tail target = tail == null ? new Tail() : tail;
+                CompletableFuture<T> next = tail == null
+                        ? CompletableFuture.supplyAsync(task, pool)
+                        : tail.future.handleAsync((result, error) -> task.get(), pool);
+                target.future = next;
+                target.pending++;
+                submitted[0] = next;
+                return target;
+            });
+        } catch (RejectedExecutionException e) {
+            // 앞선 작업이 없어 바로 실행하려 했지만 풀이 가득 찬 경우 (종료 후 포함)
+            pending.decrementAndGet();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<T> next = submitted[0];
+        if (next == null) {
+            pending.decrementAndGet();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("사용자별 대기 중인 작업이 너무 많습니다."));
+        }
+        // 작업 수를 줄인 뒤에 완료를 알린다.
+        return next.whenComplete((result, error) -> {
+            pending.decrementAndGet();
+            tails.computeIfPresent(userId, (id, tail) -> --tail.pending == 0 ? null : tail);
+        });
+    }
+
+    /**
+     * 작업이 남아 있는 사용자 수
+     */
+    public int pendingUsers() {
+        return tails.size();
+    }
+
+    /**
+     * 끝나지 않은 전체 작업 수
+     */
+    public int pendingTasks() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // 사용자의 마지막 작업과 끝나지 않은 작업 수 (tails 의 compute 안에서만 변경)
+    private static class Tail {
+        private CompletableFuture<?> future;
+        private int pending;
+    }
+}
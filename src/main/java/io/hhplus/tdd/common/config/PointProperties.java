@@ -0,0 +1,609 @@
+package io.hhplus.tdd.common.config;
+
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.service.PointEngine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.yml 의 point.* 설정을 바인딩한다.
+ * 설정이 없으면 각 필드의 기본값(기존 동작)을 그대로 사용한다.
+ */
+@ConfigurationProperties(prefix = "point")
+public class PointProperties {
+
+    // 충전/사용 처리 방식
+    private PointEngine.Type engine = PointEngine.Type.LOCK;
+    private final GroupCommit groupCommit = new GroupCommit();
+    private final Admission admission = new Admission();
+    private final Combining combining = new Combining();
+    private final Sharded sharded = new Sharded();
+    private final Cas cas = new Cas();
+    private final History history = new History();
+    private final View view = new View();
+    private final Cache cache = new Cache();
+    private final Batch batch = new Batch();
+    private final Wal wal = new Wal();
+    private final Snapshot snapshot = new Snapshot();
+    private final Idempotency idempotency = new Idempotency();
+    private final Offload offload = new Offload();
+    private final Cluster cluster = new Cluster();
+
+    public PointEngine.Type getEngine() {
+        return engine;
+    }
+
+    public void setEngine(PointEngine.Type engine) {
+        this.engine = engine;
+    }
+
+    public GroupCommit getGroupCommit() {
+        return groupCommit;
+    }
+
+    public Admission getAdmission() {
+        return admission;
+    }
+
+    public Combining getCombining() {
+        return combining;
+    }
+
+    public Sharded getSharded() {
+        return sharded;
+    }
+
+    public Cas getCas() {
+        return cas;
+    }
+
+    public History getHistory() {
+        return history;
+    }
+
+    public View getView() {
+        return view;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public Wal getWal() {
+        return wal;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    public Offload getOffload() {
+        return offload;
+    }
+
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    /**
+     * 사용자별 입장 제한 설정 - 한 사용자에게 몰린 요청을 기다리게 하지 않고 429 로 바로 거절한다.
+     * GROUP_COMMIT 은 대기열에 넣은 요청을 취소할 수 없으므로 maxQueueDepth 만 적용된다.
+     */
+    public static class Admission {
+        // 사용자별로 락을 기다릴 수 있는 최대 요청 수
+        private int maxQueueDepth = Integer.MAX_VALUE;
+        // 락을 기다리는 최대 시간 (0 이면 제한 없음)
+        private Duration maxWait = Duration.ZERO;
+        // 거절 응답의 Retry-After
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        public int getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        public void setMaxQueueDepth(int maxQueueDepth) {
+            this.maxQueueDepth = maxQueueDepth;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+
+        public void setRetryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    /**
+     * 동일 사용자 요청 묶음 처리(Group Commit) 설정
+     */
+    public static class GroupCommit {
+        // 한 번에 묶어서 기록할 최대 요청 수
+        private int maxBatchSize = 100;
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+    }
+
+    /**
+     * 요청이 몰리는 사용자만 묶음 처리로 바꾸는 설정 (LOCK 엔진에서만 동작, 묶음 크기는 groupCommit.maxBatchSize)
+     */
+    public static class Combining {
+        private boolean enabled = false;
+        // 락을 기다리는 요청이 이 수 이상이면 묶음 처리로 바꾼다.
+        private int promoteQueueLength = 4;
+        // 이 시간 동안 몰리지 않으면 다시 개별 처리로 돌린다.
+        private Duration coolDown = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getPromoteQueueLength() {
+            return promoteQueueLength;
+        }
+
+        public void setPromoteQueueLength(int promoteQueueLength) {
+            this.promoteQueueLength = promoteQueueLength;
+        }
+
+        public Duration getCoolDown() {
+            return coolDown;
+        }
+
+        public void setCoolDown(Duration coolDown) {
+            this.coolDown = coolDown;
+        }
+    }
+
+    /**
+     * 잔액과 최근 히스토리를 함께 조회하는 뷰 설정 (GET /point/{id}/view)
+     */
+    public static class View {
+        // true 이면 기록할 때마다 새 뷰를 만들어 두고, 조회는 락 없이 그 뷰로 응답한다.
+        private boolean enabled = false;
+        // 뷰에 담는 최근 히스토리 건수
+        private int recentSize = 10;
+        // 보관하는 최대 뷰 수 (넘으면 오래 사용되지 않은 뷰부터 제거)
+        private int maxEntries = 100_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getRecentSize() {
+            return recentSize;
+        }
+
+        public void setRecentSize(int recentSize) {
+            this.recentSize = recentSize;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    /**
+     * SHARDED 엔진 설정
+     */
+    public static class Sharded {
+        // 샤드(처리 스레드) 수 (기본: CPU 코어 수)
+        private int shards = Runtime.getRuntime().availableProcessors();
+        // 샤드별 대기열 크기 (가득 차면 호출 스레드가 offerTimeout 까지 기다린다)
+        private int queueCapacity = 10_000;
+        // 대기열에 자리가 나기를 기다리는 최대 시간 (넘으면 503 으로 거절)
+        private Duration offerTimeout = Duration.ofSeconds(1);
+
+        public int getShards() {
+            return shards;
+        }
+
+        public void setShards(int shards) {
+            this.shards = shards;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getOfferTimeout() {
+            return offerTimeout;
+        }
+
+        public void setOfferTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+        }
+    }
+
+    /**
+     * CAS 엔진 설정
+     */
+    public static class Cas {
+        // 테이블 기록에 실패한 사용자를 처음 다시 기록하기까지 기다리는 시간 (실패할 때마다 두 배씩 늘린다.)
+        private Duration retryDelay = Duration.ofMillis(100);
+
+        public Duration getRetryDelay() {
+            return retryDelay;
+        }
+
+        public void setRetryDelay(Duration retryDelay) {
+            this.retryDelay = retryDelay;
+        }
+    }
+
+    /**
+     * 포인트 히스토리 기록 설정
+     */
+    public static class History {
+        // true 이면 히스토리를 큐에 넣고 전용 스레드가 기록한다.
+        private boolean async = false;
+        private int queueCapacity = 10_000;
+        private PointHistoryRepository.OverflowPolicy overflowPolicy = PointHistoryRepository.OverflowPolicy.BLOCK;
+        // true 이면 사용자별 색인으로 조회한다.
+        private boolean indexed = false;
+        // true 이면 테이블 대신 열 단위 저장소(ColumnarHistoryStore)에 기록한다. (async, indexed 는 무시)
+        private boolean columnar = false;
+        // true 이면 내역마다 누적 잔액을 남겨 특정 시각의 잔액을 O(log n) 으로 조회한다.
+        private boolean balanceTimeline = false;
+
+        public boolean isAsync() {
+            return async;
+        }
+
+        public void setAsync(boolean async) {
+            this.async = async;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public PointHistoryRepository.OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(PointHistoryRepository.OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public boolean isIndexed() {
+            return indexed;
+        }
+
+        public void setIndexed(boolean indexed) {
+            this.indexed = indexed;
+        }
+
+        public boolean isColumnar() {
+            return columnar;
+        }
+
+        public void setColumnar(boolean columnar) {
+            this.columnar = columnar;
+        }
+
+        public boolean isBalanceTimeline() {
+            return balanceTimeline;
+        }
+
+        public void setBalanceTimeline(boolean balanceTimeline) {
+            this.balanceTimeline = balanceTimeline;
+        }
+    }
+
+    /**
+     * 사용자 포인트 캐시 설정
+     */
+    public static class Cache {
+        private boolean enabled = false;
+        // 캐시에 보관할 최대 사용자 수
+        private int maxEntries = 100_000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    /**
+     * 일괄 충전/사용 설정
+     */
+    public static class Batch {
+        // 동시에 처리할 최대 사용자 수
+        private int maxParallelUsers = 256;
+
+        public int getMaxParallelUsers() {
+            return maxParallelUsers;
+        }
+
+        public void setMaxParallelUsers(int maxParallelUsers) {
+            this.maxParallelUsers = maxParallelUsers;
+        }
+    }
+
+    /**
+     * 충전/사용 내역 로그(PointWriteAheadLog) 설정
+     */
+    public static class Wal {
+        // true 이면 충전/사용 내역을 파일에 남기고, 시작 시 로그로 잔액을 복구한다. (히스토리는 replayHistories 일 때만)
+        private boolean enabled = false;
+        private String path = "data/point.wal";
+        // 한 번에 메모리에 매핑할 파일 크기
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+        // 이 건수만큼 쌓이면 바로 fsync
+        private int syncBatchSize = 1_000;
+        // fsync 주기 (장애 시 유실될 수 있는 최대 구간)
+        private Duration syncInterval = Duration.ofMillis(100);
+        // true 이면 시작 시 로그 전체를 읽어 히스토리도 복구한다. (스냅샷을 사용해도 처음부터 읽는다.)
+        // 기본은 false - 잔액만 복구하고 히스토리는 복구하지 않으며, 스냅샷을 사용하면 스냅샷 이후의 로그만 읽는다.
+        // 히스토리는 PointHistoryRepository.insert 로 다시 기록하므로 history.columnar 를 사용하지 않으면
+        // 내역마다 테이블을 호출해(건당 최대 300ms) 시작 시간이 내역 수에 비례해 늘어난다.
+        private boolean replayHistories = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public DataSize getSegmentSize() {
+            return segmentSize;
+        }
+
+        public void setSegmentSize(DataSize segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        public int getSyncBatchSize() {
+            return syncBatchSize;
+        }
+
+        public void setSyncBatchSize(int syncBatchSize) {
+            this.syncBatchSize = syncBatchSize;
+        }
+
+        public Duration getSyncInterval() {
+            return syncInterval;
+        }
+
+        public void setSyncInterval(Duration syncInterval) {
+            this.syncInterval = syncInterval;
+        }
+
+        public boolean isReplayHistories() {
+            return replayHistories;
+        }
+
+        public void setReplayHistories(boolean replayHistories) {
+            this.replayHistories = replayHistories;
+        }
+    }
+
+    /**
+     * 잔액 스냅샷(PointCheckpointer) 설정 - 로그(wal)를 사용할 때만 동작한다.
+     */
+    public static class Snapshot {
+        // true 이면 주기적으로 전체 잔액을 파일로 남기고, 시작 시 스냅샷 이후의 로그만 읽는다.
+        private boolean enabled = false;
+        private String path = "data/point.snapshot";
+        private Duration interval = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+    }
+
+    /**
+     * 충전/사용 멱등 키(Idempotency-Key) 결과 캐시 설정
+     */
+    public static class Idempotency {
+        // 보관할 최대 키 수
+        private int maxEntries = 100_000;
+        // 키를 보관하는 시간 (이 시간 이후 같은 키는 새 요청으로 처리)
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * 비동기(Mono/CompletableFuture) API 의 블로킹 작업 실행 설정
+     */
+    public static class Offload {
+        // 테이블 호출 등 블로킹 작업을 실행할 최대 스레드 수
+        private int threads = 256;
+        // 스레드를 기다리는 작업의 최대 수 (넘으면 거절)
+        private int queueCapacity = 10_000;
+        // 한 사용자의 끝나지 않은 작업 최대 수 (넘으면 거절)
+        private int maxPendingPerUser = 100;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxPendingPerUser() {
+            return maxPendingPerUser;
+        }
+
+        public void setMaxPendingPerUser(int maxPendingPerUser) {
+            this.maxPendingPerUser = maxPendingPerUser;
+        }
+    }
+
+    /**
+     * 여러 노드가 사용자를 나눠 맡는 클러스터 설정
+     */
+    public static class Cluster {
+        private boolean enabled = false;
+        // 이 노드의 주소 (nodes 의 항목과 같은 형식, 예: http://10.0.0.1:8080)
+        private String self = "";
+        // 클러스터를 이루는 노드 주소 목록
+        private List<String> nodes = new ArrayList<>();
+        // 노드마다 해시 링에 둘 위치 수
+        private int virtualNodes = 128;
+        // 다른 노드로 요청을 전달할 때의 연결/응답 제한 시간
+        private Duration forwardTimeout = Duration.ofSeconds(5);
+        // 노드 사이의 요청(/cluster)에 함께 보내는 비밀 값 (모든 노드가 같아야 하며 비워 둘 수 없다.)
+        private String secret = "";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getSelf() {
+            return self;
+        }
+
+        public void setSelf(String self) {
+            this.self = self;
+        }
+
+        public List<String> getNodes() {
+            return nodes;
+        }
+
+        public void setNodes(List<String> nodes) {
+            this.nodes = nodes;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+
+        public Duration getForwardTimeout() {
+            return forwardTimeout;
+        }
+
+        public void setForwardTimeout(Duration forwardTimeout) {
+            this.forwardTimeout = forwardTimeout;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+}
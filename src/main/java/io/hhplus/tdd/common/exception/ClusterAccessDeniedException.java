@@ -0,0 +1,10 @@
+package io.hhplus.tdd.common.exception;
+
+/**
+ * 클러스터 내부 요청의 비밀 값이 없거나 일치하지 않는 경우 (노드 사이에서만 호출할 수 있다.)
+ */
+public class ClusterAccessDeniedException extends RuntimeException {
+    public ClusterAccessDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.common.exception;
+
+/**
+ * 클러스터에서 요청을 담당 노드로 보내지 못한 경우 (구성 변경 중이거나 담당 노드가 응답하지 않음)
+ * 잠시 후 다시 요청하면 처리될 수 있다.
+ */
+public class ClusterRoutingException extends RuntimeException {
+    public ClusterRoutingException(String message) {
+        super(message);
+    }
+
+    public ClusterRoutingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
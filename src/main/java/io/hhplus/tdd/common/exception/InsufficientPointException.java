@@ -0,0 +1,16 @@
+package io.hhplus.tdd.common.exception;
+
+/**
+ * 보유 포인트보다 많은 금액을 사용하려는 요청
+ */
+public class InsufficientPointException extends IllegalArgumentException {
+    public InsufficientPointException(String message) {
+        super(message);
+    }
+
+    // 사용자 입력에 따른 거절이므로 스택 트레이스를 남기지 않는다. (거절이 몰릴 때 비용 절감)
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.common.exception;
+
+/**
+ * 1회 충전 한도 또는 최대 보유 포인트를 넘는 요청
+ */
+public class PointLimitExceededException extends IllegalArgumentException {
+    public PointLimitExceededException(String message) {
+        super(message);
+    }
+
+    // 사용자 입력에 따른 거절이므로 스택 트레이스를 남기지 않는다. (거절이 몰릴 때 비용 절감)
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
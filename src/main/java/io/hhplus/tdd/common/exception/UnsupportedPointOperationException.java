@@ -0,0 +1,10 @@
+package io.hhplus.tdd.common.exception;
+
+/**
+ * 현재 설정한 처리 방식(엔진)에서는 지원하지 않는 요청인 경우 (예: CAS, SHARDED 엔진의 이체)
+ */
+public class UnsupportedPointOperationException extends RuntimeException {
+    public UnsupportedPointOperationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.common.exception;
+
+import java.time.Duration;
+
+/**
+ * 한 사용자에게 요청이 몰려 대기열이 가득 찼거나 락을 제한 시간 안에 얻지 못한 경우
+ * 다른 사용자의 요청까지 스레드를 잃지 않도록 기다리지 않고 바로 거절한다. (429, Retry-After)
+ */
+public class UserBusyException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UserBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
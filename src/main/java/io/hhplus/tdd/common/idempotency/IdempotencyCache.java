@@ -0,0 +1,167 @@
+package io.hhplus.tdd.common.idempotency;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키(Idempotency-Key)별 처리 결과 캐시
+ * - 키는 사용자별로 구분한다. 다른 사용자가 같은 키를 보내도 서로의 결과를 돌려받지 않는다.
+ * - 같은 사용자가 같은 키로 다시 요청하면 처리하지 않고 처음 요청의 결과(또는 거절 사유)를 그대로 돌려준다.
+ * - 처음 요청이 처리 중이면 끝날 때까지 기다렸다가 같은 결과를 돌려준다. (중복 처리 없음)
+ * - 최대 maxEntries 건, 등록 후 ttl 동안만 보관한다. 구역(segment)마다 등록 순서대로 보관하므로 가장 오래된 항목부터 만료/제거된다.
+ * - 처리 중인 항목은 만료/최대 크기와 관계없이 제거하지 않는다. 구역이 처리 중인 항목으로 가득 차면 새 키를 거절한다.
+ * - 예상하지 못한 예외(IllegalArgumentException 이외)로 실패하면 결과를 보관하지 않아 같은 키로 다시 시도할 수 있다.
+ */
+public class IdempotencyCache<T> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<T>[] segments;
+    private final long ttlNanos;
+
+    @SuppressWarnings("unchecked")
+    public IdempotencyCache(int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("멱등 키 캐시 최대 크기는 0보다 커야 합니다.");
+        }
+
+        int segmentCount = maxEntries < SEGMENT_COUNT ? 1 : SEGMENT_COUNT;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maxEntries / segmentCount);
+        }
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * @param userId 요청한 사용자 ID - 키는 사용자별로 구분한다.
+     * @param idempotencyKey 멱등 키
+     * @param request 요청 내용 - 같은 키로 다른 요청이 오면 거절한다.
+     * @param action 처음 요청일 때만 실행한다.
+     * @throws RejectedExecutionException 구역이 처리 중인 항목으로 가득 찬 경우
+     */
+    public T execute(long userId, String idempotencyKey, Object request, Supplier<T> action) {
+        Key key = new Key(userId, idempotencyKey);
+        Segment<T> segment = segmentOf(key);
+        long now = System.nanoTime();
+        Entry<T> entry;
+        boolean owner = false;
+        synchronized (segment) {
+            entry = segment.get(key);
+            // 만료되었어도 처리 중이면 끝날 때까지 같은 항목으로 응답한다.
+            if (entry == null || (entry.isExpired(now) && entry.result.isDone())) {
+                if (!segment.makeRoom(key, now)) {
+                    throw new RejectedExecutionException("처리 중인 멱등 키 요청이 너무 많습니다.");
+                }
+                entry = new Entry<>(request, now + ttlNanos);
+                segment.put(key, entry);
+                owner = true;
+            }
+        }
+
+        if (!entry.request.equals(request)) {
+            throw new IllegalArgumentException("이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+        }
+        if (owner) {
+            return complete(segment, key, entry, action);
+        }
+
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 보관 중인 항목 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private T complete(Segment<T> segment, Key key, Entry<T> entry, Supplier<T> action) {
+        try {
+            T result = action.get();
+            entry.result.complete(result);
+            return result;
+        } catch (IllegalArgumentException e) {
+            // 검증 실패는 다시 요청해도 같은 요청이므로 결과로 보관한다.
+            entry.result.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException | Error e) {
+            synchronized (segment) {
+                segment.remove(key, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Segment<T> segmentOf(Key key) {
+        int hash = key.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private static class Entry<T> {
+        private final Object request;
+        private final long expireAtNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Entry(Object request, long expireAtNanos) {
+            this.request = request;
+            this.expireAtNanos = expireAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expireAtNanos >= 0;
+        }
+    }
+
+    private static class Segment<T> extends LinkedHashMap<Key, Entry<T>> {
+        private final int capacity;
+
+        private Segment(int capacity) {
+            this.capacity = Math.max(1, capacity);
+        }
+
+        /**
+         * 등록 순서대로 보관하므로 앞쪽부터 만료된 항목을, 가득 찼으면 끝난 항목을 지워 자리를 만든다.
+         * 처리 중인 항목은 지우지 않는다.
+         * @param key 새로 넣을 키 (만료된 같은 키는 다시 넣어야 등록 순서가 유지되므로 지운다.)
+         * @return 자리가 있으면 true
+         */
+        private boolean makeRoom(Key key, long now) {
+            remove(key);
+            Iterator<Entry<T>> iterator = values().iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                boolean full = size() >= capacity;
+                if (!full && !entry.isExpired(now)) {
+                    break;
+                }
+                if (entry.result.isDone()) {
+                    iterator.remove();
+                }
+            }
+            return size() < capacity;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.common.lock;
+
+import io.hhplus.tdd.common.exception.UserBusyException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UserLockRegistry 에서 빌려온 사용자 락
+ * close() 는 락 해제(unlock)가 아니라 빌려온 락의 반납이다.
+ */
+public class UserLock extends ReentrantLock implements AutoCloseable {
+
+    private final long userId;
+    private final UserLockRegistry registry;
+    // 이 락을 빌려간 스레드 수 (registry 의 compute 안에서만 변경)
+    int references;
+
+    UserLock(long userId, UserLockRegistry registry) {
+        this.userId = userId;
+        this.registry = registry;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * 저장소의 최대 대기 시간 안에 락을 잡는다. (제한이 없으면 lock() 과 같다.)
+     * @throws UserBusyException 제한 시간 안에 락을 얻지 못했거나 기다리는 중 인터럽트된 경우
+     */
+    public void lockOrReject() {
+        if (registry.maxWaitNanos == 0) {
+            lock();
+            return;
+        }
+        try {
+            if (!tryLock(registry.maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw registry.busy();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw registry.busy();
+        }
+    }
+
+    @Override
+    public void close() {
+        registry.release(this);
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.common.lock;
+
+import io.hhplus.tdd.common.exception.UserBusyException;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 락 저장소 (참조 카운트 방식)
+ * 락을 잡고 있거나 기다리는 스레드가 있는 동안에만 보관하고, 모두 반납하면 제거한다.
+ * 따라서 보관되는 락의 수는 전체 사용자 수가 아니라 동시에 요청 중인 사용자 수로 제한된다.
+ *
+ * 사용자별 입장 제한(admission control)을 둘 수 있다.
+ * - maxQueueDepth : 락을 기다리는 스레드가 이 수만큼 있으면 빌려주지 않고 바로 거절한다.
+ * - maxWait : lockOrReject() 가 이 시간 안에 락을 얻지 못하면 거절한다.
+ * 한 사용자에게 몰린 요청이 요청 처리 스레드를 모두 붙잡아 다른 사용자까지 멈추는 것을 막는다.
+ *
+ * 사용 예)
+ * try (UserLock lock = registry.acquire(userId)) {
+ *     lock.lockOrReject();
+ *     try { ... } finally { lock.unlock(); }
+ * }
+ */
+public class UserLockRegistry {
+
+    private static final String BUSY_MESSAGE = "요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final ConcurrentHashMap<Long, UserLock> locks = new ConcurrentHashMap<>();
+    private final int maxQueueDepth;
+    // 0 이면 제한 없이 기다린다.
+    final long maxWaitNanos;
+    private final Duration retryAfter;
+
+    /**
+     * 입장 제한 없는 저장소
+     */
+    public UserLockRegistry() {
+        this(Integer.MAX_VALUE, Duration.ZERO, Duration.ofSeconds(1));
+    }
+
+    /**
+     * @param maxQueueDepth 사용자별로 락을 기다릴 수 있는 최대 스레드 수
+     * @param maxWait 락을 기다리는 최대 시간 (0 이면 제한 없음)
+     * @param retryAfter 거절 시 다시 시도하도록 안내할 시간
+     */
+    public UserLockRegistry(int maxQueueDepth, Duration maxWait, Duration retryAfter) {
+        if (maxQueueDepth < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("대기열 크기와 대기 시간은 0 이상이어야 합니다.");
+        }
+        this.maxQueueDepth = maxQueueDepth;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 사용자의 락을 빌려온다. 반드시 close() 로 반납해야 한다.
+     * @throws UserBusyException 이미 maxQueueDepth 개의 스레드가 이 사용자의 락을 기다리는 경우
+     */
+    public UserLock acquire(long userId) {
+        return locks.compute(userId, (id, lock) -> {
+            UserLock acquired = lock == null ? new UserLock(id, this) : lock;
+            // 빌려간 스레드 중 하나는 락을 잡고 있으므로 나머지가 기다리는 스레드다.
+            if (acquired.references > maxQueueDepth) {
+                throw busy();
+            }
+            acquired.references++;
+            return acquired;
+        });
+    }
+
+    void release(UserLock lock) {
+        locks.computeIfPresent(lock.getUserId(), (id, current) -> --current.references == 0 ? null : current);
+    }
+
+    UserBusyException busy() {
+        return new UserBusyException(BUSY_MESSAGE, retryAfter);
+    }
+
+    /**
+     * 현재 보관 중인 락의 수
+     */
+    public int size() {
+        return locks.size();
+    }
+}
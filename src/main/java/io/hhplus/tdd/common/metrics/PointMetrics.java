@@ -0,0 +1,275 @@
+package io.hhplus.tdd.common.metrics;
+
+import io.hhplus.tdd.common.exception.InsufficientPointException;
+import io.hhplus.tdd.common.exception.PointLimitExceededException;
+import io.hhplus.tdd.common.exception.UserBusyException;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.repository.UserPointCache;
+import io.hhplus.tdd.point.validation.PointViolation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해당 클래스는 포인트 처리 구간의 지표를 Micrometer 로 기록한다. (/actuator/metrics, /actuator/prometheus)
+ * - point.lock.wait / point.lock.hold : 사용자 락 대기/점유 시간 (히스토그램)
+ * - point.table.latency : 테이블 호출 시간 (table, operation 태그, 히스토그램)
+ * - point.transactions : 충전/사용 처리 건수 (type, outcome 태그)
+ *   이체는 성공하면 양쪽(USE, CHARGE)에 남기고, 금액 검증에 실패하면 거절한 쪽에만 남긴다.
+ * - point.transfer.failures : 실패한 이체 건수 (outcome 태그, 이체 한 건당 한 번)
+ * - point.shard.queue.depth : 샤드(SHARDED 엔진)별 대기 중인 요청 수 (shard 태그)
+ * - point.cas.unpersisted.users : CAS 엔진에서 테이블 기록에 실패해 다시 기록을 기다리는 사용자 수
+ * - point.hot.users / point.hot.transitions : 묶음 처리 중인 사용자 수와 승격/강등 건수 (direction 태그)
+ * - point.cache.gets / point.cache.evictions / point.cache.size : 사용자 포인트 캐시 적중/미스(result 태그), 제거 건수, 크기
+ * - point.history.queue.depth / point.history.write.failures : 비동기 히스토리 대기 수와 히스토리/로그 기록 실패 건수 (reason 태그)
+ * 요청마다 레지스트리를 조회하지 않도록 지표는 생성 시점에 모두 만들어 둔다.
+ */
+@Component
+public class PointMetrics {
+
+    /**
+     * 충전/사용 처리 결과
+     */
+    public enum Outcome {
+        SUCCESS, INVALID_AMOUNT, LIMIT_EXCEEDED, INSUFFICIENT_BALANCE, REJECTED, ERROR
+    }
+
+    /**
+     * 지표를 남기는 테이블 호출
+     */
+    public enum TableCall {
+        USER_POINT_SELECT_BY_ID("user_point", "selectById"),
+        USER_POINT_INSERT_OR_UPDATE("user_point", "insertOrUpdate"),
+        POINT_HISTORY_INSERT("point_history", "insert"),
+        POINT_HISTORY_SELECT_ALL_BY_USER_ID("point_history", "selectAllByUserId");
+
+        private final String table;
+        private final String operation;
+
+        TableCall(String table, String operation) {
+            this.table = table;
+            this.operation = operation;
+        }
+    }
+
+    /**
+     * 히스토리 기록 실패 사유
+     * - ERROR : 다시 시도해도 테이블 기록에 실패해 내역이 남지 않음
+     * - ID_MISMATCH : 기록은 되었지만 미리 돌려준 id 와 다른 id 로 기록됨
+     * - LOG_ERROR : 잔액은 기록되었지만 로그(WAL)에 남기지 못해 재시작 시 복구되지 않음
+     */
+    public enum HistoryWriteFailure {
+        ERROR, ID_MISMATCH, LOG_ERROR
+    }
+
+    private final MeterRegistry registry;
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Timer[] tableLatency = new Timer[TableCall.values().length];
+    private final Counter[][] transactions = new Counter[TransactionType.values().length][Outcome.values().length];
+    private final Counter hotUserPromoted;
+    private final Counter hotUserDemoted;
+    private final Counter[] historyWriteFailures = new Counter[HistoryWriteFailure.values().length];
+    private final Counter[] transferFailures = new Counter[Outcome.values().length];
+
+    public PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.lockWait = histogram("point.lock.wait", "사용자 락을 얻기까지 기다린 시간").register(registry);
+        this.lockHold = histogram("point.lock.hold", "사용자 락을 잡고 있던 시간").register(registry);
+
+        for (TableCall call : TableCall.values()) {
+            tableLatency[call.ordinal()] = histogram("point.table.latency", "테이블 호출 시간")
+                    .tag("table", call.table)
+                    .tag("operation", call.operation)
+                    .register(registry);
+        }
+
+        for (TransactionType type : TransactionType.values()) {
+            for (Outcome outcome : Outcome.values()) {
+                transactions[type.ordinal()][outcome.ordinal()] = Counter.builder("point.transactions")
+                        .description("충전/사용 처리 건수")
+                        .tag("type", type.name())
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .register(registry);
+            }
+        }
+
+        for (Outcome outcome : Outcome.values()) {
+            transferFailures[outcome.ordinal()] = Counter.builder("point.transfer.failures")
+                    .description("실패한 이체 건수")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(registry);
+        }
+
+        this.hotUserPromoted = hotTransitions("promoted").register(registry);
+        this.hotUserDemoted = hotTransitions("demoted").register(registry);
+
+        for (HistoryWriteFailure reason : HistoryWriteFailure.values()) {
+            historyWriteFailures[reason.ordinal()] = Counter.builder("point.history.write.failures")
+                    .description("히스토리/로그 기록 실패 건수")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 지표를 남기지 않는 인스턴스 (스프링 밖에서 생성할 때 사용)
+     */
+    public static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLockHold(long nanos) {
+        lockHold.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param startNanos 호출 직전의 System.nanoTime()
+     */
+    public void recordTableCall(TableCall call, long startNanos) {
+        tableLatency[call.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 샤드 대기열의 크기를 조회 시점에 읽는 게이지를 등록한다.
+     */
+    public void registerShardQueue(int shard, Collection<?> queue) {
+        Gauge.builder("point.shard.queue.depth", queue, Collection::size)
+                .description("샤드 대기열에 쌓인 요청 수")
+                .tag("shard", String.valueOf(shard))
+                .register(registry);
+    }
+
+    /**
+     * 묶음 처리 중인 사용자 수를 조회 시점에 읽는 게이지를 등록한다.
+     */
+    public void registerHotUsers(Map<?, ?> hotUsers) {
+        Gauge.builder("point.hot.users", hotUsers, Map::size)
+                .description("묶음 처리(combining) 중인 사용자 수")
+                .register(registry);
+    }
+
+    /**
+     * CAS 엔진에서 테이블 기록을 다시 시도할 사용자 수를 조회 시점에 읽는 게이지를 등록한다.
+     */
+    public void registerUnpersistedUsers(Collection<?> users) {
+        Gauge.builder("point.cas.unpersisted.users", users, Collection::size)
+                .description("테이블 기록에 실패해 다시 기록을 기다리는 사용자 수")
+                .register(registry);
+    }
+
+    /**
+     * 사용자 포인트 캐시의 통계를 조회 시점에 읽는 지표를 등록한다.
+     */
+    public void registerUserPointCache(UserPointCache cache) {
+        FunctionCounter.builder("point.cache.gets", cache, UserPointCache::hits)
+                .description("사용자 포인트 캐시 조회 건수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.cache.gets", cache, UserPointCache::misses)
+                .description("사용자 포인트 캐시 조회 건수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.cache.evictions", cache, UserPointCache::evictions)
+                .description("크기 제한으로 캐시에서 제거된 건수")
+                .register(registry);
+        Gauge.builder("point.cache.size", cache, c -> c.stats().size())
+                .description("캐시에 보관 중인 사용자 수")
+                .register(registry);
+    }
+
+    /**
+     * 비동기 히스토리 큐에 쌓인 내역 수를 조회 시점에 읽는 게이지를 등록한다.
+     */
+    public void registerHistoryQueue(Collection<?> queue) {
+        Gauge.builder("point.history.queue.depth", queue, Collection::size)
+                .description("테이블 기록을 기다리는 히스토리 수")
+                .register(registry);
+    }
+
+    public void recordHistoryWriteFailure(HistoryWriteFailure reason) {
+        historyWriteFailures[reason.ordinal()].increment();
+    }
+
+    public void recordHotUserPromoted() {
+        hotUserPromoted.increment();
+    }
+
+    public void recordHotUserDemoted() {
+        hotUserDemoted.increment();
+    }
+
+    public void recordSuccess(TransactionType type) {
+        transactions[type.ordinal()][Outcome.SUCCESS.ordinal()].increment();
+    }
+
+    public void recordFailure(TransactionType type, RuntimeException e) {
+        transactions[type.ordinal()][outcomeOf(e).ordinal()].increment();
+    }
+
+    /**
+     * 실패한 이체 한 건 (어느 쪽에서 실패했는지와 관계없이 한 번)
+     */
+    public void recordTransferFailure(RuntimeException e) {
+        transferFailures[outcomeOf(e).ordinal()].increment();
+    }
+
+    /**
+     * 예외 없이 거절한 요청 (PointValidator.check*)
+     */
+    public void recordRejection(TransactionType type, PointViolation violation) {
+        transactions[type.ordinal()][outcomeOf(violation).ordinal()].increment();
+    }
+
+    static Outcome outcomeOf(PointViolation violation) {
+        return switch (violation) {
+            case NON_POSITIVE_AMOUNT -> Outcome.INVALID_AMOUNT;
+            case CHARGE_LIMIT_EXCEEDED, MAX_POINT_EXCEEDED -> Outcome.LIMIT_EXCEEDED;
+            case INSUFFICIENT_POINT -> Outcome.INSUFFICIENT_BALANCE;
+        };
+    }
+
+    static Outcome outcomeOf(RuntimeException e) {
+        if (e instanceof PointLimitExceededException) {
+            return Outcome.LIMIT_EXCEEDED;
+        }
+        if (e instanceof InsufficientPointException) {
+            return Outcome.INSUFFICIENT_BALANCE;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return Outcome.INVALID_AMOUNT;
+        }
+        if (e instanceof UserBusyException) {
+            return Outcome.REJECTED;
+        }
+        return Outcome.ERROR;
+    }
+
+    private static Counter.Builder hotTransitions(String direction) {
+        return Counter.builder("point.hot.transitions")
+                .description("사용자의 묶음 처리 승격/강등 건수")
+                .tag("direction", direction);
+    }
+
+    // 버킷 수가 과도하게 늘지 않도록 1µs ~ 10s 범위로 제한
+    private static Timer.Builder histogram(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(10));
+    }
+}
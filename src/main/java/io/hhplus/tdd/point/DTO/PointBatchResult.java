@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.DTO;
+
+import io.hhplus.tdd.common.DTO.ErrorResponse;
+import io.hhplus.tdd.common.GlobalExceptionHandler;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 일괄 충전/사용 요청 한 건의 처리 결과
+ * 성공하면 userPoint 에 처리 후 잔량이, 실패하면 error 에 사유가 담긴다.
+ */
+public record PointBatchResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        UserPoint userPoint,
+        ErrorResponse error
+) {
+
+    public static PointBatchResult success(PointCommand command, UserPoint userPoint) {
+        return new PointBatchResult(command.userId(), command.type(), command.amount(), userPoint, null);
+    }
+
+    /**
+     * 예외를 GlobalExceptionHandler 와 같은 기준(errorOf)으로 에러 응답으로 바꾼다.
+     */
+    public static PointBatchResult failure(PointCommand command, RuntimeException e) {
+        return new PointBatchResult(command.userId(), command.type(), command.amount(), null,
+                GlobalExceptionHandler.errorOf(e));
+    }
+}
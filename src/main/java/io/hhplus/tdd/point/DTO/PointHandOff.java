@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.DTO;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.List;
+
+/**
+ * 클러스터 구성 변경 시 사용자를 새 담당 노드로 옮기기 위한 잔액과 전체 히스토리 (오래된 순)
+ */
+public record PointHandOff(
+        UserPoint userPoint,
+        List<PointHistory> histories
+) {
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.DTO;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 포인트 이체 결과 - 보낸 사용자와 받은 사용자의 처리 후 잔량
+ */
+public record PointTransferResult(
+        UserPoint from,
+        UserPoint to
+) {
+}
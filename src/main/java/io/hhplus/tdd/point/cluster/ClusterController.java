@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.DTO.PointHandOff;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 클러스터 구성 조회/변경과 노드 간 사용자 넘겨주기를 처리한다. (노드 사이에서만 호출)
+ * 모든 요청은 비밀 값 헤더(PointClusterRouter.SECRET_HEADER)가 맞아야 처리한다.
+ */
+@RestController
+@RequestMapping("/cluster")
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ClusterController {
+
+    private final PointClusterRouter router;
+
+    public ClusterController(PointClusterRouter router) {
+        this.router = router;
+    }
+
+    @GetMapping("nodes")
+    public List<String> nodes(
+            @RequestHeader(name = PointClusterRouter.SECRET_HEADER, required = false) String secret
+    ) {
+        router.verifySecret(secret);
+        return router.nodes();
+    }
+
+    /**
+     * 노드 목록을 바꾼다. 모든 노드에 같은 목록을 보내야 한다. (새 노드를 먼저)
+     */
+    @PutMapping("nodes")
+    public List<String> updateNodes(
+            @RequestHeader(name = PointClusterRouter.SECRET_HEADER, required = false) String secret,
+            @RequestBody List<String> nodes
+    ) {
+        router.verifySecret(secret);
+        return router.updateMembership(nodes);
+    }
+
+    /**
+     * 새 담당 노드(requester)가 사용자를 가져간다. 이후 이 노드로 온 요청은 requester 로 전달된다.
+     */
+    @PostMapping("handoff/{id}")
+    public PointHandOff handOff(
+            @PathVariable long id,
+            @RequestHeader(name = PointClusterRouter.SECRET_HEADER, required = false) String secret,
+            @RequestParam String requester
+    ) {
+        router.verifySecret(secret);
+        return router.handOff(id, requester);
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 클러스터 모드에서 /point 요청을 담당 노드로 전달하는 인터셉터를 등록한다. (서블릿 환경)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ClusterWebConfig implements WebMvcConfigurer {
+
+    private final PointClusterRouter router;
+    private final ObjectMapper objectMapper;
+
+    public ClusterWebConfig(PointClusterRouter router, ObjectMapper objectMapper) {
+        this.router = router;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new PointClusterInterceptor(router, objectMapper)).addPathPatterns("/point/**");
+    }
+}
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.controller.PointController;
+import io.hhplus.tdd.point.domain.PointCommand;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * PointController 로 들어온 요청 중 이 노드가 담당하지 않는 사용자의 요청을 담당 노드로 전달한다.
+ * - 담당 노드의 응답(상태, 본문)을 그대로 돌려준다. (스트리밍 조회도 응답을 모두 받은 뒤 돌려준다.)
+ * - 다른 노드가 전달한 요청을 또 전달해야 하면(구성 변경 중) 돌려보내지 않고 503 으로 응답한다.
+ * - 일괄 요청은 담당 노드별로 나눠 처리한다.
+ * - 이체는 두 사용자를 같은 노드가 담당할 때만 처리한다. (노드 간 이체는 지원하지 않음)
+ */
+public class PointClusterInterceptor implements HandlerInterceptor {
+
+    private static final String GATE_ATTRIBUTE = PointClusterInterceptor.class.getName() + ".gate";
+    private static final TypeReference<List<PointCommand>> COMMANDS = new TypeReference<>() {
+    };
+
+    private final PointClusterRouter router;
+    private final ObjectMapper objectMapper;
+
+    public PointClusterInterceptor(PointClusterRouter router, ObjectMapper objectMapper) {
+        this.router = router;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod method) || method.getBeanType() != PointController.class) {
+            return true;
+        }
+        boolean forwarded = request.getHeader(PointClusterRouter.FORWARDED_HEADER) != null;
+
+        if (method.getMethod().getName().equals("executeBatch")) {
+            List<PointCommand> commands = objectMapper.readValue(request.getInputStream(), COMMANDS);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), router.executeBatch(commands, forwarded));
+            return false;
+        }
+
+        Long userId = userIdOf(request);
+        if (userId == null) {
+            // 경로의 ID 가 올바르지 않으면 컨트롤러가 그대로 처리(400)하도록 둔다.
+            return true;
+        }
+
+        // 이체는 보내는 사용자의 담당 노드에서 처리하고, 받는 사용자도 같은 노드가 담당해야 한다.
+        long[] users = {userId};
+        if (method.getMethod().getName().equals("transferPoint")) {
+            Long toUserId = parse(request.getParameter("to"));
+            if (toUserId == null) {
+                return true;
+            }
+            users = new long[]{userId, toUserId};
+        }
+
+        String target = router.route(userId);
+        if (target == null && users.length > 1 && router.route(users[1]) != null) {
+            throw new IllegalArgumentException("클러스터에서는 같은 노드가 담당하는 사용자끼리만 이체할 수 있습니다.");
+        }
+        if (target == null && HttpMethod.PATCH.matches(request.getMethod())) {
+            // 충전/사용/이체가 끝날 때까지 다른 노드로 넘겨주지 않도록 관문을 잡는다. (afterCompletion 에서 반납)
+            List<Lock> gates = router.writeGates(users);
+            gates.forEach(Lock::lock);
+            if (Arrays.stream(users).allMatch(router::isLocal)) {
+                request.setAttribute(GATE_ATTRIBUTE, gates);
+                return true;
+            }
+            gates.forEach(Lock::unlock);
+            if (router.isLocal(userId)) {
+                // 관문을 잡는 사이 받는 사용자만 다른 노드로 넘어간 경우
+                throw PointClusterRouter.membershipChanging();
+            }
+            target = router.ownerOf(userId);
+        }
+        if (target == null) {
+            return true;
+        }
+        if (forwarded) {
+            throw PointClusterRouter.membershipChanging();
+        }
+
+        PointClusterRouter.Forwarded result = router.forward(target, request, request.getInputStream().readAllBytes());
+        response.setStatus(result.status());
+        if (result.contentType() != null) {
+            response.setContentType(result.contentType());
+        }
+        if (result.retryAfter() != null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, result.retryAfter());
+        }
+        response.getOutputStream().write(result.body());
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object gates = request.getAttribute(GATE_ATTRIBUTE);
+        if (gates != null) {
+            request.removeAttribute(GATE_ATTRIBUTE);
+            ((List<?>) gates).forEach(gate -> ((Lock) gate).unlock());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long userIdOf(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return parse(variables == null ? null : variables.get("id"));
+    }
+
+    private static Long parse(String id) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
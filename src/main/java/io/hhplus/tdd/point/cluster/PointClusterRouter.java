@@ -0,0 +1,416 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.hhplus.tdd.common.cluster.ConsistentHashRing;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.exception.ClusterAccessDeniedException;
+import io.hhplus.tdd.common.exception.ClusterRoutingException;
+import io.hhplus.tdd.point.DTO.PointBatchResult;
+import io.hhplus.tdd.point.DTO.PointHandOff;
+import io.hhplus.tdd.point.controller.PointController;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.service.PointEngine;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.validation.PointValidator;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 클러스터 모드에서 사용자를 담당하는 노드를 정하고, 담당이 아닌 요청을 담당 노드로 전달한다.
+ * - 노드 목록은 설정(point.cluster.nodes)에서 읽고, 일관된 해싱으로 userId 를 노드에 나눈다.
+ * - 구성 변경(updateMembership) 후 새로 맡게 된 사용자는 처음 요청을 받을 때 이전 담당 노드에서
+ *   잔액과 히스토리를 가져온 뒤(pull) 처리한다. 이전 담당 노드는 넘겨준 사용자의 요청을 새 담당 노드로 보낸다.
+ * - 넘겨주는 동안 충전/사용이 끼어들지 않도록 사용자별 관문(gate)을 둔다. (충전/사용은 읽기 잠금, 넘겨주기는 쓰기 잠금)
+ * - 직전 구성만 기억하므로, 다음 구성 변경 전에 옮겨 갈 사용자가 한 번씩은 요청되어야 한다.
+ * - 넘겨받기는 PointService 의 기록 경로를 그대로 쓰므로 잔액을 따로 보관하는 엔진(CAS, SHARDED)으로는 시작하지 않는다.
+ * - 요청 전달은 서블릿 인터셉터(ClusterWebConfig)로 하므로 reactive 환경(web-application-type=reactive)으로는 시작하지 않는다.
+ * - 노드 사이의 요청(/cluster)은 설정한 비밀 값(point.cluster.secret)을 헤더로 함께 보내야 처리한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+public class PointClusterRouter {
+
+    // 다른 노드가 전달한 요청임을 나타내는 헤더 (값: 전달한 노드) - 다시 전달하지 않는다.
+    public static final String FORWARDED_HEADER = "X-Point-Forwarded-By";
+    // 노드 사이의 요청임을 확인하는 헤더 (값: point.cluster.secret)
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    private static final int GATE_STRIPES = 64;
+
+    private final PointService pointService;
+    private final PointValidator pointValidator;
+    private final ObjectMapper objectMapper;
+    private final String self;
+    private final byte[] secret;
+    private final int virtualNodes;
+    private final Duration forwardTimeout;
+    private final HttpClient httpClient;
+
+    private volatile Membership membership;
+    // 다른 노드가 가져간 사용자 -> 가져간 노드 (이 노드의 구성이 바뀌기 전까지 사용)
+    private final ConcurrentHashMap<Long, String> movedOut = new ConcurrentHashMap<>();
+    // 구성 변경 후 이전 담당 노드에서 가져왔거나 가져오는 중인 사용자
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> acquisitions = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock[] gates = new ReentrantReadWriteLock[GATE_STRIPES];
+
+    public PointClusterRouter(PointService pointService, PointValidator pointValidator, PointProperties properties,
+                              ObjectMapper objectMapper, ApplicationContext applicationContext) {
+        PointProperties.Cluster cluster = properties.getCluster();
+        if (applicationContext instanceof ReactiveWebApplicationContext) {
+            throw new IllegalStateException("클러스터 모드는 서블릿 환경에서만 사용할 수 있습니다. (spring.main.web-application-type=reactive)");
+        }
+        if (properties.getEngine() != PointEngine.Type.LOCK && properties.getEngine() != PointEngine.Type.GROUP_COMMIT) {
+            throw new IllegalStateException("클러스터 모드는 LOCK, GROUP_COMMIT 엔진에서만 사용할 수 있습니다. (engine: " + properties.getEngine() + ")");
+        }
+        if (cluster.getSecret() == null || cluster.getSecret().isBlank()) {
+            throw new IllegalStateException("클러스터 모드에서는 point.cluster.secret 을 지정해야 합니다.");
+        }
+        this.pointService = pointService;
+        this.pointValidator = pointValidator;
+        this.objectMapper = objectMapper;
+        this.self = cluster.getSelf();
+        this.secret = cluster.getSecret().getBytes(StandardCharsets.UTF_8);
+        this.virtualNodes = cluster.getVirtualNodes();
+        this.forwardTimeout = cluster.getForwardTimeout();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(forwardTimeout)
+                .build();
+        this.membership = new Membership(new ConsistentHashRing(cluster.getNodes(), virtualNodes), null);
+        for (int i = 0; i < GATE_STRIPES; i++) {
+            gates[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.close();
+    }
+
+    /**
+     * 사용자를 처리할 노드 (넘겨준 사용자는 가져간 노드)
+     */
+    public String ownerOf(long userId) {
+        String moved = movedOut.get(userId);
+        return moved != null ? moved : membership.current().ownerOf(userId);
+    }
+
+    public boolean isLocal(long userId) {
+        return self.equals(ownerOf(userId));
+    }
+
+    /**
+     * 이 노드가 처리해야 하면 null, 아니면 담당 노드 주소를 돌려준다.
+     * 구성 변경으로 새로 맡게 된 사용자는 이전 담당 노드에서 먼저 가져온다.
+     */
+    public String route(long userId) {
+        String owner = ownerOf(userId);
+        if (!self.equals(owner)) {
+            return owner;
+        }
+        acquire(userId);
+        return null;
+    }
+
+    /**
+     * 충전/사용/이체 중에 잡는 사용자들의 관문 - 잡고 있는 동안에는 사용자를 다른 노드로 넘겨주지 않는다.
+     * 교착 상태를 피하도록 항상 같은 순서(번호 순)로 돌려준다.
+     */
+    public List<Lock> writeGates(long... userIds) {
+        TreeSet<Integer> stripes = new TreeSet<>();
+        for (long userId : userIds) {
+            stripes.add(stripeOf(userId));
+        }
+        return stripes.stream().map(stripe -> (Lock) gates[stripe].readLock()).toList();
+    }
+
+    public List<String> nodes() {
+        return membership.current().nodes();
+    }
+
+    /**
+     * 노드 사이의 요청인지 확인한다. 비밀 값이 없거나 다르면 거절한다.
+     */
+    public void verifySecret(String presented) {
+        if (presented == null || !MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            throw new ClusterAccessDeniedException("클러스터 내부 요청만 처리할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 새 노드 목록을 반영한다. 지금 구성은 이전 구성으로 남겨 새로 맡게 된 사용자를 가져올 때 사용한다.
+     */
+    public synchronized List<String> updateMembership(List<String> nodes) {
+        membership = new Membership(new ConsistentHashRing(nodes, virtualNodes), membership.current());
+        acquisitions.clear();
+        // 이제 해시 링이 가져간 노드를 가리키므로 따로 기억할 필요가 없다.
+        movedOut.clear();
+        return nodes();
+    }
+
+    /**
+     * 사용자를 requester 로 넘겨준다. 진행 중인 충전/사용이 끝나기를 기다린 뒤 잔액과 히스토리를 돌려주고,
+     * 이후의 요청은 requester 로 보낸다.
+     * requester 는 지금 구성에서 이 사용자를 맡는 다른 노드여야 한다.
+     */
+    public PointHandOff handOff(long userId, String requester) {
+        ConsistentHashRing current = membership.current();
+        if (self.equals(requester) || !current.nodes().contains(requester) || !requester.equals(current.ownerOf(userId))) {
+            throw new IllegalArgumentException("사용자를 맡는 노드가 아닙니다. (" + requester + ")");
+        }
+
+        // 이 노드도 아직 이전 담당 노드에서 가져오지 않았다면 먼저 가져온다.
+        acquire(userId);
+
+        Lock gate = gates[stripeOf(userId)].writeLock();
+        gate.lock();
+        try {
+            movedOut.put(userId, requester);
+            return pointService.exportUser(userId);
+        } finally {
+            gate.unlock();
+        }
+    }
+
+    /**
+     * 요청을 그대로 담당 노드에 보내고 응답을 돌려준다.
+     */
+    public Forwarded forward(String target, HttpServletRequest request, byte[] body) {
+        String pathAndQuery = request.getRequestURI() + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(target + pathAndQuery))
+                .timeout(forwardTimeout)
+                .header(FORWARDED_HEADER, self)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        copyHeader(request, builder, HttpHeaders.CONTENT_TYPE);
+        copyHeader(request, builder, HttpHeaders.ACCEPT);
+        copyHeader(request, builder, PointController.IDEMPOTENCY_KEY_HEADER);
+
+        HttpResponse<byte[]> response = send(builder.build());
+        return new Forwarded(response.statusCode(),
+                response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null),
+                response.headers().firstValue(HttpHeaders.RETRY_AFTER).orElse(null), response.body());
+    }
+
+    /**
+     * 일괄 충전/사용 요청을 담당 노드별로 나눠 처리하고, 요청 순서대로 결과를 모은다.
+     * @param forwarded 다른 노드가 전달한 요청이면 다시 전달하지 않고 실패로 처리한다.
+     */
+    public ArrayNode executeBatch(List<PointCommand> commands, boolean forwarded) {
+        pointValidator.validateBatchSize(commands.size());
+
+        JsonNode[] results = new JsonNode[commands.size()];
+        List<Integer> local = new ArrayList<>();
+        Map<String, List<Integer>> remote = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            PointCommand command = commands.get(i);
+            try {
+                String target = route(command.userId());
+                if (target == null) {
+                    local.add(i);
+                } else if (forwarded) {
+                    results[i] = failure(command, membershipChanging());
+                } else {
+                    remote.computeIfAbsent(target, key -> new ArrayList<>()).add(i);
+                }
+            } catch (ClusterRoutingException e) {
+                results[i] = failure(command, e);
+            }
+        }
+
+        executeLocal(commands, local, results);
+        remote.forEach((target, indexes) -> executeRemote(target, commands, indexes, results));
+
+        ArrayNode array = objectMapper.createArrayNode();
+        for (JsonNode result : results) {
+            array.add(result);
+        }
+        return array;
+    }
+
+    static ClusterRoutingException membershipChanging() {
+        return new ClusterRoutingException("클러스터 구성이 바뀌는 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void executeLocal(List<PointCommand> commands, List<Integer> indexes, JsonNode[] results) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        List<Lock> held = new ArrayList<>();
+        try {
+            for (Lock gate : writeGates(indexes.stream().mapToLong(index -> commands.get(index).userId()).toArray())) {
+                gate.lock();
+                held.add(gate);
+            }
+
+            // 관문을 잡기 전에 넘겨준 사용자는 처리하지 않는다.
+            List<Integer> owned = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                if (isLocal(commands.get(index).userId())) {
+                    owned.add(index);
+                } else {
+                    results[index] = failure(commands.get(index), membershipChanging());
+                }
+            }
+            if (owned.isEmpty()) {
+                return;
+            }
+
+            List<PointBatchResult> batchResults = pointService.executeBatch(owned.stream().map(commands::get).toList());
+            for (int i = 0; i < owned.size(); i++) {
+                results[owned.get(i)] = objectMapper.valueToTree(batchResults.get(i));
+            }
+        } finally {
+            held.forEach(Lock::unlock);
+        }
+    }
+
+    private void executeRemote(String target, List<PointCommand> commands, List<Integer> indexes, JsonNode[] results) {
+        List<PointCommand> subBatch = indexes.stream().map(commands::get).toList();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/point/batch"))
+                    .timeout(forwardTimeout)
+                    .header(FORWARDED_HEADER, self)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(subBatch)))
+                    .build();
+            HttpResponse<byte[]> response = send(request);
+            JsonNode body = objectMapper.readTree(response.body());
+            if (response.statusCode() != 200 || !body.isArray() || body.size() != indexes.size()) {
+                throw new ClusterRoutingException("담당 노드가 일괄 요청을 처리하지 못했습니다. (" + target + ")");
+            }
+            for (int i = 0; i < indexes.size(); i++) {
+                results[indexes.get(i)] = body.get(i);
+            }
+        } catch (IOException | ClusterRoutingException e) {
+            ClusterRoutingException cause = e instanceof ClusterRoutingException routing
+                    ? routing
+                    : new ClusterRoutingException("담당 노드에 요청을 전달하지 못했습니다. (" + target + ")", e);
+            indexes.forEach(index -> results[index] = failure(commands.get(index), cause));
+        }
+    }
+
+    /**
+     * 구성 변경 후 처음 요청된 사용자를 이전 담당 노드에서 가져온다. (사용자마다 한 번)
+     */
+    private void acquire(long userId) {
+        ConsistentHashRing previous = membership.previous();
+        if (previous == null) {
+            return;
+        }
+        String previousOwner = previous.ownerOf(userId);
+        if (self.equals(previousOwner)) {
+            return;
+        }
+
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> existing = acquisitions.putIfAbsent(userId, created);
+        if (existing != null) {
+            try {
+                existing.join();
+                return;
+            } catch (CompletionException e) {
+                throw membershipChanging();
+            }
+        }
+
+        try {
+            pointService.importUser(userId, pull(previousOwner, userId));
+            movedOut.remove(userId);
+            created.complete(null);
+        } catch (RuntimeException e) {
+            // 다음 요청에서 다시 가져오도록 한다.
+            acquisitions.remove(userId, created);
+            created.completeExceptionally(e);
+            throw e instanceof ClusterRoutingException routing
+                    ? routing
+                    : new ClusterRoutingException("이전 담당 노드에서 사용자를 가져오지 못했습니다.", e);
+        }
+    }
+
+    private PointHandOff pull(String previousOwner, long userId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(previousOwner + "/cluster/handoff/" + userId
+                        + "?requester=" + URLEncoder.encode(self, StandardCharsets.UTF_8)))
+                .timeout(forwardTimeout)
+                .header(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<byte[]> response = send(request);
+        if (response.statusCode() != 200) {
+            throw new ClusterRoutingException("이전 담당 노드에서 사용자를 가져오지 못했습니다. (" + previousOwner + ")");
+        }
+        try {
+            return objectMapper.readValue(response.body(), PointHandOff.class);
+        } catch (IOException e) {
+            throw new ClusterRoutingException("이전 담당 노드의 응답을 읽지 못했습니다. (" + previousOwner + ")", e);
+        }
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new ClusterRoutingException("다른 노드에 요청을 전달하지 못했습니다. (" + request.uri().getAuthority() + ")", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClusterRoutingException("다른 노드에 요청을 전달하는 중 중단되었습니다.", e);
+        }
+    }
+
+    private JsonNode failure(PointCommand command, RuntimeException e) {
+        return objectMapper.valueToTree(PointBatchResult.failure(command, e));
+    }
+
+    private static void copyHeader(HttpServletRequest request, HttpRequest.Builder builder, String name) {
+        String value = request.getHeader(name);
+        if (value != null) {
+            builder.header(name, value);
+        }
+    }
+
+    private static int stripeOf(long userId) {
+        return (int) Math.floorMod(userId, (long) GATE_STRIPES);
+    }
+
+    /**
+     * 현재 구성과 직전 구성 (직전 구성이 없으면 null)
+     */
+    private record Membership(ConsistentHashRing current, ConsistentHashRing previous) {
+    }
+
+    /**
+     * 담당 노드의 응답 (retryAfter 는 담당 노드가 요청을 거절한 경우의 Retry-After)
+     */
+    public record Forwarded(int status, String contentType, String retryAfter, byte[] body) {
+    }
+}
@@ -1,68 +1,190 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.hhplus.tdd.common.GlobalExceptionHandler;
+import io.hhplus.tdd.point.DTO.PointBatchResult;
+import io.hhplus.tdd.point.DTO.PointTransferResult;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.TransactionType;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
 import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.validation.PointViolation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
  * 해당 클래스는 HTTP 입출력을 처리한다.
+ * 서블릿(Spring MVC) 환경에서만 등록된다. (WebFlux 환경은 ReactivePointController)
  */
 @RestController
 @RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
+    // 재시도 요청을 구분하는 헤더 - 같은 값으로 다시 요청하면 처음 결과를 돌려준다.
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final PointService pointService;
+    // 스트리밍 시 건마다 flush 하지 않고 묶음 단위로 flush 한다. (값 사이 구분자는 줄바꿈을 직접 쓴다.)
+    private final ObjectWriter historyWriter;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, ObjectMapper objectMapper) {
         this.pointService = pointService;
+        this.historyWriter = objectMapper.writerFor(PointHistory.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
+     * at(epoch millis)이 주어지면 그 시각의 포인트를 조회한다.
      */
     @GetMapping("{id}")
     public UserPoint selectUserPoint(
-            @PathVariable long id
+            @PathVariable long id,
+            @RequestParam(required = false) Long at
     ) {
+        if (at != null) {
+            return pointService.selectUserPointAt(id, at);
+        }
         return pointService.selectUserPoint(id);
     }
 
+    /**
+     * 특정 유저의 포인트와 최근 충전/이용 내역을 함께 조회한다.
+     * 잔액과 내역은 같은 시점의 값이며, 충전/사용 중인 요청을 기다리지 않는다.
+     */
+    @GetMapping("{id}/view")
+    public UserPointView selectUserPointView(
+            @PathVariable long id
+    ) {
+        return pointService.selectUserPointView(id);
+    }
+
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * limit 이 주어지면 cursor(이전 페이지의 마지막 id) 이전 내역을 최신순으로 limit 건 조회한다.
      */
     @GetMapping("histories/{id}")
     public List<PointHistory> selectUserHistories(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        if (limit == null) {
+            return pointService.selectUserHistories(id);
+        }
+        return pointService.selectUserHistories(id, cursor, limit);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON(한 줄에 하나의 JSON)으로 스트리밍한다. (Accept: application/x-ndjson)
+     * 저장소에서 읽은 묶음마다 바로 응답에 쓰고 flush 하므로 전체 리스트를 메모리에 만들지 않는다.
+     * 클라이언트가 연결을 끊으면 쓰기 실패(IOException)로 조회를 중단한다.
+     */
+    @GetMapping(value = "histories/{id}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUserHistories(
             @PathVariable long id
     ) {
-        return pointService.selectUserHistories(id);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = historyWriter.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                pointService.streamUserHistories(id, histories -> {
+                    try {
+                        for (PointHistory history : histories) {
+                            historyWriter.writeValue(generator, history);
+                            generator.writeRaw('\n');
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                log.debug("히스토리 스트리밍 중단 - userId: {}", id, e);
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에는 처음 결과를 돌려준다.
+     * 잔액과 무관하게 잘못된 금액은 락/테이블 조회 없이 미리 만든 400 응답으로 거절한다.
      */
     @PatchMapping("charge/{id}")
-    public UserPoint updateUserCharge(
+    public ResponseEntity<?> updateUserCharge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        return pointService.chargePoint(id, amount);
+        PointViolation violation = pointService.precheckAmount(TransactionType.CHARGE, amount);
+        if (violation != null) {
+            return GlobalExceptionHandler.rejection(violation);
+        }
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(pointService.chargePoint(id, amount));
+        }
+        return ResponseEntity.ok(pointService.chargePoint(id, amount, idempotencyKey));
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에는 처음 결과를 돌려준다.
      */
     @PatchMapping("use/{id}")
-    public UserPoint updateUserUse(
+    public ResponseEntity<?> updateUserUse(
             @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        PointViolation violation = pointService.precheckAmount(TransactionType.USE, amount);
+        if (violation != null) {
+            return GlobalExceptionHandler.rejection(violation);
+        }
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(pointService.usePoint(id, amount));
+        }
+        return ResponseEntity.ok(pointService.usePoint(id, amount, idempotencyKey));
+    }
+
+    /**
+     * 포인트를 다른 사용자(to)에게 이체한다.
+     */
+    @PatchMapping("transfer/{id}")
+    public PointTransferResult transferPoint(
+            @PathVariable long id,
+            @RequestParam long to,
             @RequestBody long amount
     ) {
-        return pointService.usePoint(id, amount);
+        return pointService.transferPoint(id, to, amount);
+    }
+
+    /**
+     * 여러 사용자의 포인트를 한 번에 충전/사용한다.
+     * 요청 건마다 처리 결과 또는 에러를 요청 순서대로 돌려준다.
+     */
+    @PatchMapping("batch")
+    public List<PointBatchResult> executeBatch(
+            @RequestBody List<PointCommand> commands
+    ) {
+        return pointService.executeBatch(commands);
     }
 }
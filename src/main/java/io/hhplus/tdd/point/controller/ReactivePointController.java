@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.common.GlobalExceptionHandler;
+import io.hhplus.tdd.point.DTO.PointTransferResult;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.validation.PointViolation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 해당 클래스는 WebFlux(논블로킹) 환경에서 HTTP 입출력을 처리한다.
+ * spring.main.web-application-type=reactive 로 실행할 때만 등록되며 PointController 와 같은 경로를 사용한다.
+ * 블로킹 처리(락, 테이블 호출)는 PointService 의 비동기 API 가 별도 스레드에서 처리하므로 요청 스레드(이벤트 루프)를 막지 않는다.
+ * 클라이언트가 연결을 끊어도 이미 접수된 처리는 취소하지 않는다. (사용자별 처리 순서 유지, MVC 와 같은 동작)
+ */
+@RestController
+@RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointController {
+
+    private final PointService pointService;
+
+    public ReactivePointController(PointService pointService) {
+        this.pointService = pointService;
+    }
+
+    /**
+     * at(epoch millis)이 주어지면 그 시각의 포인트를 조회한다.
+     */
+    @GetMapping("{id}")
+    public Mono<UserPoint> selectUserPoint(
+            @PathVariable long id,
+            @RequestParam(required = false) Long at
+    ) {
+        if (at != null) {
+            return Mono.fromFuture(() -> pointService.selectUserPointAtAsync(id, at), true);
+        }
+        return Mono.fromFuture(() -> pointService.selectUserPointAsync(id), true);
+    }
+
+    /**
+     * 포인트와 최근 내역을 같은 시점으로 묶어 조회한다. (이미 만들어진 뷰는 요청 스레드에서 바로 응답)
+     */
+    @GetMapping("{id}/view")
+    public Mono<UserPointView> selectUserPointView(
+            @PathVariable long id
+    ) {
+        return Mono.fromFuture(() -> pointService.selectUserPointViewAsync(id), true);
+    }
+
+    /**
+     * limit 이 주어지면 cursor(이전 페이지의 마지막 id) 이전 내역을 최신순으로 limit 건 조회한다.
+     */
+    @GetMapping("histories/{id}")
+    public Mono<List<PointHistory>> selectUserHistories(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return Mono.fromFuture(() -> pointService.selectUserHistoriesAsync(id, cursor, limit), true);
+    }
+
+    @PatchMapping("charge/{id}")
+    public Mono<ResponseEntity<?>> updateUserCharge(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        // 잘못된 금액은 작업 스레드로 넘기지 않고 바로 거절한다.
+        PointViolation violation = pointService.precheckAmount(TransactionType.CHARGE, amount);
+        if (violation != null) {
+            return Mono.just(GlobalExceptionHandler.rejection(violation));
+        }
+        return Mono.fromFuture(() -> pointService.chargePointAsync(id, amount, idempotencyKey), true)
+                .map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("use/{id}")
+    public Mono<ResponseEntity<?>> updateUserUse(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        // 잘못된 금액은 작업 스레드로 넘기지 않고 바로 거절한다.
+        PointViolation violation = pointService.precheckAmount(TransactionType.USE, amount);
+        if (violation != null) {
+            return Mono.just(GlobalExceptionHandler.rejection(violation));
+        }
+        return Mono.fromFuture(() -> pointService.usePointAsync(id, amount, idempotencyKey), true)
+                .map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("transfer/{id}")
+    public Mono<PointTransferResult> transferPoint(
+            @PathVariable long id,
+            @RequestParam long to,
+            @RequestBody long amount
+    ) {
+        return Mono.fromFuture(() -> pointService.transferPointAsync(id, to, amount), true);
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.domain;
+
+/**
+ * 포인트 충전/사용 요청 한 건
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+
+    /**
+     * 요청을 반영한 후의 잔액을 계산한다.
+     */
+    public long applyTo(long balance) {
+        return type == TransactionType.CHARGE ? balance + amount : balance - amount;
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.entity;
+
+import java.util.List;
+
+/**
+ * 같은 시점의 포인트 잔액과 최근 히스토리 (변경 불가)
+ * @param version 잔액/히스토리가 바뀔 때마다 1 증가한다. (저장소에서 처음 읽은 뷰는 0)
+ * @param recentHistories 최신순으로 정렬된 최근 히스토리
+ */
+public record UserPointView(
+        long version,
+        UserPoint userPoint,
+        List<PointHistory> recentHistories
+) {
+}
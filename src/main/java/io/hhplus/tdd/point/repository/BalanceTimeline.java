@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 잔액 변화 기록 (특정 시각의 잔액 조회용)
+ * 히스토리가 기록될 때마다 그 시점의 누적 잔액(running balance)과 시각을 사용자별 배열 끝에 붙인다.
+ * 조회는 시각 배열을 이진 탐색하므로 내역 수 n 에 대해 O(log n) 이다.
+ * - 기록은 메모리 배열에 값 두 개를 붙이는 것뿐이라 테이블 호출에 비해 무시할 만하다. (내역당 16바이트)
+ * - 시각이 앞 내역보다 이르면(시계 역행) 앞 내역의 시각으로 맞춰 배열이 정렬된 상태를 유지한다.
+ * - 잔액은 처음 기록된 내역(또는 seed 로 정한 시작 잔액)부터 누적한 값이므로 이후 히스토리가 빠짐없이 기록되어야 정확하다.
+ *   히스토리 없이 잔액만 복구한 경우(스냅샷, replay-histories=false)에는 복구된 잔액을 seed 로 먼저 남긴다.
+ */
+public class BalanceTimeline {
+
+    private final ConcurrentHashMap<Long, UserTimeline> timelines = new ConcurrentHashMap<>();
+
+    public void append(long userId, long amount, TransactionType type, long updateMillis) {
+        long delta = type == TransactionType.CHARGE ? amount : -amount;
+        timelines.computeIfAbsent(userId, id -> new UserTimeline()).append(delta, updateMillis);
+    }
+
+    /**
+     * 히스토리 없이 복구된 잔액을 이후 누적의 시작값으로 남긴다. (그 시각 이전의 잔액은 알 수 없어 0 으로 응답한다.)
+     */
+    public void seed(long userId, long balance, long updateMillis) {
+        timelines.computeIfAbsent(userId, id -> new UserTimeline()).record(balance, updateMillis, false);
+    }
+
+    /**
+     * atMillis 시각까지 기록된 내역을 반영한 잔액
+     * 그 시각 이전 내역이 없으면 잔액 0, 변경 시각 0 을 돌려준다.
+     */
+    public UserPoint balanceAt(long userId, long atMillis) {
+        UserTimeline timeline = timelines.get(userId);
+        return timeline == null ? new UserPoint(userId, 0, 0) : timeline.balanceAt(userId, atMillis);
+    }
+
+    private static class UserTimeline {
+        private long[] millis = new long[4];
+        private long[] balances = new long[4];
+        private int size;
+
+        private void append(long delta, long updateMillis) {
+            record(delta, updateMillis, true);
+        }
+
+        // relative 이면 value 를 앞 내역의 잔액에 더하고, 아니면 value 를 그대로 잔액으로 남긴다.
+        private synchronized void record(long value, long updateMillis, boolean relative) {
+            if (size == millis.length) {
+                int capacity = size + (size >> 1);
+                millis = Arrays.copyOf(millis, capacity);
+                balances = Arrays.copyOf(balances, capacity);
+            }
+            long previousBalance = size == 0 ? 0 : balances[size - 1];
+            long previousMillis = size == 0 ? Long.MIN_VALUE : millis[size - 1];
+            millis[size] = Math.max(previousMillis, updateMillis);
+            balances[size] = relative ? previousBalance + value : value;
+            size++;
+        }
+
+        private synchronized UserPoint balanceAt(long userId, long atMillis) {
+            // atMillis 보다 늦은 첫 위치 (이진 탐색) - 바로 앞이 그 시각의 마지막 내역이다.
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (millis[mid] <= atMillis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low == 0
+                    ? new UserPoint(userId, 0, 0)
+                    : new UserPoint(userId, balances[low - 1], millis[low - 1]);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 히스토리를 객체 대신 열(column) 단위의 기본형 배열에 보관한다.
+ * - 레코드는 SEGMENT_SIZE 건씩 나눈 세그먼트(amount, updateMillis, type 배열)에 기록 순서대로 쌓는다.
+ * - id 는 PointHistoryTable 과 같이 1부터 기록 순서이므로 저장하지 않고 위치로 계산한다.
+ * - userId 는 저장하지 않고 사용자별 위치 목록(UserPositions)으로 찾는다.
+ * - PointHistory 객체는 조회 결과를 돌려줄 때만 만든다.
+ * 레코드당 amount 8 + updateMillis 8 + type 1 + 위치 4 = 21바이트 (+ 위치 목록의 여유 공간)
+ */
+public class ColumnarHistoryStore {
+
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ConcurrentHashMap<Long, UserPositions> users = new ConcurrentHashMap<>();
+    // 세그먼트가 추가될 때만 새 배열로 교체한다.
+    private volatile Segment[] segments = new Segment[16];
+    private int size;
+
+    /**
+     * @return 기록된 내역의 id
+     */
+    public long insert(long userId, long amount, TransactionType type, long updateMillis) {
+        appendLock.lock();
+        try {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalStateException("더 이상 히스토리를 기록할 수 없습니다.");
+            }
+
+            int position = size;
+            Segment segment = segmentFor(position);
+            int offset = position & SEGMENT_MASK;
+            segment.amounts[offset] = amount;
+            segment.updateMillis[offset] = updateMillis;
+            segment.types[offset] = (byte) type.ordinal();
+            size++;
+
+            // 위치를 공개하는 시점(모니터 해제)에 위 기록도 함께 보이게 된다.
+            users.computeIfAbsent(userId, k -> new UserPositions()).add(position);
+            return position + 1L;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 전체 내역 (오래된 순)
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserPositions positions = users.get(userId);
+        if (positions == null) {
+            return List.of();
+        }
+
+        int[] snapshot = positions.snapshot();
+        Segment[] current = segments;
+        List<PointHistory> histories = new ArrayList<>(snapshot.length);
+        for (int position : snapshot) {
+            histories.add(read(current, userId, position));
+        }
+        return histories;
+    }
+
+    /**
+     * beforeId 보다 작은 id 의 내역을 최신순으로 최대 limit 건 조회한다.
+     */
+    public List<PointHistory> selectPage(long userId, long beforeId, int limit) {
+        UserPositions positions = users.get(userId);
+        if (positions == null) {
+            return List.of();
+        }
+
+        // id = 위치 + 1
+        long before = Math.min(beforeId - 1, Integer.MAX_VALUE);
+        int[] page = positions.page((int) Math.max(before, 0), limit);
+        Segment[] current = segments;
+        List<PointHistory> histories = new ArrayList<>(page.length);
+        for (int position : page) {
+            histories.add(read(current, userId, position));
+        }
+        return histories;
+    }
+
+    /**
+     * afterId 보다 큰 id 의 내역을 오래된 순으로 최대 limit 건 조회한다.
+     */
+    public List<PointHistory> selectAfter(long userId, long afterId, int limit) {
+        UserPositions positions = users.get(userId);
+        if (positions == null) {
+            return List.of();
+        }
+
+        // id = 위치 + 1 이므로 afterId 보다 큰 id 는 afterId 이상의 위치
+        int[] chunk = positions.after((int) Math.min(Math.max(afterId, 0), Integer.MAX_VALUE), limit);
+        Segment[] current = segments;
+        List<PointHistory> histories = new ArrayList<>(chunk.length);
+        for (int position : chunk) {
+            histories.add(read(current, userId, position));
+        }
+        return histories;
+    }
+
+    public long size() {
+        appendLock.lock();
+        try {
+            return size;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // appendLock 을 잡은 상태에서만 호출된다.
+    private Segment segmentFor(int position) {
+        int index = position >>> SEGMENT_SHIFT;
+        Segment[] current = segments;
+        if (index == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        if (current[index] == null) {
+            current[index] = new Segment();
+            segments = current;
+        }
+        return current[index];
+    }
+
+    private static PointHistory read(Segment[] segments, long userId, int position) {
+        Segment segment = segments[position >>> SEGMENT_SHIFT];
+        int offset = position & SEGMENT_MASK;
+        return new PointHistory(position + 1L, userId, segment.amounts[offset], TYPES[segment.types[offset]],
+                segment.updateMillis[offset]);
+    }
+
+    private static class Segment {
+        private final long[] amounts = new long[SEGMENT_SIZE];
+        private final long[] updateMillis = new long[SEGMENT_SIZE];
+        private final byte[] types = new byte[SEGMENT_SIZE];
+    }
+
+    /**
+     * 사용자의 내역 위치 (오름차순)
+     */
+    private static class UserPositions {
+        private int[] positions = new int[4];
+        private int size;
+
+        private synchronized void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size + (size >> 1));
+            }
+            positions[size++] = position;
+        }
+
+        private synchronized int[] snapshot() {
+            return Arrays.copyOf(positions, size);
+        }
+
+        // before 보다 작은 위치를 큰 순서대로 최대 limit 개
+        private synchronized int[] page(int before, int limit) {
+            int end = lowerBound(before);
+            int count = Math.min(limit, end);
+            int[] page = new int[count];
+            for (int i = 0; i < count; i++) {
+                page[i] = positions[end - 1 - i];
+            }
+            return page;
+        }
+
+        // from 이상인 위치를 작은 순서대로 최대 limit 개
+        private synchronized int[] after(int from, int limit) {
+            int start = lowerBound(from);
+            return Arrays.copyOfRange(positions, start, start + Math.min(limit, size - start));
+        }
+
+        // position 이상인 첫 위치 (이진 탐색)
+        private int lowerBound(int position) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[mid] < position) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
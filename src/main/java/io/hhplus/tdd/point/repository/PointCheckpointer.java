@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 전체 사용자 잔액 스냅샷(PointSnapshot)을 파일로 남긴다.
+ * - 직전 스냅샷 이후의 로그 레코드만 읽어 변경분을 합치므로 충전/사용 처리(기록 스레드)를 멈추지 않는다.
+ * - 스냅샷에 반영된 위치까지 로그를 fsync 한 뒤 기록해 스냅샷이 로그보다 앞서지 않도록 한다.
+ */
+public class PointCheckpointer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointCheckpointer.class);
+
+    private final PointWriteAheadLog wal;
+    private final Path path;
+    private final ScheduledExecutorService scheduler;
+    // checkpoint() 는 scheduler 스레드와 close() 에서 겹쳐 호출될 수 있어 synchronized 로 처리한다.
+    private PointSnapshot snapshot;
+
+    /**
+     * @param snapshot 시작 시점의 스냅샷 (로그 복구까지 반영된 상태)
+     */
+    public PointCheckpointer(PointWriteAheadLog wal, Path path, Duration interval, PointSnapshot snapshot) {
+        this.wal = wal;
+        this.path = path;
+        this.snapshot = snapshot;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-checkpointer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::runCheckpoint, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 직전 스냅샷 이후의 기록을 반영한 스냅샷을 남긴다.
+     * @return 기록한 스냅샷
+     */
+    public synchronized PointSnapshot checkpoint() {
+        long target = wal.records();
+        if (target == snapshot.position()) {
+            return snapshot;
+        }
+
+        wal.sync();
+        PointSnapshot.Changes changes = new PointSnapshot.Changes(snapshot.position());
+        wal.read(snapshot.position(), target, changes::apply);
+
+        PointSnapshot next = snapshot.merge(changes);
+        next.write(path);
+        snapshot = next;
+        return next;
+    }
+
+    /**
+     * 주기 실행을 멈추고 마지막 스냅샷을 남긴다. (로그를 닫기 전에 호출)
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkpoint();
+    }
+
+    private void runCheckpoint() {
+        try {
+            long start = System.nanoTime();
+            PointSnapshot written = checkpoint();
+            log.debug("스냅샷 기록 - position: {}, users: {}, {}ms",
+                    written.position(), written.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도한다.
+            log.error("스냅샷 기록 실패", e);
+        }
+    }
+}
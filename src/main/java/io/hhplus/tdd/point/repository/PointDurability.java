@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.common.config.PointProperties;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 충전/사용 내역 로그(PointWriteAheadLog)와 잔액 스냅샷(PointCheckpointer)을 열고, 시작 시 잔액(과 히스토리)을 복구한다.
+ * - 로그를 사용하지 않으면 아무것도 열지 않고 wal() 은 null 을 돌려준다.
+ * - 엔진이 기록과 같은 순서로 로그를 남기도록 엔진보다 먼저 만든다. (PointServiceConfig)
+ * - 종료(close)하면 마지막 스냅샷을 남긴 뒤 로그를 닫는다.
+ */
+public class PointDurability implements AutoCloseable {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    // 사용하지 않으면 null
+    private final PointWriteAheadLog wal;
+    private final PointCheckpointer checkpointer;
+
+    public PointDurability(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                           PointProperties properties) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        if (!properties.getWal().isEnabled()) {
+            this.wal = null;
+            this.checkpointer = null;
+            return;
+        }
+
+        // 스냅샷 이후의 로그만 합쳐 잔액을 복구한다.
+        PointProperties.Snapshot snapshotProperties = properties.getSnapshot();
+        PointSnapshot snapshot = snapshotProperties.isEnabled()
+                ? PointSnapshot.read(Path.of(snapshotProperties.getPath())).orElse(PointSnapshot.empty())
+                : PointSnapshot.empty();
+        PointSnapshot.Changes changes = new PointSnapshot.Changes(snapshot.position());
+        this.wal = openWal(properties.getWal(), snapshot, changes);
+
+        PointSnapshot recovered = snapshot.merge(changes);
+        userPointRepository.restore(recovered);
+        if (!properties.getWal().isReplayHistories()) {
+            // 히스토리를 다시 기록하지 않았으므로 특정 시각 잔액은 복구된 잔액부터 누적한다.
+            recovered.forEach(pointHistoryRepository::seedBalance);
+        }
+        this.checkpointer = snapshotProperties.isEnabled()
+                ? new PointCheckpointer(wal, Path.of(snapshotProperties.getPath()), snapshotProperties.getInterval(), recovered)
+                : null;
+    }
+
+    /**
+     * @return 충전/사용 내역 로그 (사용하지 않으면 null)
+     */
+    public PointWriteAheadLog wal() {
+        return wal;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (checkpointer != null) {
+            checkpointer.close();
+        }
+        if (wal != null) {
+            wal.close();
+        }
+    }
+
+    /**
+     * 로그를 열면서 스냅샷 이후의 내역을 changes 에 모은다.
+     * 히스토리까지 복구하는 경우에는 로그를 처음부터 읽어 사용자별 마지막 비움 기록을 확인한 뒤,
+     * 그 이후의 내역만 순서대로 다시 기록한다.
+     * 히스토리는 평소 기록과 같은 경로(PointHistoryRepository.insert)로 기록하므로 열 단위 저장소를 사용할 때만 테이블을 거치지 않는다.
+     */
+    private PointWriteAheadLog openWal(PointProperties.Wal properties, PointSnapshot snapshot, PointSnapshot.Changes changes) {
+        boolean replayHistories = properties.isReplayHistories();
+        Map<Long, Long> tombstones = new HashMap<>();
+        PointWriteAheadLog opened = new PointWriteAheadLog(Path.of(properties.getPath()), properties.getSegmentSize().toBytes(),
+                properties.getSyncBatchSize(), properties.getSyncInterval(),
+                replayHistories ? 0 : snapshot.position(), record -> {
+                    if (PointWriteAheadLog.isTombstone(record)) {
+                        tombstones.put(record.userId(), record.id());
+                    }
+                    if (record.id() > snapshot.position()) {
+                        changes.apply(record);
+                    }
+                });
+
+        if (replayHistories) {
+            opened.read(0, opened.records(), record -> {
+                if (!PointWriteAheadLog.isTombstone(record) && record.id() > tombstones.getOrDefault(record.userId(), 0L)) {
+                    pointHistoryRepository.insert(record.userId(), record.amount(), record.type(), record.updateMillis());
+                }
+            });
+        }
+        return opened;
+    }
+}
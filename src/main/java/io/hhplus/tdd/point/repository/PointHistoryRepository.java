@@ -0,0 +1,399 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 히스토리 기록/조회를 담당한다.
+ * - 열 단위 저장소 사용 시 테이블 대신 ColumnarHistoryStore 에 바로 기록/조회한다. (객체를 보관하지 않음)
+ * - 색인 사용 시 조회는 사용자별 색인(UserHistoryIndex)에서 처리하고 테이블 전체를 훑지 않는다.
+ * - 잔액 기록 사용 시 내역마다 누적 잔액을 함께 남겨(BalanceTimeline) 특정 시각의 잔액을 바로 조회한다.
+ * - 동기 모드 : PointHistoryTable 을 그대로 호출한다. (기존 동작)
+ * - 비동기 모드 : 기록 요청을 제한된 크기의 큐에 넣고 전용 writer 스레드가 순서대로 테이블에 기록한다.
+ *   조회 시에는 아직 기록되지 않은 내역을 합쳐서 돌려주므로 방금 기록한 내역도 바로 보인다.
+ */
+@Component
+public class PointHistoryRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryRepository.class);
+
+    // 비동기 기록이 실패했을 때 다시 시도하는 최대 횟수 (처음 시도 포함)
+    static final int MAX_WRITE_ATTEMPTS = 3;
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     * - BLOCK : 빈 자리가 생길 때까지 기다린다.
+     * - CALLER_RUNS : 요청 스레드가 큐 맨 앞의 내역을 직접 기록해 자리를 만든 뒤 자신의 내역을 큐에 넣는다.
+     *   (큐 전체를 비우지 않으므로 요청 스레드가 기록하는 양은 한 번에 한 건이다.)
+     */
+    public enum OverflowPolicy {
+        BLOCK, CALLER_RUNS
+    }
+
+    private final PointHistoryTable pointHistoryTable;
+    private final boolean async;
+    private final OverflowPolicy overflowPolicy;
+    // 색인을 사용하지 않으면 null
+    private final UserHistoryIndex index;
+    // 열 단위 저장소를 사용하지 않으면 null
+    private final ColumnarHistoryStore columnarStore;
+    // 잔액 기록을 사용하지 않으면 null
+    private final BalanceTimeline balanceTimeline;
+    private final PointMetrics metrics;
+
+    // 아래 필드는 비동기 모드에서만 사용
+    private final BlockingQueue<PointHistory> queue;
+    // 기록 대기 중인 내역 (key : 기록될 id)
+    private final ConcurrentSkipListMap<Long, PointHistory> pending = new ConcurrentSkipListMap<>();
+    private final Semaphore available = new Semaphore(0);
+    // id 발급과 큐 삽입 순서를 맞추기 위한 락
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    // 테이블 기록 순서를 맞추기 위한 락 (writer 스레드와 flush 하는 요청 스레드가 공유)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long sequence = 0;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public PointHistoryRepository(PointHistoryTable pointHistoryTable) {
+        this(pointHistoryTable, new PointProperties());
+    }
+
+    public PointHistoryRepository(PointHistoryTable pointHistoryTable, PointProperties properties) {
+        this(pointHistoryTable, properties, PointMetrics.noop());
+    }
+
+    @Autowired
+    public PointHistoryRepository(PointHistoryTable pointHistoryTable, PointProperties properties, PointMetrics metrics) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.metrics = metrics;
+
+        PointProperties.History history = properties.getHistory();
+        this.columnarStore = history.isColumnar() ? new ColumnarHistoryStore() : null;
+        // 열 단위 저장소는 자체적으로 사용자별 조회를 지원하고 기록도 빠르므로 큐와 색인을 쓰지 않는다.
+        this.async = columnarStore == null && history.isAsync();
+        this.overflowPolicy = history.getOverflowPolicy();
+        this.index = columnarStore == null && history.isIndexed() ? new UserHistoryIndex() : null;
+        this.balanceTimeline = history.isBalanceTimeline() ? new BalanceTimeline() : null;
+
+        if (async) {
+            this.queue = new ArrayBlockingQueue<>(history.getQueueCapacity());
+            metrics.registerHistoryQueue(queue);
+            this.writer = new Thread(this::runWriter, "point-history-writer");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        } else {
+            this.queue = null;
+            this.writer = null;
+        }
+    }
+
+    /**
+     * 포인트 히스토리 기록
+     * 비동기 모드에서는 큐에 넣고 바로 반환한다.
+     * @return 기록된(비동기 모드에서는 기록될) 히스토리
+     */
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        // 사용자별 기록 순서대로 호출되므로 누적 잔액도 그 순서로 쌓인다.
+        if (balanceTimeline != null) {
+            balanceTimeline.append(userId, amount, type, updateMillis);
+        }
+        if (columnarStore != null) {
+            long id = columnarStore.insert(userId, amount, type, updateMillis);
+            return new PointHistory(id, userId, amount, type, updateMillis);
+        }
+        if (!async) {
+            PointHistory history = insertIntoTable(userId, amount, type, updateMillis);
+            if (index != null) {
+                index.append(history);
+            }
+            return history;
+        }
+
+        enqueueLock.lock();
+        try {
+            // 테이블은 1부터 순서대로 id를 발급하고 writer만 기록하므로 기록될 id를 미리 알 수 있다.
+            PointHistory history = new PointHistory(++sequence, userId, amount, type, updateMillis);
+            pending.put(history.id(), history);
+            if (index != null) {
+                index.append(history);
+            }
+
+            if (queue.offer(history)) {
+                available.release();
+                return history;
+            }
+
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                try {
+                    queue.put(history);
+                    available.release();
+                    return history;
+                } catch (InterruptedException e) {
+                    // 내역이 유실되지 않도록 직접 기록한다.
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            // 큐 맨 앞의 내역을 직접 기록해 자리를 만든다. (enqueueLock 을 잡고 있으므로 다른 스레드가 끼어들지 않는다.)
+            while (!queue.offer(history)) {
+                writeLock.lock();
+                try {
+                    PointHistory head = queue.poll();
+                    if (head != null) {
+                        write(head);
+                    }
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+            available.release();
+            return history;
+        } finally {
+            enqueueLock.unlock();
+        }
+    }
+
+    /**
+     * 포인트 히스토리 조회
+     * @param userId 사용자 ID
+     * @return 기록 대기 중인 내역을 포함한 사용자의 히스토리 리스트
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        if (columnarStore != null) {
+            return columnarStore.selectAllByUserId(userId);
+        }
+        if (index != null) {
+            return index.selectAll(userId);
+        }
+        if (!async) {
+            return selectFromTable(userId);
+        }
+
+        // 대기 내역을 테이블보다 먼저 읽어야 그 사이에 기록된 내역이 빠지지 않는다.
+        List<PointHistory> snapshot = pending.values().stream()
+                .filter(history -> history.userId() == userId)
+                .toList();
+        List<PointHistory> written = selectFromTable(userId);
+        if (snapshot.isEmpty()) {
+            return written;
+        }
+
+        // 기록은 id 순서대로 이뤄지므로 마지막으로 읽힌 id 이후의 대기 내역만 합친다.
+        long lastWrittenId = written.isEmpty() ? 0 : written.get(written.size() - 1).id();
+        List<PointHistory> merged = new ArrayList<>(written);
+        for (PointHistory history : snapshot) {
+            if (history.id() > lastWrittenId) {
+                merged.add(history);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 히스토리 없이 복구된 잔액을 누적 잔액의 시작값으로 남긴다. (잔액 기록을 사용할 때만)
+     */
+    public void seedBalance(UserPoint userPoint) {
+        if (balanceTimeline != null) {
+            balanceTimeline.seed(userPoint.id(), userPoint.point(), userPoint.updateMillis());
+        }
+    }
+
+    /**
+     * atMillis 시각의 잔액 (그 시각까지 기록된 내역의 누적)
+     * 잔액 기록을 사용하지 않으면 사용자의 전체 내역을 더해서 구한다.
+     * 이때는 로그의 히스토리를 복구하지 않으면(replay-histories=false) 복구 이전 잔액이 빠지므로 잔액 기록을 함께 사용한다.
+     * @return 잔액과 마지막으로 반영된 내역의 시각 (반영된 내역이 없으면 잔액 0, 시각 0)
+     */
+    public UserPoint selectBalanceAt(long userId, long atMillis) {
+        if (balanceTimeline != null) {
+            return balanceTimeline.balanceAt(userId, atMillis);
+        }
+
+        long balance = 0;
+        long lastMillis = 0;
+        for (PointHistory history : selectAllByUserId(userId)) {
+            if (history.updateMillis() <= atMillis) {
+                balance += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+                lastMillis = Math.max(lastMillis, history.updateMillis());
+            }
+        }
+        return new UserPoint(userId, balance, lastMillis);
+    }
+
+    /**
+     * 포인트 히스토리 페이지 조회 (최신순)
+     * @param userId 사용자 ID
+     * @param beforeId 이 id 보다 작은 내역부터 조회한다.
+     * @param limit 최대 조회 건수
+     * @return 최신순으로 정렬된 히스토리 리스트
+     */
+    public List<PointHistory> selectPage(long userId, long beforeId, int limit) {
+        if (columnarStore != null) {
+            return columnarStore.selectPage(userId, beforeId, limit);
+        }
+        if (index != null) {
+            return index.selectPage(userId, beforeId, limit);
+        }
+
+        // 색인이 없으면 전체 내역에서 잘라낸다.
+        List<PointHistory> histories = selectAllByUserId(userId);
+        List<PointHistory> page = new ArrayList<>();
+        for (int i = histories.size() - 1; i >= 0 && page.size() < limit; i--) {
+            if (histories.get(i).id() < beforeId) {
+                page.add(histories.get(i));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 사용자의 전체 내역을 오래된 순으로 chunkSize 건씩 나눠 전달한다.
+     * 열 단위 저장소/색인 사용 시 chunk 단위로 읽으므로 내역 수와 관계없이 메모리 사용량이 일정하다.
+     * (테이블은 전체 조회만 지원하므로 한 번에 읽은 뒤 나눠서 전달한다.)
+     * consumer 가 예외를 던지면 (ex. 클라이언트 연결 종료) 그 자리에서 중단된다.
+     */
+    public void forEachByUserId(long userId, int chunkSize, Consumer<List<PointHistory>> consumer) {
+        if (columnarStore == null && index == null) {
+            List<PointHistory> histories = selectAllByUserId(userId);
+            for (int i = 0; i < histories.size(); i += chunkSize) {
+                consumer.accept(histories.subList(i, Math.min(histories.size(), i + chunkSize)));
+            }
+            return;
+        }
+
+        long afterId = 0;
+        while (true) {
+            List<PointHistory> chunk = columnarStore != null
+                    ? columnarStore.selectAfter(userId, afterId, chunkSize)
+                    : index.selectAfter(userId, afterId, chunkSize);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            consumer.accept(chunk);
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+    }
+
+    /**
+     * 큐에 쌓인 내역을 호출한 스레드에서 모두 기록한다.
+     */
+    public void flush() {
+        if (!async) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            drainQueue();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (!async) {
+            return;
+        }
+
+        running = false;
+        flush();
+        writer.join();
+    }
+
+    private void runWriter() {
+        while (running || !queue.isEmpty()) {
+            try {
+                if (!available.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            writeLock.lock();
+            try {
+                // flush 가 먼저 꺼내 갔을 수 있다.
+                PointHistory history = queue.poll();
+                if (history != null) {
+                    write(history);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    // writeLock 을 잡은 상태에서만 호출된다.
+    private void drainQueue() {
+        PointHistory history;
+        while ((history = queue.poll()) != null) {
+            write(history);
+        }
+    }
+
+    /**
+     * 이미 id 를 돌려준 내역이므로 실패하면 MAX_WRITE_ATTEMPTS 번까지 다시 시도하고,
+     * 끝내 기록하지 못했거나 id 가 어긋나면 point.history.write.failures 지표로 남긴다.
+     */
+    private void write(PointHistory source) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    PointHistory written = insertIntoTable(source.userId(), source.amount(), source.type(), source.updateMillis());
+                    if (written.id() != source.id()) {
+                        metrics.recordHistoryWriteFailure(PointMetrics.HistoryWriteFailure.ID_MISMATCH);
+                        log.warn("히스토리 id 불일치 - 예상: {}, 실제: {}", source.id(), written.id());
+                    }
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= MAX_WRITE_ATTEMPTS) {
+                        metrics.recordHistoryWriteFailure(PointMetrics.HistoryWriteFailure.ERROR);
+                        log.error("히스토리 기록 실패 ({}회 시도): {}", attempt, source, e);
+                        return;
+                    }
+                    log.warn("히스토리 기록 실패, 다시 시도 ({}/{}): {}", attempt, MAX_WRITE_ATTEMPTS, source, e);
+                }
+            }
+        } finally {
+            pending.remove(source.id());
+        }
+    }
+
+    private PointHistory insertIntoTable(long userId, long amount, TransactionType type, long updateMillis) {
+        long start = System.nanoTime();
+        PointHistory history = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        metrics.recordTableCall(PointMetrics.TableCall.POINT_HISTORY_INSERT, start);
+        return history;
+    }
+
+    private List<PointHistory> selectFromTable(long userId) {
+        long start = System.nanoTime();
+        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
+        metrics.recordTableCall(PointMetrics.TableCall.POINT_HISTORY_SELECT_ALL_BY_USER_ID, start);
+        return histories;
+    }
+}
@@ -0,0 +1,279 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 특정 시점(로그의 position 번째 레코드까지)의 전체 사용자 잔액
+ * - userId 오름차순으로 정렬된 배열로 보관하고 이진 탐색으로 조회한다. (변경 불가)
+ * - 파일 형식 : [magic 4][version 4][position 8][count 8][crc32c 4][padding 4] + [userId 8][point 8][updateMillis 8] * count
+ */
+public class PointSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshot.class);
+
+    private static final int HEADER_SIZE = 32;
+    private static final int ENTRY_SIZE = 24;
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final int VERSION = 1;
+    private static final int CHUNK_SIZE = ENTRY_SIZE * 64 * 1024;
+
+    private static final PointSnapshot EMPTY = new PointSnapshot(0, new long[0], new long[0], new long[0]);
+
+    private final long position;
+    private final long[] userIds;
+    private final long[] points;
+    private final long[] updateMillis;
+
+    /**
+     * @param position 반영된 마지막 로그 레코드 id
+     * @param userIds 오름차순으로 정렬된 사용자 ID
+     */
+    public PointSnapshot(long position, long[] userIds, long[] points, long[] updateMillis) {
+        this.position = position;
+        this.userIds = userIds;
+        this.points = points;
+        this.updateMillis = updateMillis;
+    }
+
+    public static PointSnapshot empty() {
+        return EMPTY;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+
+    /**
+     * @return 사용자의 잔액 (스냅샷에 없으면 null)
+     */
+    public UserPoint find(long userId) {
+        int index = indexOf(userId);
+        return index < 0 ? null : new UserPoint(userId, points[index], updateMillis[index]);
+    }
+
+    /**
+     * 모든 사용자의 잔액을 사용자 ID 순서로 전달한다.
+     */
+    public void forEach(Consumer<UserPoint> consumer) {
+        for (int i = 0; i < userIds.length; i++) {
+            consumer.accept(new UserPoint(userIds[i], points[i], updateMillis[i]));
+        }
+    }
+
+    /**
+     * @return 사용자의 위치 (0 ~ size() - 1, 스냅샷에 없으면 음수)
+     */
+    public int indexOf(long userId) {
+        return Arrays.binarySearch(userIds, userId);
+    }
+
+    /**
+     * 이후 로그 레코드의 변경분을 합친 새 스냅샷을 만든다.
+     */
+    public PointSnapshot merge(Changes changes) {
+        if (changes.position <= position) {
+            return this;
+        }
+
+        long[] changedIds = changes.balances.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int added = 0;
+        for (long userId : changedIds) {
+            if (Arrays.binarySearch(userIds, userId) < 0) {
+                added++;
+            }
+        }
+
+        int size = userIds.length + added;
+        long[] mergedIds = new long[size];
+        long[] mergedPoints = new long[size];
+        long[] mergedMillis = new long[size];
+
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < size; k++) {
+            if (j == changedIds.length || (i < userIds.length && userIds[i] < changedIds[j])) {
+                mergedIds[k] = userIds[i];
+                mergedPoints[k] = points[i];
+                mergedMillis[k] = updateMillis[i++];
+                continue;
+            }
+
+            long userId = changedIds[j++];
+            long[] change = changes.balances.get(userId);
+            boolean existing = i < userIds.length && userIds[i] == userId;
+            // 비움 기록 이후의 변경분은 기존 잔액을 대신한다.
+            boolean kept = existing && change[2] == 0;
+            mergedIds[k] = userId;
+            mergedPoints[k] = (kept ? points[i] : 0) + change[0];
+            mergedMillis[k] = Math.max(kept ? updateMillis[i] : 0, change[1]);
+            if (existing) {
+                i++;
+            }
+        }
+
+        return new PointSnapshot(changes.position, mergedIds, mergedPoints, mergedMillis);
+    }
+
+    /**
+     * 임시 파일에 기록한 뒤 교체하므로 기록 도중 중단되어도 이전 스냅샷이 남는다.
+     */
+    public void write(Path path) {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                CRC32C crc = new CRC32C();
+                ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+                long offset = HEADER_SIZE;
+                for (int i = 0; i < userIds.length; i++) {
+                    buffer.putLong(userIds[i]).putLong(points[i]).putLong(updateMillis[i]);
+                    if (!buffer.hasRemaining() || i == userIds.length - 1) {
+                        buffer.flip();
+                        crc.update(buffer.duplicate());
+                        offset += writeFully(channel, buffer, offset);
+                        buffer.clear();
+                    }
+                }
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putLong(position).putLong(userIds.length).putInt((int) crc.getValue());
+                header.clear();
+                writeFully(channel, header, 0);
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 기록할 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * @return 스냅샷 (파일이 없거나 손상되었으면 empty)
+     */
+    public static Optional<PointSnapshot> read(Path path) {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                log.warn("스냅샷 파일 형식이 아닙니다: {}", path);
+                return Optional.empty();
+            }
+            long position = header.getLong();
+            long count = header.getLong();
+            int expectedCrc = header.getInt();
+            if (count < 0 || count > Integer.MAX_VALUE || channel.size() != HEADER_SIZE + count * ENTRY_SIZE) {
+                log.warn("스냅샷 크기가 맞지 않습니다: {}", path);
+                return Optional.empty();
+            }
+
+            int size = (int) count;
+            long[] userIds = new long[size];
+            long[] points = new long[size];
+            long[] updateMillis = new long[size];
+            CRC32C crc = new CRC32C();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            long offset = HEADER_SIZE;
+            int index = 0;
+            while (index < size) {
+                buffer.clear().limit((int) Math.min(CHUNK_SIZE, (long) (size - index) * ENTRY_SIZE));
+                offset += readFully(channel, buffer, offset);
+                buffer.flip();
+                crc.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    userIds[index] = buffer.getLong();
+                    points[index] = buffer.getLong();
+                    updateMillis[index++] = buffer.getLong();
+                }
+            }
+
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("스냅샷이 손상되었습니다: {}", path);
+                return Optional.empty();
+            }
+            return Optional.of(new PointSnapshot(position, userIds, points, updateMillis));
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private static int writeFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, offset + written);
+        }
+        return written;
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, offset + read);
+            if (n < 0) {
+                throw new IOException("파일이 예상보다 짧습니다.");
+            }
+            read += n;
+        }
+        return read;
+    }
+
+    /**
+     * 스냅샷 이후 로그 레코드로 누적한 사용자별 변경분 (잔액 증감, 마지막 시각, 비움 여부)
+     */
+    public static class Changes {
+        private final Map<Long, long[]> balances = new HashMap<>();
+        private long position;
+
+        public Changes(long position) {
+            this.position = position;
+        }
+
+        public void apply(PointHistory history) {
+            long[] balance = balances.computeIfAbsent(history.userId(), k -> new long[3]);
+            if (PointWriteAheadLog.isTombstone(history)) {
+                // 이전 변경분과 스냅샷의 잔액을 모두 버린다.
+                balance[0] = 0;
+                balance[2] = 1;
+            } else {
+                balance[0] += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+            }
+            balance[1] = Math.max(balance[1], history.updateMillis());
+            position = Math.max(position, history.id());
+        }
+
+        public long position() {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 충전/사용 내역을 파일에 순서대로 덧붙이는 로그 (Write-Ahead Log)
+ * - 파일을 segmentSize 단위로 메모리에 매핑하고, 고정 크기(32바이트) 레코드를 이어서 기록한다.
+ *   [userId 8][amount 8][updateMillis 8][type 1][pair 1][padding 2][crc32c 4]
+ * - 디스크 반영(fsync)은 syncBatchSize 건마다, 또는 syncInterval 마다 묶어서 처리한다.
+ *   장애 시 마지막 반영 이후의 기록은 유실될 수 있다.
+ * - 파일을 열 때 replayFrom 이후의 기록을 전달하고, crc 가 맞지 않는 레코드(기록 도중 중단된 부분)를 끝으로 본다.
+ *   레코드 id 는 1부터 기록 순서이며 파일 위치로 바로 계산된다.
+ * - 사용자 비움 기록(tombstone)은 그 사용자의 이전 기록을 모두 무효로 한다. (다른 노드로 넘겨주거나 넘겨받을 때)
+ *   복구/읽기에서는 type 이 null 인 기록으로 전달된다. (isTombstone)
+ * - 이체는 두 레코드(보내는 쪽, 받는 쪽)를 짝으로 표시해 기록하고, 복구 시 두 번째 레코드까지 온전해야 둘 다 전달한다.
+ *   두 번째 레코드가 없거나 훼손되었으면 첫 번째 레코드부터 기록 도중 중단된 것으로 본다.
+ */
+public class PointWriteAheadLog implements AutoCloseable {
+
+    static final int RECORD_SIZE = 32;
+    // 헤더도 레코드 한 칸을 사용해 세그먼트 안의 레코드가 경계에 걸치지 않도록 한다.
+    private static final int HEADER_SIZE = RECORD_SIZE;
+    private static final int CRC_OFFSET = RECORD_SIZE - Integer.BYTES;
+    private static final int MAGIC = 0x5057414C; // "PWAL"
+    private static final int VERSION = 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final byte TOMBSTONE = Byte.MAX_VALUE;
+    private static final int PAIR_OFFSET = 25;
+    // 짝 표시: 단독 기록, 이체의 첫 번째, 이체의 두 번째 (첫 번째만으로는 복구하지 않음)
+    private static final byte SINGLE = 0;
+    private static final byte PAIR_FIRST = 1;
+    private static final byte PAIR_SECOND = 2;
+
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final int syncBatchSize;
+    private final ScheduledExecutorService syncer;
+
+    // 아래 필드는 lock 을 잡은 상태에서만 변경한다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final ByteBuffer record = ByteBuffer.wrap(scratch);
+    private final CRC32C crc = new CRC32C();
+    private MappedByteBuffer segment;
+    private long segmentOffset;
+    private int position;
+    private int syncedPosition;
+    private int unsynced;
+    private long records;
+    private boolean closed;
+
+    /**
+     * @param path 로그 파일 경로 (없으면 생성)
+     * @param segmentSize 한 번에 매핑할 크기 (레코드 크기의 배수로 내림)
+     * @param syncBatchSize 이 건수만큼 쌓이면 기록한 스레드가 바로 fsync 한다.
+     * @param syncInterval 주기적으로 fsync 하는 간격 (0 이면 주기 반영 없음)
+     * @param replay 기존 기록을 순서대로 전달받는다. (id 는 1부터 기록 순서)
+     */
+    public PointWriteAheadLog(Path path, long segmentSize, int syncBatchSize, Duration syncInterval,
+                              Consumer<PointHistory> replay) {
+        this(path, segmentSize, syncBatchSize, syncInterval, 0, replay);
+    }
+
+    /**
+     * @param replayFrom 이 id 까지의 기록은 읽지 않고 건너뛴다. (스냅샷에 반영된 기록)
+     */
+    public PointWriteAheadLog(Path path, long segmentSize, int syncBatchSize, Duration syncInterval,
+                              long replayFrom, Consumer<PointHistory> replay) {
+        if (segmentSize < HEADER_SIZE + RECORD_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentSize 는 " + (HEADER_SIZE + RECORD_SIZE) + " 이상 2GB 미만이어야 합니다.");
+        }
+        this.segmentSize = (int) (segmentSize - segmentSize % RECORD_SIZE);
+        this.syncBatchSize = Math.max(1, syncBatchSize);
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            recover(replayFrom, replay);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 파일을 열 수 없습니다: " + path, e);
+        }
+
+        if (syncInterval.isZero() || syncInterval.isNegative()) {
+            this.syncer = null;
+        } else {
+            this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "point-wal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.syncer.scheduleWithFixedDelay(this::sync, syncInterval.toNanos(), syncInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 충전/사용 내역 한 건을 덧붙인다.
+     * syncBatchSize 에 도달하면 호출한 스레드가 fsync 까지 처리한다.
+     */
+    public void append(long userId, TransactionType type, long amount, long updateMillis) {
+        append(userId, amount, updateMillis, (byte) type.ordinal());
+    }
+
+    /**
+     * 사용자의 이전 기록을 모두 무효로 하는 비움 기록을 덧붙인다.
+     * 복구 시 이 사용자의 잔액은 이 기록 이후의 내역만으로 계산하고, 히스토리도 이후의 것만 남긴다.
+     */
+    public void appendTombstone(long userId, long updateMillis) {
+        append(userId, 0L, updateMillis, TOMBSTONE);
+    }
+
+    /**
+     * 복구/읽기로 전달된 기록이 사용자 비움 기록인지 확인한다.
+     */
+    public static boolean isTombstone(PointHistory record) {
+        return record.type() == null;
+    }
+
+    /**
+     * 이체 한 건의 양쪽 내역(보내는 쪽 사용, 받는 쪽 충전)을 한 번에 덧붙인다.
+     * 두 레코드를 한 번의 락 안에서 연달아 기록하므로 사이에 다른 기록이 끼어들지 않고, fsync 도 한 번만 판단한다.
+     * 짝으로 표시해 두므로 한쪽만 남은 채 중단되면 복구 시 양쪽 모두 버려진다.
+     */
+    public void appendTransfer(long fromUserId, long toUserId, long amount, long fromUpdateMillis, long toUpdateMillis) {
+        boolean syncNow;
+        lock.lock();
+        try {
+            ensureOpen();
+            put(fromUserId, amount, fromUpdateMillis, (byte) TransactionType.USE.ordinal(), PAIR_FIRST);
+            syncNow = put(toUserId, amount, toUpdateMillis, (byte) TransactionType.CHARGE.ordinal(), PAIR_SECOND);
+        } finally {
+            lock.unlock();
+        }
+
+        if (syncNow) {
+            sync();
+        }
+    }
+
+    private void append(long userId, long amount, long updateMillis, byte type) {
+        boolean syncNow;
+        lock.lock();
+        try {
+            ensureOpen();
+            syncNow = put(userId, amount, updateMillis, type, SINGLE);
+        } finally {
+            lock.unlock();
+        }
+
+        if (syncNow) {
+            sync();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 로그입니다.");
+        }
+    }
+
+    // 락을 잡은 상태에서 레코드 한 건을 기록하고, fsync 할 때가 되었는지 돌려준다.
+    private boolean put(long userId, long amount, long updateMillis, byte type, byte pair) {
+        if (position == segmentSize) {
+            nextSegment();
+        }
+
+        record.clear();
+        record.putLong(userId).putLong(amount).putLong(updateMillis).put(type).put(pair).putShort((short) 0);
+        crc.reset();
+        crc.update(scratch, 0, CRC_OFFSET);
+        record.putInt(CRC_OFFSET, (int) crc.getValue());
+        segment.put(position, scratch);
+
+        position += RECORD_SIZE;
+        records++;
+        return ++unsynced >= syncBatchSize;
+    }
+
+    /**
+     * 아직 디스크에 반영되지 않은 기록을 fsync 한다.
+     * 기록 중인 스레드를 막지 않도록 범위만 정하고 락 밖에서 반영한다.
+     */
+    public void sync() {
+        MappedByteBuffer target;
+        int from;
+        int to;
+        lock.lock();
+        try {
+            if (closed || unsynced == 0) {
+                return;
+            }
+            target = segment;
+            from = syncedPosition;
+            to = position;
+            syncedPosition = position;
+            unsynced = 0;
+        } finally {
+            lock.unlock();
+        }
+        target.force(from, to - from);
+    }
+
+    /**
+     * 지금까지 기록된 레코드 수 (다시 연 경우 기존 기록 포함)
+     */
+    public long records() {
+        lock.lock();
+        try {
+            return records;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 이미 기록된 레코드를 읽는다. 기록과 동시에 호출해도 되며 기록 중인 스레드를 막지 않는다.
+     * @param fromId 이 id 보다 큰 레코드부터
+     * @param toId 이 id 까지 (records() 이하)
+     */
+    public void read(long fromId, long toId, Consumer<PointHistory> consumer) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 32 * 1024);
+        long id = fromId;
+        try {
+            while (id < toId) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), (toId - id) * RECORD_SIZE));
+                long offset = offsetOf(id + 1);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) < 0) {
+                        throw new IllegalStateException("로그가 예상보다 짧습니다.");
+                    }
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    int base = buffer.position();
+                    consumer.accept(decode(++id, buffer.getLong(base), buffer.getLong(base + 8),
+                            buffer.get(base + 24), buffer.getLong(base + 16)));
+                    buffer.position(base + RECORD_SIZE);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그를 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (syncer != null) {
+            syncer.shutdownNow();
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            segment.force();
+            closed = true;
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 생성자에서만 호출된다.
+    private void recover(long replayFrom, Consumer<PointHistory> replay) throws IOException {
+        long fileSize = channel.size();
+        segment = map(0);
+        if (fileSize == 0) {
+            segment.putInt(0, MAGIC).putInt(Integer.BYTES, VERSION);
+            segment.force();
+        } else if (segment.getInt(0) != MAGIC || segment.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalStateException("포인트 로그 파일이 아닙니다.");
+        }
+
+        CRC32C check = new CRC32C();
+        position = HEADER_SIZE;
+        if (replayFrom > 0) {
+            // 건너뛸 마지막 레코드가 온전해야 그 이후부터 이어서 읽을 수 있다.
+            long offset = offsetOf(replayFrom);
+            segmentOffset = offset - offset % segmentSize;
+            segment = map(segmentOffset);
+            segment.get((int) (offset - segmentOffset), scratch);
+            check.update(scratch, 0, CRC_OFFSET);
+            if (offset + RECORD_SIZE > fileSize || record.getInt(CRC_OFFSET) != (int) check.getValue()) {
+                throw new IllegalStateException("로그에 " + replayFrom + "번째 기록이 없습니다. (스냅샷보다 로그가 짧음)");
+            }
+            position = (int) (offset - segmentOffset) + RECORD_SIZE;
+            records = replayFrom;
+        }
+
+        // 짝의 두 번째 레코드를 확인하기 전까지 보류한 이체의 첫 번째 레코드와 그 위치
+        PointHistory pending = null;
+        long pendingSegmentOffset = 0;
+        int pendingPosition = 0;
+        while (true) {
+            if (position == segmentSize) {
+                // 다음 세그먼트가 파일에 없으면 여기가 끝이다. (다음 기록 시 매핑)
+                if (segmentOffset + segmentSize >= fileSize) {
+                    break;
+                }
+                segmentOffset += segmentSize;
+                segment = map(segmentOffset);
+                position = 0;
+            }
+
+            segment.get(position, scratch);
+            check.reset();
+            check.update(scratch, 0, CRC_OFFSET);
+            byte pair = record.get(PAIR_OFFSET);
+            if (record.getInt(CRC_OFFSET) != (int) check.getValue() || (pending == null) == (pair == PAIR_SECOND)) {
+                break;
+            }
+
+            PointHistory decoded = decode(++records, record.getLong(0), record.getLong(8), record.get(24), record.getLong(16));
+            if (pair == PAIR_FIRST) {
+                pending = decoded;
+                pendingSegmentOffset = segmentOffset;
+                pendingPosition = position;
+            } else {
+                if (pending != null) {
+                    replay.accept(pending);
+                    pending = null;
+                }
+                replay.accept(decoded);
+            }
+            position += RECORD_SIZE;
+        }
+
+        if (pending != null) {
+            // 이체의 한쪽만 남았으므로 첫 번째 레코드부터 기록 도중 중단된 것으로 본다.
+            records--;
+            if (segmentOffset != pendingSegmentOffset) {
+                segmentOffset = pendingSegmentOffset;
+                segment = map(segmentOffset);
+            }
+            position = pendingPosition;
+        }
+
+        // 끝 이후에 남은 (기록 도중 중단된) 내용이 다음 복구 때 읽히지 않도록 지운다.
+        byte[] empty = new byte[RECORD_SIZE];
+        for (int i = position; i < segmentSize; i += RECORD_SIZE) {
+            segment.put(i, empty);
+        }
+        segment.force();
+        channel.truncate(segmentOffset + segmentSize);
+        syncedPosition = position;
+    }
+
+    // lock 을 잡은 상태에서만 호출된다.
+    private void nextSegment() {
+        segment.force();
+        segmentOffset += segmentSize;
+        try {
+            segment = map(segmentOffset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 파일을 확장할 수 없습니다.", e);
+        }
+        position = 0;
+        syncedPosition = 0;
+        unsynced = 0;
+    }
+
+    private static PointHistory decode(long id, long userId, long amount, byte type, long updateMillis) {
+        return new PointHistory(id, userId, amount, type == TOMBSTONE ? null : TYPES[type], updateMillis);
+    }
+
+    private static long offsetOf(long id) {
+        return HEADER_SIZE + (id - 1) * RECORD_SIZE;
+    }
+
+    private MappedByteBuffer map(long offset) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, offset, segmentSize);
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 포인트 히스토리 색인
+ * 전체 히스토리를 훑지 않고 해당 사용자의 내역만으로 조회한다.
+ * 사용자별 내역은 id 오름차순으로 추가된다고 가정한다. (히스토리 기록은 사용자 락 또는 기록 순서 락 안에서 이뤄진다.)
+ */
+public class UserHistoryIndex {
+
+    private final ConcurrentHashMap<Long, UserHistories> index = new ConcurrentHashMap<>();
+
+    public void append(PointHistory history) {
+        index.computeIfAbsent(history.userId(), k -> new UserHistories()).append(history);
+    }
+
+    /**
+     * 사용자의 전체 내역 (오래된 순)
+     */
+    public List<PointHistory> selectAll(long userId) {
+        UserHistories histories = index.get(userId);
+        return histories == null ? List.of() : histories.all();
+    }
+
+    /**
+     * beforeId 보다 작은 id 의 내역을 최신순으로 최대 limit 건 조회한다.
+     */
+    public List<PointHistory> selectPage(long userId, long beforeId, int limit) {
+        UserHistories histories = index.get(userId);
+        return histories == null ? List.of() : histories.page(beforeId, limit);
+    }
+
+    /**
+     * afterId 보다 큰 id 의 내역을 오래된 순으로 최대 limit 건 조회한다.
+     */
+    public List<PointHistory> selectAfter(long userId, long afterId, int limit) {
+        UserHistories histories = index.get(userId);
+        return histories == null ? List.of() : histories.after(afterId, limit);
+    }
+
+    private static class UserHistories {
+        private final List<PointHistory> items = new ArrayList<>();
+
+        private synchronized void append(PointHistory history) {
+            items.add(history);
+        }
+
+        private synchronized List<PointHistory> all() {
+            return List.copyOf(items);
+        }
+
+        private synchronized List<PointHistory> page(long beforeId, int limit) {
+            int end = lowerBound(beforeId);
+            int start = Math.max(0, end - limit);
+
+            List<PointHistory> page = new ArrayList<>(end - start);
+            for (int i = end - 1; i >= start; i--) {
+                page.add(items.get(i));
+            }
+            return page;
+        }
+
+        private synchronized List<PointHistory> after(long afterId, int limit) {
+            int start = afterId == Long.MAX_VALUE ? items.size() : lowerBound(afterId + 1);
+            int end = (int) Math.min(items.size(), (long) start + limit);
+            return List.copyOf(items.subList(start, end));
+        }
+
+        // id 가 beforeId 이상인 첫 위치 (이진 탐색)
+        private int lowerBound(long beforeId) {
+            int low = 0;
+            int high = items.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (items.get(mid).id() < beforeId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
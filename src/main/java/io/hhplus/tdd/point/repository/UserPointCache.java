@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기가 제한된 사용자 포인트 캐시 (LRU)
+ * 락 경합을 줄이기 위해 여러 구역(segment)으로 나누고, 구역마다 가장 오래 사용되지 않은 항목부터 제거한다.
+ * 구역마다 변경 횟수(version)를 세어, 테이블을 읽는 사이 변경이 있었다면 읽어온 값으로 채우지 않는다.
+ */
+public class UserPointCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserPointCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다.");
+        }
+
+        int segmentCount = maxEntries < SEGMENT_COUNT ? 1 : SEGMENT_COUNT;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxEntries / segmentCount);
+        }
+    }
+
+    public UserPoint get(long userId) {
+        Segment segment = segmentOf(userId);
+        UserPoint userPoint;
+        synchronized (segment) {
+            userPoint = segment.get(userId);
+        }
+
+        if (userPoint == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 포인트 변경 시 호출한다. (write-through)
+     */
+    public void put(UserPoint userPoint) {
+        Segment segment = segmentOf(userPoint.id());
+        synchronized (segment) {
+            segment.version++;
+            segment.put(userPoint.id(), userPoint);
+        }
+    }
+
+    /**
+     * 테이블을 읽기 직전에 호출해 사용자가 속한 구역의 변경 횟수를 얻는다. (fill 에 전달)
+     */
+    public long version(long userId) {
+        Segment segment = segmentOf(userId);
+        synchronized (segment) {
+            return segment.version;
+        }
+    }
+
+    /**
+     * 테이블에서 읽어온 값을 채운다.
+     * 읽는 사이 같은 구역에 변경(put)이 있었다면, 변경된 값이 이미 제거되었더라도 읽어온 값이 오래되었을 수 있으므로 채우지 않는다.
+     * @param version 테이블을 읽기 전에 version() 으로 얻은 값
+     */
+    public void fill(UserPoint userPoint, long version) {
+        Segment segment = segmentOf(userPoint.id());
+        synchronized (segment) {
+            if (segment.version == version) {
+                segment.putIfAbsent(userPoint.id(), userPoint);
+            }
+        }
+    }
+
+    public double hits() {
+        return hits.sum();
+    }
+
+    public double misses() {
+        return misses.sum();
+    }
+
+    public double evictions() {
+        return evictions.sum();
+    }
+
+    public Stats stats() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Segment segmentOf(long userId) {
+        int hash = Long.hashCode(userId);
+        return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    public record Stats(
+            long hits,
+            long misses,
+            long evictions,
+            long size
+    ) {
+    }
+
+    private class Segment extends LinkedHashMap<Long, UserPoint> {
+        private final int capacity;
+        // 이 구역에 변경(put)이 반영된 횟수
+        private long version;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
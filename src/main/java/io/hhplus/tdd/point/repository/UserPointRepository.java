@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자 포인트 기록/조회를 담당한다.
+ * 캐시 사용 시 포인트 변경은 테이블과 캐시에 함께 반영하고(write-through), 조회는 캐시에 있으면 테이블을 거치지 않는다.
+ * 포인트 변경은 모두 PointService 를 거치므로 캐시가 테이블보다 오래된 값을 갖지 않는다.
+ * 조회 미스로 채울 때는 테이블을 읽는 사이 변경이 있었는지 확인해 오래된 값을 채우지 않는다.
+ * 재시작 시 복구한 잔액(restore)은 테이블에 한꺼번에 넣지 않고, 재시작 후 처음 변경될 때까지 복구한 값으로 응답한다.
+ * 변경된 사용자는 스냅샷 위치별 비트로 표시하므로 추가 메모리가 스냅샷 크기를 넘지 않고,
+ * 복구한 사용자가 모두 변경되면 스냅샷과 함께 놓아준다.
+ */
+@Component
+public class UserPointRepository {
+
+    private final UserPointTable userPointTable;
+    // 캐시를 사용하지 않으면 null
+    private final UserPointCache cache;
+    private final PointMetrics metrics;
+
+    // 복구한 잔액과, 재시작 후 테이블에 새로 기록된 사용자 (복구하지 않았거나 모두 새로 기록되었으면 null)
+    private volatile Restored restored;
+
+    public UserPointRepository(UserPointTable userPointTable) {
+        this(userPointTable, new PointProperties());
+    }
+
+    public UserPointRepository(UserPointTable userPointTable, PointProperties properties) {
+        this(userPointTable, properties, PointMetrics.noop());
+    }
+
+    @Autowired
+    public UserPointRepository(UserPointTable userPointTable, PointProperties properties, PointMetrics metrics) {
+        this.userPointTable = userPointTable;
+        this.metrics = metrics;
+
+        PointProperties.Cache cache = properties.getCache();
+        this.cache = cache.isEnabled() ? new UserPointCache(cache.getMaxEntries()) : null;
+        if (this.cache != null) {
+            metrics.registerUserPointCache(this.cache);
+        }
+    }
+
+    public UserPoint selectById(long userId) {
+        if (cache == null) {
+            return selectFromTable(userId);
+        }
+
+        UserPoint cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = cache.version(userId);
+        UserPoint userPoint = selectFromTable(userId);
+        if (userPoint != null) {
+            cache.fill(userPoint, version);
+        }
+        return userPoint;
+    }
+
+    public UserPoint insertOrUpdate(long userId, long amount) {
+        long start = System.nanoTime();
+        UserPoint userPoint = userPointTable.insertOrUpdate(userId, amount);
+        metrics.recordTableCall(PointMetrics.TableCall.USER_POINT_INSERT_OR_UPDATE, start);
+        Restored current = restored;
+        if (current != null && current.markRewritten(userId)) {
+            restored = null;
+        }
+        if (cache != null) {
+            cache.put(userPoint);
+        }
+        return userPoint;
+    }
+
+    /**
+     * 재시작 시 복구한 잔액을 등록한다. (요청을 받기 전에 호출)
+     */
+    public void restore(PointSnapshot snapshot) {
+        this.restored = snapshot.size() == 0 ? null : new Restored(snapshot);
+    }
+
+    /**
+     * 아직 테이블에 새로 기록되지 않아 복구한 값으로 응답하는 사용자 수
+     */
+    public int restoredRemaining() {
+        Restored current = restored;
+        return current == null ? 0 : current.remaining.get();
+    }
+
+    /**
+     * 캐시 적중/미스/제거 통계 (캐시를 사용하지 않으면 empty)
+     * 같은 값을 point.cache.* 지표로도 내보낸다. (PointMetrics)
+     */
+    public Optional<UserPointCache.Stats> cacheStats() {
+        return Optional.ofNullable(cache).map(UserPointCache::stats);
+    }
+
+    private UserPoint selectFromTable(long userId) {
+        Restored current = restored;
+        if (current != null) {
+            UserPoint userPoint = current.find(userId);
+            if (userPoint != null) {
+                return userPoint;
+            }
+        }
+
+        long start = System.nanoTime();
+        UserPoint userPoint = userPointTable.selectById(userId);
+        metrics.recordTableCall(PointMetrics.TableCall.USER_POINT_SELECT_BY_ID, start);
+        return userPoint;
+    }
+
+    /**
+     * 복구한 스냅샷과, 스냅샷 위치별로 재시작 후 테이블에 새로 기록되었는지 표시한 비트
+     */
+    private static class Restored {
+        private final PointSnapshot snapshot;
+        private final AtomicLongArray rewritten;
+        private final AtomicInteger remaining;
+
+        private Restored(PointSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.rewritten = new AtomicLongArray((snapshot.size() + Long.SIZE - 1) / Long.SIZE);
+            this.remaining = new AtomicInteger(snapshot.size());
+        }
+
+        private UserPoint find(long userId) {
+            int index = snapshot.indexOf(userId);
+            if (index < 0 || (rewritten.get(index / Long.SIZE) & (1L << index)) != 0) {
+                return null;
+            }
+            return snapshot.find(userId);
+        }
+
+        /**
+         * @return 복구한 사용자가 모두 새로 기록되었으면 true
+         */
+        private boolean markRewritten(long userId) {
+            int index = snapshot.indexOf(userId);
+            if (index < 0) {
+                return false;
+            }
+            long bit = 1L << index;
+            long previous = rewritten.getAndAccumulate(index / Long.SIZE, bit, (word, mask) -> word | mask);
+            return (previous & bit) == 0 && remaining.decrementAndGet() == 0;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 잔액과 최근 히스토리를 같은 시점으로 묶은 불변 뷰(UserPointView)를 보관한다.
+ * - 기록하는 쪽은 잔액과 히스토리를 모두 기록한 뒤 새 뷰를 만들어 한 번에 교체(publish)한다. (버전 1 증가)
+ * - 조회는 보관된 뷰를 그대로 돌려주므로 사용자 락 없이도 잔액과 최근 히스토리가 항상 일치한다.
+ * - 기록하는 쪽은 기록 전에 저장소에서 읽은 뷰를 보관해 두므로(open) 기록 도중의 값으로 뷰가 만들어지지 않는다.
+ * - 뷰가 없는 사용자를 조회하면 저장소에서 읽은 버전 0 의 뷰를 돌려주되 보관하지는 않는다.
+ *   읽는 사이 같은 구역에서 뷰가 제거되었다면 그 사용자의 기록이 끝난 뒤 제거되었을 수 있으므로 다시 읽는다.
+ * - publish/reload 는 사용자별로 한 번에 하나만 호출되어야 한다. (사용자 락, 샤드 스레드 등으로 보장)
+ * - 보관하는 뷰 수는 maxEntries 로 제한하고, 구역(segment)마다 가장 오래 사용되지 않은 뷰부터 제거한다. (UserPointCache 와 같음)
+ *   기록 중인(open 이후 publish 전) 사용자의 뷰는 제거하지 않는다.
+ * - 기록 도중 실패하면 abort 로 저장소 값의 뷰로 바꿔 기록 전의 뷰가 고정된 채 남지 않게 한다.
+ */
+public class UserPointViewStore {
+
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final int recentSize;
+
+    private final Segment[] segments;
+
+    public UserPointViewStore(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                              int recentSize) {
+        this(userPointRepository, pointHistoryRepository, recentSize, DEFAULT_MAX_ENTRIES);
+    }
+
+    public UserPointViewStore(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                              int recentSize, int maxEntries) {
+        if (recentSize < 1) {
+            throw new IllegalArgumentException("최근 히스토리 건수는 1 이상이어야 합니다.");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("뷰 최대 보관 수는 0보다 커야 합니다.");
+        }
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.recentSize = recentSize;
+
+        int segmentCount = maxEntries < SEGMENT_COUNT ? 1 : SEGMENT_COUNT;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxEntries / segmentCount);
+        }
+    }
+
+    /**
+     * 현재 뷰 (보관된 뷰가 없으면 저장소에서 읽어서 만들고, 보관하지 않는다)
+     */
+    public UserPointView get(long userId) {
+        Segment segment = segmentOf(userId);
+        while (true) {
+            long removals;
+            synchronized (segment) {
+                Entry entry = segment.get(userId);
+                if (entry != null) {
+                    return entry.view;
+                }
+                removals = segment.removals;
+            }
+
+            UserPointView loaded = load(userId);
+            synchronized (segment) {
+                // 읽는 사이 기록이 시작되었으면 그 기록 이전 시점의 뷰가 보관되어 있다.
+                Entry entry = segment.get(userId);
+                if (entry != null) {
+                    return entry.view;
+                }
+                if (segment.removals == removals) {
+                    return loaded;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 보관된 뷰 (없으면 null - 저장소를 읽지 않는다)
+     */
+    public UserPointView find(long userId) {
+        Segment segment = segmentOf(userId);
+        synchronized (segment) {
+            Entry entry = segment.get(userId);
+            return entry != null ? entry.view : null;
+        }
+    }
+
+    /**
+     * 잔액/히스토리를 기록하기 전에 호출해 기록 이전 시점의 뷰를 보관해 둔다. (publish/reload 전까지 제거하지 않음)
+     */
+    public void open(long userId) {
+        Segment segment = segmentOf(userId);
+        synchronized (segment) {
+            Entry entry = segment.get(userId);
+            if (entry != null) {
+                entry.open = true;
+                return;
+            }
+        }
+
+        // 기록은 사용자별로 하나씩 이뤄지므로 구역 락 밖에서 읽어도 다른 기록과 겹치지 않는다.
+        UserPointView loaded = load(userId);
+        synchronized (segment) {
+            // 넣는 순간부터 제거 대상이 되지 않도록 기록 중으로 표시한 채 넣는다.
+            segment.computeIfAbsent(userId, id -> new Entry(loaded, true));
+        }
+    }
+
+    /**
+     * @param history 기록된 히스토리 (기록에 실패했으면 null)
+     */
+    public void publish(UserPoint afterPoint, PointHistory history) {
+        publish(afterPoint, history == null ? List.of() : List.of(history));
+    }
+
+    /**
+     * 기록을 마친 잔액과 그 사이 기록된 히스토리(기록 순)로 새 뷰를 만들어 교체한다.
+     */
+    public void publish(UserPoint afterPoint, List<PointHistory> histories) {
+        long userId = afterPoint.id();
+        UserPointView current = find(userId);
+        if (current == null) {
+            current = load(userId);
+        }
+        List<PointHistory> previous = current.recentHistories();
+
+        // 새 히스토리를 최신순으로 앞에 두고, 남는 자리만큼 이전 히스토리를 잇는다.
+        int added = Math.min(histories.size(), recentSize);
+        PointHistory[] recent = new PointHistory[Math.min(recentSize, added + previous.size())];
+        for (int i = 0; i < added; i++) {
+            recent[i] = histories.get(histories.size() - 1 - i);
+        }
+        for (int i = added; i < recent.length; i++) {
+            recent[i] = previous.get(i - added);
+        }
+        store(new UserPointView(current.version() + 1, afterPoint, List.of(recent)));
+    }
+
+    /**
+     * 저장소 값으로 뷰를 다시 만든다. (다른 노드에서 사용자를 넘겨받은 경우 등)
+     */
+    public void reload(long userId) {
+        UserPointView current = find(userId);
+        UserPointView loaded = load(userId);
+        if (current != null) {
+            loaded = new UserPointView(current.version() + 1, loaded.userPoint(), loaded.recentHistories());
+        }
+        store(loaded);
+    }
+
+    /**
+     * 기록 도중 실패했을 때 호출해 open 으로 보관해 둔 뷰를 저장소 값으로 다시 만든다. (예외를 던지지 않는다)
+     * 저장소를 읽지 못하면 보관한 뷰를 버려 다음 조회가 저장소에서 다시 읽게 한다. 어느 쪽이든 다시 제거 대상이 된다.
+     */
+    public void abort(long userId) {
+        try {
+            reload(userId);
+        } catch (RuntimeException e) {
+            Segment segment = segmentOf(userId);
+            synchronized (segment) {
+                if (segment.remove(userId) != null) {
+                    segment.removals++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 보관 중인 뷰의 수
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    // 기록이 끝난 뷰로 교체한다. (다시 제거 대상이 된다)
+    private void store(UserPointView view) {
+        Segment segment = segmentOf(view.userPoint().id());
+        synchronized (segment) {
+            segment.put(view.userPoint().id(), new Entry(view, false));
+        }
+    }
+
+    private UserPointView load(long userId) {
+        UserPoint userPoint = userPointRepository.selectById(userId);
+        List<PointHistory> recent = pointHistoryRepository.selectPage(userId, Long.MAX_VALUE, recentSize);
+        return new UserPointView(0, userPoint, List.copyOf(recent));
+    }
+
+    private Segment segmentOf(long userId) {
+        int hash = Long.hashCode(userId);
+        return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    // 구역 락 안에서만 접근한다.
+    private static class Entry {
+        private final UserPointView view;
+        // 기록 중인 사용자 (open 이후 publish/reload 전)
+        private boolean open;
+
+        private Entry(UserPointView view, boolean open) {
+            this.view = view;
+            this.open = open;
+        }
+    }
+
+    private static class Segment extends LinkedHashMap<Long, Entry> {
+        private final int capacity;
+        // 이 구역에서 제거된 뷰의 수
+        private long removals;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        // 기록 중인 뷰는 건너뛰고 가장 오래 사용되지 않은 뷰를 직접 제거한다.
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            Iterator<Entry> iterator = values().iterator();
+            while (iterator.hasNext()) {
+                if (!iterator.next().open) {
+                    iterator.remove();
+                    removals++;
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointViewStore;
+import io.hhplus.tdd.point.validation.PointValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락 없이 CAS(compare-and-set)로 포인트를 처리한다.
+ * - 사용자별 최신 잔액(정본)은 원자적 변수(Cell)에 두고, 검증과 반영을 CAS 재시도 루프 안에서 처리한다.
+ * - 테이블 기록은 반영 이후에 한 스레드만 맡아서 반영 순서대로 처리한다.
+ *   기록을 맡은 스레드는 그동안 쌓인 연산의 히스토리를 순서대로 남기고, 잔액은 마지막 값만 기록한다.
+ *   로그를 사용하면 기록을 맡은 스레드가 히스토리와 같은 순서로 로그에도 남긴다.
+ *   로그 기록에 실패해도 히스토리까지 기록된 연산은 다시 기록하지 않고 실패를 로그와 지표로 남긴다. (PointRecordWriter)
+ * - 반영된 연산은 테이블 기록에 실패해도 성공으로 응답하고, 기록하지 못한 연산은 다음 기록 때 이어서 남긴다.
+ *   같은 사용자의 요청이 더 오지 않아도 retryDelay 부터 두 배씩(최대 MAX_RETRY_DELAY) 늘려 가며 백그라운드에서 다시 기록한다.
+ * - 테이블 기록이 끝나기 전에도 잔액 조회는 Cell 의 값으로 응답한다.
+ * - 기록되지 않은 연산이 MAX_PENDING 건을 넘으면 기록이 따라잡을 때까지 반영을 멈추고 기다린다.
+ * - Cell 은 처리 중인 스레드가 있거나 기록되지 않은 연산이 남은 동안에만 보관한다. (참조 카운트 방식, UserLockRegistry 와 같음)
+ * - 뷰를 사용하면 테이블 기록이 끝날 때마다 교체하므로 뷰는 Cell 의 잔액보다 늦을 수 있다.
+ */
+public class CasPointEngine implements PointEngine, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CasPointEngine.class);
+
+    // 사용자별로 기록되지 않은 채 쌓일 수 있는 최대 연산 수
+    static final int MAX_PENDING = 1_024;
+    static final Duration DEFAULT_RETRY_DELAY = Duration.ofMillis(100);
+    // 다시 기록하기까지 기다리는 최대 시간
+    static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(10);
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointValidator pointValidator;
+    // 사용하지 않으면 null
+    private final UserPointViewStore views;
+    private final PointRecordWriter recordWriter;
+    private final long retryDelayNanos;
+
+    // 처리 중이거나 기록되지 않은 연산이 남은 사용자의 잔액
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    // 테이블 기록에 실패해 다시 기록하기로 예약된 사용자
+    private final Set<Long> retrying = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "point-cas-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CasPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                          PointValidator pointValidator) {
+        this(userPointRepository, pointHistoryRepository, pointValidator, null);
+    }
+
+    public CasPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                          PointValidator pointValidator, UserPointViewStore views) {
+        this(userPointRepository, pointHistoryRepository, pointValidator, views, null);
+    }
+
+    public CasPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                          PointValidator pointValidator, UserPointViewStore views, PointWriteAheadLog wal) {
+        this(userPointRepository, pointHistoryRepository, pointValidator, views, wal, PointMetrics.noop(), DEFAULT_RETRY_DELAY);
+    }
+
+    public CasPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                          PointValidator pointValidator, UserPointViewStore views, PointWriteAheadLog wal,
+                          PointMetrics metrics, Duration retryDelay) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointValidator = pointValidator;
+        this.views = views;
+        this.recordWriter = new PointRecordWriter(pointHistoryRepository, wal, metrics);
+        this.retryDelayNanos = retryDelay.toNanos();
+        metrics.registerUnpersistedUsers(retrying);
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command) {
+        Cell cell = lease(command.userId());
+        try {
+            load(cell);
+
+            State next;
+            while (true) {
+                State current = cell.state.get();
+                long persistedVersion = cell.persistedVersion;
+                if (current.version - persistedVersion >= MAX_PENDING) {
+                    // 기록이 밀려 있으면 직접 기록을 돕거나, 기록 중인 스레드가 따라잡을 때까지 기다린다.
+                    persist(cell);
+                    awaitPersisted(cell, persistedVersion);
+                    continue;
+                }
+
+                long newAmount = command.applyTo(current.balance);
+
+                // 검증에 실패하면 아무것도 반영하지 않고 예외를 던진다.
+                pointValidator.validate(command.type(), command.amount(), newAmount);
+
+                next = new State(newAmount, current.version + 1, System.currentTimeMillis(),
+                        new Operation(command, current.version + 1, current.operation));
+                if (cell.state.compareAndSet(current, next)) {
+                    break;
+                }
+                Thread.onSpinWait();
+            }
+
+            try {
+                persist(cell);
+            } catch (RuntimeException e) {
+                // 잔액은 이미 반영되었으므로 성공으로 응답한다. 기록하지 못한 연산은 다음 기록 때 이어서 남긴다.
+                log.warn("테이블 기록 실패, 다음 기록 때 다시 시도 - userId: {}", command.userId(), e);
+                scheduleRetry(command.userId(), retryDelayNanos);
+            }
+            return new UserPoint(command.userId(), next.balance, next.updateMillis);
+        } finally {
+            release(cell);
+        }
+    }
+
+    @Override
+    public UserPoint current(long userId) {
+        Cell cell = cells.get(userId);
+        if (cell == null) {
+            return null;
+        }
+
+        State state = cell.state.get();
+        return state == null ? null : new UserPoint(userId, state.balance, state.updateMillis);
+    }
+
+    /**
+     * 현재 보관 중인 Cell 의 수
+     */
+    public int size() {
+        return cells.size();
+    }
+
+    /**
+     * 다시 기록하기로 예약된 작업을 취소한다. 이후 기록되지 않은 연산은 로그(WAL)를 사용할 때만 재시작 시 복구된다.
+     */
+    @Override
+    public void close() {
+        retryExecutor.shutdownNow();
+        if (!retrying.isEmpty()) {
+            log.warn("테이블에 기록되지 않은 연산이 남은 채 종료 - 사용자 수: {}", retrying.size());
+        }
+    }
+
+    // 이미 예약된 사용자면 예약된 작업이 이어서 처리한다.
+    private void scheduleRetry(long userId, long delayNanos) {
+        if (!retrying.add(userId)) {
+            return;
+        }
+        try {
+            retryExecutor.schedule(() -> retry(userId, delayNanos), delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료된 뒤에는 다시 기록하지 않는다.
+            retrying.remove(userId);
+        }
+    }
+
+    // 예약한 사이 다른 요청이 기록을 마쳤으면 빌려온 Cell 은 비어 있거나 기록할 연산이 없다.
+    private void retry(long userId, long delayNanos) {
+        retrying.remove(userId);
+        Cell cell = lease(userId);
+        try {
+            if (cell.state.get() != null) {
+                persist(cell);
+            }
+        } catch (RuntimeException e) {
+            log.warn("테이블 기록 재시도 실패 - userId: {}", userId, e);
+        } finally {
+            // 기록을 모두 마쳤으면 release 가 Cell 을 제거한다.
+            release(cell);
+        }
+        // 실패했거나 다른 스레드가 기록 중이었으면 간격을 늘려 다시 예약한다.
+        if (!cell.isPersisted()) {
+            scheduleRetry(userId, Math.min(delayNanos * 2, MAX_RETRY_DELAY.toNanos()));
+        }
+    }
+
+    private Cell lease(long userId) {
+        return cells.compute(userId, (id, cell) -> {
+            Cell leased = cell == null ? new Cell(id) : cell;
+            leased.references++;
+            return leased;
+        });
+    }
+
+    // 처리 중인 스레드가 없고 모든 연산이 기록되었으면 제거한다. (다음 요청은 테이블에서 다시 읽는다.)
+    private void release(Cell cell) {
+        cells.computeIfPresent(cell.userId, (id, current) ->
+                --current.references == 0 && current.isPersisted() ? null : current);
+    }
+
+    // 처음 빌려온 Cell 이면 테이블에서 잔액을 읽어온다.
+    private void load(Cell cell) {
+        if (cell.state.get() != null) {
+            return;
+        }
+        cell.loadLock.lock();
+        try {
+            if (cell.state.get() == null) {
+                UserPoint userPoint = userPointRepository.selectById(cell.userId);
+                cell.persistedVersion = 0;
+                cell.state.set(new State(userPoint.point(), 0, userPoint.updateMillis(), null));
+            }
+        } finally {
+            cell.loadLock.unlock();
+        }
+    }
+
+    /**
+     * 아직 기록되지 않은 연산을 반영 순서대로 테이블에 기록한다.
+     * 이미 다른 스레드가 기록 중이면 바로 반환하고, 기록 중인 스레드가 이어서 처리한다.
+     * 히스토리는 한 건 기록할 때마다 기록 위치(persistedVersion)를 옮기므로 실패 후 다시 기록해도 중복되지 않는다.
+     */
+    private void persist(Cell cell) {
+        while (cell.persisting.compareAndSet(false, true)) {
+            try {
+                State target = cell.state.get();
+                if (target.version > cell.persistedVersion) {
+                    Deque<Operation> operations = new ArrayDeque<>();
+                    for (Operation operation = target.operation;
+                         operation != null && operation.version > cell.persistedVersion;
+                         operation = operation.previous) {
+                        operations.push(operation);
+                    }
+                    // 기록이 끝난 연산은 연결을 끊어 GC 대상이 되도록 한다.
+                    operations.peekFirst().previous = null;
+
+                    if (views != null) {
+                        views.open(cell.userId);
+                    }
+                    try {
+                        UserPoint afterPoint = userPointRepository.insertOrUpdate(cell.userId, target.balance);
+                        for (Operation operation : operations) {
+                            PointCommand command = operation.command;
+                            PointHistory history = pointHistoryRepository.insert(cell.userId, command.amount(), command.type(), afterPoint.updateMillis());
+                            cell.persistedVersion = operation.version;
+                            if (views != null) {
+                                cell.unpublished.add(history);
+                            }
+                            // 히스토리까지 기록된 연산은 다시 기록하지 않으므로 로그 실패로 히스토리가 중복되지 않는다.
+                            recordWriter.appendLog(cell.userId, command.type(), command.amount(), afterPoint.updateMillis());
+                        }
+                        if (views != null) {
+                            views.publish(afterPoint, cell.unpublished);
+                            cell.unpublished.clear();
+                        }
+                    } catch (RuntimeException e) {
+                        // 기록 전의 뷰가 고정된 채 남지 않도록 저장소 값(그때까지 기록된 잔액/히스토리)으로 다시 만든다.
+                        if (views != null) {
+                            cell.unpublished.clear();
+                            views.abort(cell.userId);
+                        }
+                        throw e;
+                    }
+                }
+            } finally {
+                cell.persisting.set(false);
+                signalPersisted(cell);
+            }
+
+            // 기록하는 사이 새로 반영된 연산이 없으면 종료
+            if (cell.state.get().version == cell.persistedVersion) {
+                return;
+            }
+        }
+    }
+
+    // 다른 스레드가 기록 중이면 기록 위치가 observedVersion 에서 움직이거나 기록이 끝날 때까지 기다린다.
+    private void awaitPersisted(Cell cell, long observedVersion) {
+        cell.waiters.incrementAndGet();
+        try {
+            synchronized (cell) {
+                while (cell.persisting.get() && cell.persistedVersion == observedVersion) {
+                    cell.wait();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("테이블 기록을 기다리는 중 중단되었습니다.", e);
+        } finally {
+            cell.waiters.decrementAndGet();
+        }
+    }
+
+    private void signalPersisted(Cell cell) {
+        if (cell.waiters.get() > 0) {
+            synchronized (cell) {
+                cell.notifyAll();
+            }
+        }
+    }
+
+    private static class Cell {
+        private final long userId;
+        private final AtomicReference<State> state = new AtomicReference<>();
+        private final AtomicBoolean persisting = new AtomicBoolean();
+        private final ReentrantLock loadLock = new ReentrantLock();
+        private volatile long persistedVersion;
+        // 기록이 밀려 기다리는 스레드 수
+        private final AtomicInteger waiters = new AtomicInteger();
+        // 기록했지만 아직 뷰에 반영하지 못한 히스토리 (기록 중인 스레드만 접근)
+        private final List<PointHistory> unpublished = new ArrayList<>();
+        // 이 Cell 을 빌려간 스레드 수 (cells 의 compute 안에서만 변경)
+        private int references;
+
+        private Cell(long userId) {
+            this.userId = userId;
+        }
+
+        private boolean isPersisted() {
+            State current = state.get();
+            return current == null || current.version == persistedVersion;
+        }
+    }
+
+    /**
+     * Cell 에 담기는 불변 상태 (잔액, 반영 횟수, 마지막 연산)
+     */
+    private record State(long balance, long version, long updateMillis, Operation operation) {
+    }
+
+    /**
+     * 반영된 연산 - 이전 연산과 연결되어 기록되지 않은 연산을 순서대로 찾을 수 있다.
+     */
+    private static class Operation {
+        private final PointCommand command;
+        private final long version;
+        private volatile Operation previous;
+
+        private Operation(PointCommand command, long version, Operation previous) {
+            this.command = command;
+            this.version = version;
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청이 몰리는 사용자(hot user)를 찾아 묶음 처리(combining) 대상으로 올리고, 잠잠해지면 내린다.
+ * - 승격 : 요청 시점에 사용자 락을 기다리는 스레드가 promoteQueueLength 이상이면
+ * - 강등 : 마지막으로 몰린 뒤 coolDown 동안 대기 스레드가 promoteQueueLength 미만이면 (다음 요청 때 판정)
+ * 대부분의 사용자는 승격되지 않으므로 조회 한 번(map.get)만 하고 기존 경로로 처리된다.
+ */
+public class HotUserTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(HotUserTracker.class);
+
+    private final int promoteQueueLength;
+    private final long coolDownNanos;
+    private final PointMetrics metrics;
+
+    // 승격된 사용자별 마지막으로 몰린 시각
+    private final ConcurrentHashMap<Long, HotUser> hotUsers = new ConcurrentHashMap<>();
+
+    public HotUserTracker(int promoteQueueLength, Duration coolDown, PointMetrics metrics) {
+        if (promoteQueueLength <= 0) {
+            throw new IllegalArgumentException("승격 기준 대기 수는 1 이상이어야 합니다.");
+        }
+        this.promoteQueueLength = promoteQueueLength;
+        this.coolDownNanos = coolDown.toNanos();
+        this.metrics = metrics;
+        metrics.registerHotUsers(hotUsers);
+    }
+
+    /**
+     * 요청마다 호출해 승격/강등을 판정한다.
+     * @param queueLength 사용자 락을 기다리는 스레드 수
+     * @return 묶음 처리해야 하면 true
+     */
+    public boolean observe(long userId, int queueLength) {
+        HotUser hot = hotUsers.get(userId);
+        if (queueLength >= promoteQueueLength) {
+            long now = System.nanoTime();
+            if (hot == null) {
+                if (hotUsers.putIfAbsent(userId, new HotUser(now)) == null) {
+                    metrics.recordHotUserPromoted();
+                    log.info("hot user promoted: userId={}, queueLength={}", userId, queueLength);
+                }
+            } else {
+                hot.lastContendedNanos = now;
+            }
+            return true;
+        }
+        if (hot == null) {
+            return false;
+        }
+        if (System.nanoTime() - hot.lastContendedNanos < coolDownNanos) {
+            return true;
+        }
+        if (hotUsers.remove(userId, hot)) {
+            metrics.recordHotUserDemoted();
+            log.info("hot user demoted: userId={}", userId);
+        }
+        return false;
+    }
+
+    public boolean isHot(long userId) {
+        return hotUsers.containsKey(userId);
+    }
+
+    private static class HotUser {
+        private volatile long lastContendedNanos;
+
+        private HotUser(long lastContendedNanos) {
+            this.lastContendedNanos = lastContendedNanos;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.entity.UserPoint;
+
+/**
+ * 포인트 충전/사용 처리 방식
+ * 기본(LOCK) 방식은 PointService 가 직접 처리하고, 다른 방식을 선택했을 때만 구현체를 사용한다.
+ */
+public interface PointEngine {
+
+    /**
+     * 처리 방식 (point.engine)
+     * - LOCK : 사용자 락을 잡고 한 건씩 처리한다. (기본)
+     * - GROUP_COMMIT : 사용자별로 쌓인 요청을 묶어서 한 번에 기록한다.
+     * - CAS : 사용자별 잔액을 원자적 변수에 두고 락 없이 검증/반영한 뒤 테이블에 기록한다.
+     * - SHARDED : 사용자를 샤드로 나누고 샤드마다 하나의 스레드가 락 없이 차례대로 처리한다.
+     */
+    enum Type {
+        LOCK, GROUP_COMMIT, CAS, SHARDED
+    }
+
+    /**
+     * 충전/사용 요청을 처리한다.
+     * @return 요청 반영 후 포인트 잔량
+     */
+    UserPoint execute(PointCommand command);
+
+    /**
+     * 엔진이 보관 중인 최신 포인트 (보관하지 않으면 null)
+     */
+    default UserPoint current(long userId) {
+        return null;
+    }
+}
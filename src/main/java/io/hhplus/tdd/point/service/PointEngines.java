@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.lock.UserLockRegistry;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointViewStore;
+import io.hhplus.tdd.point.validation.PointValidator;
+
+/**
+ * 설정한 충전/사용 처리 방식(엔진)과, 엔진과 PointService 가 함께 쓰는 사용자별 락과 뷰를 만든다.
+ * - 기본(LOCK) 방식이면 엔진은 null 이고 PointService 가 직접 처리한다. 묶음 처리(combining)를 사용하면 combiner 를 만든다.
+ * - 종료(close)하면 스레드를 가진 엔진(CAS 재시도, SHARDED 샤드)을 멈춘다.
+ */
+public class PointEngines implements AutoCloseable {
+
+    // 동시성 처리를 위한 사용자별 락 (요청 중인 사용자의 락만 보관, 사용자별 대기 수/시간 제한)
+    private final UserLockRegistry lockRegistry;
+    // 잔액과 최근 히스토리를 묶은 사용자별 뷰 (사용하지 않으면 null)
+    private final UserPointViewStore views;
+    // 기본(LOCK) 방식이 아닌 처리 방식을 선택했을 때만 생성
+    private final PointEngine engine;
+    // LOCK 방식에서 요청이 몰린 사용자만 묶음 처리 (사용하지 않으면 null)
+    private final HotUserTracker hotUserTracker;
+    private final PointGroupCommitter combiner;
+
+    /**
+     * @param wal 충전/사용 내역 로그 (사용하지 않으면 null)
+     */
+    public PointEngines(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                        PointProperties properties, PointMetrics metrics, PointWriteAheadLog wal) {
+        PointValidator pointValidator = new PointValidator();
+        PointProperties.Admission admission = properties.getAdmission();
+        this.lockRegistry = new UserLockRegistry(admission.getMaxQueueDepth(), admission.getMaxWait(),
+                admission.getRetryAfter());
+        this.views = properties.getView().isEnabled()
+                ? new UserPointViewStore(userPointRepository, pointHistoryRepository, properties.getView().getRecentSize(),
+                        properties.getView().getMaxEntries())
+                : null;
+
+        this.engine = switch (properties.getEngine()) {
+            case LOCK -> null;
+            case GROUP_COMMIT -> new PointGroupCommitter(userPointRepository, pointHistoryRepository, pointValidator,
+                    lockRegistry, properties.getGroupCommit().getMaxBatchSize(), metrics, views, wal);
+            case CAS -> new CasPointEngine(userPointRepository, pointHistoryRepository, pointValidator, views, wal,
+                    metrics, properties.getCas().getRetryDelay());
+            case SHARDED -> new ShardedPointEngine(userPointRepository, pointHistoryRepository, pointValidator,
+                    properties.getSharded().getShards(), properties.getSharded().getQueueCapacity(), metrics, views, wal,
+                    properties.getSharded().getOfferTimeout());
+        };
+        if (properties.getEngine() == PointEngine.Type.LOCK && properties.getCombining().isEnabled()) {
+            PointProperties.Combining combining = properties.getCombining();
+            this.hotUserTracker = new HotUserTracker(combining.getPromoteQueueLength(), combining.getCoolDown(), metrics);
+            this.combiner = new PointGroupCommitter(userPointRepository, pointHistoryRepository, pointValidator,
+                    lockRegistry, properties.getGroupCommit().getMaxBatchSize(), metrics, views, wal);
+        } else {
+            this.hotUserTracker = null;
+            this.combiner = null;
+        }
+    }
+
+    UserLockRegistry lockRegistry() {
+        return lockRegistry;
+    }
+
+    UserPointViewStore views() {
+        return views;
+    }
+
+    PointEngine engine() {
+        return engine;
+    }
+
+    HotUserTracker hotUserTracker() {
+        return hotUserTracker;
+    }
+
+    PointGroupCommitter combiner() {
+        return combiner;
+    }
+
+    @Override
+    public void close() {
+        if (engine instanceof ShardedPointEngine sharded) {
+            sharded.close();
+        }
+        if (engine instanceof CasPointEngine cas) {
+            cas.close();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.lock.UserLock;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.common.lock.UserLockRegistry;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointViewStore;
+import io.hhplus.tdd.point.validation.PointValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동일 사용자에게 몰린 충전/사용 요청을 묶어서 한 번에 기록한다. (Group Commit)
+ * - 요청은 사용자별 대기열에 쌓이고, 락을 잡은 스레드가 대기열을 비우며 묶음을 처리한다.
+ * - 묶음은 메모리상의 잔액으로 한 건씩 검증되고, insertOrUpdate 1회와 각 요청의 히스토리로 기록된다.
+ * - 요청자는 자신의 처리 결과(UserPoint) 또는 검증 예외를 그대로 돌려받는다.
+ * - 뷰를 사용하면 묶음 단위로 교체하므로 묶음 중간의 잔액은 뷰에 보이지 않는다.
+ * - 로그를 사용하면 락을 잡은 채 히스토리와 같은 순서로 로그에 남긴다.
+ * - 락은 저장소의 최대 대기 시간 안에서만 기다리고(UserLock.lockOrReject), 그 안에 처리되지 않은 요청은 대기열에서 빼고 거절한다.
+ * - 잔액을 기록한 뒤 히스토리나 로그 기록에 실패하면 기록된 잔액으로 성공 응답하고 실패는 로그와 지표로 남긴다. (PointRecordWriter)
+ */
+public class PointGroupCommitter implements PointEngine {
+
+    private final UserPointRepository userPointRepository;
+    private final PointRecordWriter recordWriter;
+    private final PointValidator pointValidator;
+    private final UserLockRegistry lockRegistry;
+    private final int maxBatchSize;
+    private final PointMetrics metrics;
+    // 사용하지 않으면 null
+    private final UserPointViewStore views;
+
+    private final ConcurrentHashMap<Long, Queue<PendingCommand>> queueMap = new ConcurrentHashMap<>();
+
+    public PointGroupCommitter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                               PointValidator pointValidator, UserLockRegistry lockRegistry, int maxBatchSize,
+                               PointMetrics metrics) {
+        this(userPointRepository, pointHistoryRepository, pointValidator, lockRegistry, maxBatchSize, metrics, null);
+    }
+
+    public PointGroupCommitter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                               PointValidator pointValidator, UserLockRegistry lockRegistry, int maxBatchSize,
+                               PointMetrics metrics, UserPointViewStore views) {
+        this(userPointRepository, pointHistoryRepository, pointValidator, lockRegistry, maxBatchSize, metrics, views, null);
+    }
+
+    public PointGroupCommitter(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                               PointValidator pointValidator, UserLockRegistry lockRegistry, int maxBatchSize,
+                               PointMetrics metrics, UserPointViewStore views, PointWriteAheadLog wal) {
+        this.userPointRepository = userPointRepository;
+        this.recordWriter = new PointRecordWriter(pointHistoryRepository, wal, metrics);
+        this.pointValidator = pointValidator;
+        this.lockRegistry = lockRegistry;
+        this.maxBatchSize = maxBatchSize;
+        this.metrics = metrics;
+        this.views = views;
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command) {
+        try (UserLock lock = lockRegistry.acquire(command.userId())) {
+            return submit(command, lock);
+        }
+    }
+
+    /**
+     * 요청을 대기열에 넣고 처리될 때까지 기다린다.
+     * @param command 충전/사용 요청
+     * @param lock 해당 사용자의 락
+     * @return 요청 반영 후 포인트 잔량
+     * @throws io.hhplus.tdd.common.exception.UserBusyException 최대 대기 시간 안에 락을 얻지 못했고 요청도 처리되지 않은 경우
+     */
+    public UserPoint submit(PointCommand command, UserLock lock) {
+        PendingCommand pending = new PendingCommand(command);
+        // 대기열 추가와 빈 대기열 제거가 겹치지 않도록 compute 안에서 처리한다.
+        queueMap.compute(command.userId(), (id, queue) -> {
+            Queue<PendingCommand> target = queue == null ? new ConcurrentLinkedQueue<>() : queue;
+            target.add(pending);
+            return target;
+        });
+
+        long waitStart = System.nanoTime();
+        try {
+            lock.lockOrReject();
+        } catch (RuntimeException e) {
+            // 아직 아무도 가져가지 않았으면 대기열에서 빼고 거절한다. 이미 묶음에 들어갔으면 곧 처리되므로 결과를 기다린다.
+            if (!pending.claim()) {
+                return pending.result();
+            }
+            queueMap.computeIfPresent(command.userId(), (id, queue) -> {
+                queue.remove(pending);
+                return queue.isEmpty() ? null : queue;
+            });
+            throw e;
+        }
+        long holdStart = System.nanoTime();
+        metrics.recordLockWait(holdStart - waitStart);
+        try {
+            // 앞선 스레드가 이미 처리했다면 바로 빠져나간다.
+            while (!pending.future.isDone()) {
+                commitGroup(command.userId());
+            }
+            // 처리할 요청이 남지 않은 사용자의 대기열은 제거한다.
+            queueMap.computeIfPresent(command.userId(), (id, queue) -> queue.isEmpty() ? null : queue);
+        } finally {
+            long holdNanos = System.nanoTime() - holdStart;
+            lock.unlock();
+            metrics.recordLockHold(holdNanos);
+        }
+
+        return pending.result();
+    }
+
+    // 락을 잡은 상태에서만 호출된다.
+    private void commitGroup(long userId) {
+        List<PendingCommand> group = drain(queueMap.get(userId));
+        if (group.isEmpty()) {
+            return;
+        }
+
+        try {
+            UserPoint beforePoint = userPointRepository.selectById(userId);
+            long balance = beforePoint.point();
+
+            // 메모리상의 잔액으로 차례대로 검증
+            List<PendingCommand> accepted = new ArrayList<>();
+            for (PendingCommand pending : group) {
+                PointCommand command = pending.command;
+                long newAmount = command.applyTo(balance);
+                try {
+                    pointValidator.validate(command.type(), command.amount(), newAmount);
+                } catch (IllegalArgumentException e) {
+                    pending.future.completeExceptionally(e);
+                    continue;
+                }
+                balance = newAmount;
+                pending.balance = newAmount;
+                accepted.add(pending);
+            }
+
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            // 묶음 전체를 한 번에 기록
+            if (views != null) {
+                views.open(userId);
+            }
+            UserPoint afterPoint;
+            try {
+                afterPoint = userPointRepository.insertOrUpdate(userId, balance);
+            } catch (RuntimeException e) {
+                // 기록 전의 뷰가 고정된 채 남지 않도록 저장소 값으로 다시 만든다.
+                if (views != null) {
+                    views.abort(userId);
+                }
+                throw e;
+            }
+            List<PointHistory> histories = new ArrayList<>(accepted.size());
+            // 잔액은 이미 기록되었으므로 이후 실패는 요청을 실패시키지 않는다.
+            for (PendingCommand pending : accepted) {
+                PointCommand command = pending.command;
+                PointHistory history = recordWriter.insertHistory(userId, command.type(), command.amount(), afterPoint.updateMillis());
+                if (history != null) {
+                    histories.add(history);
+                }
+                recordWriter.appendLog(userId, command.type(), command.amount(), afterPoint.updateMillis());
+            }
+            if (views != null) {
+                views.publish(afterPoint, histories);
+            }
+            for (PendingCommand pending : accepted) {
+                pending.future.complete(new UserPoint(userId, pending.balance, afterPoint.updateMillis()));
+            }
+        } catch (RuntimeException e) {
+            // 기록 도중 실패하면 남은 요청이 무한히 기다리지 않도록 모두 실패 처리
+            group.forEach(pending -> pending.future.completeExceptionally(e));
+        }
+    }
+
+    private List<PendingCommand> drain(Queue<PendingCommand> queue) {
+        List<PendingCommand> group = new ArrayList<>();
+        PendingCommand pending;
+        while (group.size() < maxBatchSize && (pending = queue.poll()) != null) {
+            // 기다리다 거절된 요청은 건너뛴다.
+            if (pending.claim()) {
+                group.add(pending);
+            }
+        }
+        return group;
+    }
+
+    private static class PendingCommand {
+        private final PointCommand command;
+        private final CompletableFuture<UserPoint> future = new CompletableFuture<>();
+        // 묶음에 들어갔거나 거절된 요청 (둘 중 먼저 차지한 쪽만 처리한다.)
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private long balance;
+
+        private PendingCommand(PointCommand command) {
+            this.command = command;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        private UserPoint result() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 잔액을 기록한 뒤에 남기는 히스토리와 로그를 기록한다.
+ * 잔액이 이미 기록되었으므로 여기서 실패해도 요청은 성공으로 응답하고, 실패는 로그와 지표(point.history.write.failures)로 남긴다.
+ */
+class PointRecordWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRecordWriter.class);
+
+    private final PointHistoryRepository pointHistoryRepository;
+    // 사용하지 않으면 null
+    private final PointWriteAheadLog wal;
+    private final PointMetrics metrics;
+
+    PointRecordWriter(PointHistoryRepository pointHistoryRepository, PointWriteAheadLog wal, PointMetrics metrics) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.wal = wal;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return 기록된 히스토리 (실패하면 null)
+     */
+    PointHistory insertHistory(long userId, TransactionType type, long amount, long updateMillis) {
+        try {
+            return pointHistoryRepository.insert(userId, amount, type, updateMillis);
+        } catch (RuntimeException e) {
+            log.error("히스토리 기록 실패 - userId: {}, type: {}, amount: {}", userId, type, amount, e);
+            metrics.recordHistoryWriteFailure(PointMetrics.HistoryWriteFailure.ERROR);
+            return null;
+        }
+    }
+
+    void appendLog(long userId, TransactionType type, long amount, long updateMillis) {
+        if (wal == null) {
+            return;
+        }
+        try {
+            wal.append(userId, type, amount, updateMillis);
+        } catch (RuntimeException e) {
+            log.error("로그 기록 실패 - userId: {}, type: {}, amount: {}", userId, type, amount, e);
+            metrics.recordHistoryWriteFailure(PointMetrics.HistoryWriteFailure.LOG_ERROR);
+        }
+    }
+
+    void appendTransferLog(long fromUserId, long toUserId, long amount, long fromUpdateMillis, long toUpdateMillis) {
+        if (wal == null) {
+            return;
+        }
+        try {
+            wal.appendTransfer(fromUserId, toUserId, amount, fromUpdateMillis, toUpdateMillis);
+        } catch (RuntimeException e) {
+            log.error("이체 로그 기록 실패 - fromUserId: {}, toUserId: {}, amount: {}", fromUserId, toUserId, amount, e);
+            metrics.recordHistoryWriteFailure(PointMetrics.HistoryWriteFailure.LOG_ERROR);
+        }
+    }
+}
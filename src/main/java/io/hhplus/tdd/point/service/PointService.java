@@ -1,45 +1,208 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.common.concurrent.UserOrderedExecutor;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.exception.UnsupportedPointOperationException;
 import io.hhplus.tdd.common.exception.UserNotFoundException;
+import io.hhplus.tdd.common.idempotency.IdempotencyCache;
+import io.hhplus.tdd.common.lock.UserLock;
+import io.hhplus.tdd.common.lock.UserLockRegistry;
+import io.hhplus.tdd.common.metrics.PointMetrics;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.DTO.PointBatchResult;
+import io.hhplus.tdd.point.DTO.PointHandOff;
+import io.hhplus.tdd.point.DTO.PointTransferResult;
+import io.hhplus.tdd.point.domain.PointCommand;
 import io.hhplus.tdd.point.domain.TransactionType;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+import io.hhplus.tdd.point.repository.PointDurability;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointViewStore;
 import io.hhplus.tdd.point.validation.PointValidator;
-import org.springframework.stereotype.Service;
+import io.hhplus.tdd.point.validation.PointViolation;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 
 /**
  * 해당 클래스는 비즈니스 로직을 처리한다.
+ * 로그/스냅샷, 엔진, 멱등 캐시, 비동기 실행기는 PointServiceConfig 가 설정에 따라 만들어 넘겨주고 컨테이너가 정리한다.
  */
-@Service
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    // 히스토리 스트리밍 조회 시 한 번에 읽어 전달하는 건수
+    static final int STREAM_CHUNK_SIZE = 256;
 
-    // 동시성 처리를 위한 락 생성
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
 
-    public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
-    }
+    // 잔액과 최근 히스토리를 묶은 사용자별 뷰 (사용하지 않으면 null)
+    private final UserPointViewStore views;
+    private final int viewRecentSize;
+
+    // 동시성 처리를 위한 사용자별 락 (요청 중인 사용자의 락만 보관, 사용자별 대기 수/시간 제한)
+    private final UserLockRegistry lockRegistry;
 
     // 생성자에 포함시키면 테스트할 수 있다는 장점이 있으나 단순 유틸이기에 직접 생성
     private final PointValidator pointValidator = new PointValidator();
 
+    // 기본(LOCK) 방식이 아닌 처리 방식을 선택했을 때만 생성
+    private final PointEngine engine;
+
+    // LOCK 방식에서 요청이 몰린 사용자만 묶음 처리 (사용하지 않으면 null)
+    private final HotUserTracker hotUserTracker;
+    private final PointGroupCommitter combiner;
+
+    // 일괄 처리 시 동시에 처리할 사용자 수 제한
+    private final Semaphore batchPermits;
+
+    private final PointMetrics metrics;
+
+    // 멱등 키별 충전/사용 결과 (재시도 요청은 락/테이블을 거치지 않고 여기서 응답)
+    private final IdempotencyCache<UserPoint> idempotencyCache;
+
+    // 비동기 API 의 블로킹 작업을 사용자별 순서대로 실행 (호출 스레드를 막지 않음)
+    private final UserOrderedExecutor offloadExecutor;
+
+    // 충전/사용 내역 로그 (사용하지 않으면 null)
+    private final PointWriteAheadLog wal;
+    // 잔액을 기록한 뒤의 히스토리/로그 기록 (실패해도 요청을 실패시키지 않음)
+    private final PointRecordWriter recordWriter;
+
+    // 직접 만든 구성 요소 (컨테이너가 넘겨준 경우 null)
+    private final Components owned;
+
+    public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
+        this(new UserPointRepository(userPointTable), new PointHistoryRepository(pointHistoryTable), new PointProperties(),
+                PointMetrics.noop());
+    }
+
+    /**
+     * 구성 요소를 직접 만든다. (테스트, 벤치마크) 다 쓴 뒤에는 close() 로 정리한다.
+     */
+    public PointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                        PointProperties properties, PointMetrics metrics) {
+        this(userPointRepository, pointHistoryRepository, properties, metrics,
+                Components.create(userPointRepository, pointHistoryRepository, properties, metrics), true);
+    }
+
+    public PointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                        PointProperties properties, PointMetrics metrics, PointDurability durability,
+                        PointEngines engines, IdempotencyCache<UserPoint> idempotencyCache,
+                        UserOrderedExecutor offloadExecutor) {
+        this(userPointRepository, pointHistoryRepository, properties, metrics,
+                new Components(durability, engines, idempotencyCache, offloadExecutor), false);
+    }
+
+    private PointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                         PointProperties properties, PointMetrics metrics, Components components, boolean owner) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.metrics = metrics;
+        this.viewRecentSize = properties.getView().getRecentSize();
+        this.lockRegistry = components.engines().lockRegistry();
+        this.views = components.engines().views();
+        this.engine = components.engines().engine();
+        this.hotUserTracker = components.engines().hotUserTracker();
+        this.combiner = components.engines().combiner();
+        this.wal = components.durability().wal();
+        this.recordWriter = new PointRecordWriter(pointHistoryRepository, wal, metrics);
+        this.batchPermits = new Semaphore(properties.getBatch().getMaxParallelUsers());
+        this.idempotencyCache = components.idempotencyCache();
+        this.offloadExecutor = components.offloadExecutor();
+        this.owned = owner ? components : null;
+    }
+
+    /**
+     * 직접 만든 구성 요소를 정리한다. (컨테이너가 넘겨준 구성 요소는 컨테이너가 정리하므로 아무것도 하지 않는다.)
+     */
+    public void close() throws IOException {
+        if (owned != null) {
+            owned.close();
+        }
+    }
+
+    /**
+     * 비동기 포인트 조회 - 같은 사용자의 비동기 요청은 요청 순서대로 처리된다.
+     */
+    public CompletableFuture<UserPoint> selectUserPointAsync(long userId) {
+        return offloadExecutor.submit(userId, () -> selectUserPoint(userId));
+    }
+
+    /**
+     * 비동기 특정 시각의 포인트 조회
+     */
+    public CompletableFuture<UserPoint> selectUserPointAtAsync(long userId, long atMillis) {
+        return offloadExecutor.submit(userId, () -> selectUserPointAt(userId, atMillis));
+    }
+
+    /**
+     * 비동기 포인트와 최근 히스토리 조회
+     * 이미 만들어진 뷰가 있으면 다른 스레드로 넘기지 않고 바로 돌려준다.
+     */
+    public CompletableFuture<UserPointView> selectUserPointViewAsync(long userId) {
+        UserPointView view = views != null ? views.find(userId) : null;
+        if (view != null) {
+            return CompletableFuture.completedFuture(view);
+        }
+        return offloadExecutor.submit(userId, () -> selectUserPointView(userId));
+    }
+
+    /**
+     * 비동기 포인트 히스토리 조회 (limit 이 null 이면 전체 조회)
+     */
+    public CompletableFuture<List<PointHistory>> selectUserHistoriesAsync(long userId, Long cursor, Integer limit) {
+        return offloadExecutor.submit(userId,
+                () -> limit == null ? selectUserHistories(userId) : selectUserHistories(userId, cursor, limit));
+    }
+
+    /**
+     * 비동기 포인트 충전
+     * @param idempotencyKey 멱등 키 (null 이면 사용하지 않음)
+     */
+    public CompletableFuture<UserPoint> chargePointAsync(long userId, long amount, String idempotencyKey) {
+        return offloadExecutor.submit(userId,
+                () -> idempotencyKey == null ? chargePoint(userId, amount) : chargePoint(userId, amount, idempotencyKey));
+    }
+
+    /**
+     * 비동기 포인트 사용
+     * @param idempotencyKey 멱등 키 (null 이면 사용하지 않음)
+     */
+    public CompletableFuture<UserPoint> usePointAsync(long userId, long amount, String idempotencyKey) {
+        return offloadExecutor.submit(userId,
+                () -> idempotencyKey == null ? usePoint(userId, amount) : usePoint(userId, amount, idempotencyKey));
+    }
+
     /**
      * 포인트 조회
      * @param userId 사용자 ID
      * @return 유저의 포인트 잔량
      */
     public UserPoint selectUserPoint(long userId) {
-        UserPoint userPoint = userPointTable.selectById(userId);
+        // 엔진이 최신 잔액을 보관하고 있으면 그 값이 정본이다.
+        if (engine != null) {
+            UserPoint current = engine.current(userId);
+            if (current != null) {
+                return current;
+            }
+        }
+
+        UserPoint userPoint = userPointRepository.selectById(userId);
         if(userPoint == null) {
             throw new UserNotFoundException();
         }
@@ -47,13 +210,77 @@ public class PointService {
         return userPoint;
     }
 
+    /**
+     * 특정 시각의 포인트 조회
+     * @param userId 사용자 ID
+     * @param atMillis 조회할 시각 (epoch millis)
+     * @return 그 시각까지 기록된 내역을 반영한 포인트 잔량과 마지막 변경 시각 (내역이 없으면 0)
+     */
+    public UserPoint selectUserPointAt(long userId, long atMillis) {
+        pointValidator.validateAtMillis(atMillis);
+        return pointHistoryRepository.selectBalanceAt(userId, atMillis);
+    }
+
+    /**
+     * 포인트와 최근 히스토리 조회
+     * 뷰를 사용하면 기록 시 교체해 둔 뷰를 락 없이 돌려주므로 잔액과 히스토리가 항상 같은 시점이다.
+     * (CAS, SHARDED 엔진에서는 테이블 기록까지 끝난 시점의 값)
+     * 사용하지 않으면 잔액과 히스토리를 차례로 읽으므로 그 사이의 충전/사용이 한쪽에만 보일 수 있다.
+     * @param userId 사용자 ID
+     * @return 포인트 잔량과 최신순 최근 히스토리
+     */
+    public UserPointView selectUserPointView(long userId) {
+        if (views != null) {
+            return views.get(userId);
+        }
+        return new UserPointView(0, selectUserPoint(userId),
+                pointHistoryRepository.selectPage(userId, Long.MAX_VALUE, viewRecentSize));
+    }
+
     /**
      * 포인트 히스토리 조회
      * @param userId 사용자 ID
      * @return 유저의 포인트 히스토리 리스트
      */
     public List<PointHistory> selectUserHistories(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointHistoryRepository.selectAllByUserId(userId);
+    }
+
+    /**
+     * 포인트 히스토리 스트리밍 조회
+     * 전체 리스트를 만들지 않고 오래된 순으로 STREAM_CHUNK_SIZE 건씩 consumer 에 전달한다.
+     * @param userId 사용자 ID
+     * @param consumer 내역 묶음을 받아 처리한다. 예외를 던지면 조회를 중단한다.
+     */
+    public void streamUserHistories(long userId, Consumer<List<PointHistory>> consumer) {
+        pointHistoryRepository.forEachByUserId(userId, STREAM_CHUNK_SIZE, consumer);
+    }
+
+    /**
+     * 포인트 히스토리 페이지 조회 (최신순)
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 마지막 히스토리 ID (null 이면 가장 최근 내역부터)
+     * @param limit 조회할 건수
+     * @return 최신순으로 정렬된 유저의 포인트 히스토리 리스트
+     */
+    public List<PointHistory> selectUserHistories(long userId, Long cursor, int limit) {
+        pointValidator.validateHistoryPageSize(limit);
+
+        long beforeId = cursor == null ? Long.MAX_VALUE : cursor;
+        return pointHistoryRepository.selectPage(userId, beforeId, limit);
+    }
+
+    /**
+     * 잔액과 무관하게 거절되는 금액(0 이하, 1회 충전 한도 초과)인지 락/테이블 조회 전에 확인한다.
+     * 예외를 만들지 않으므로 잘못된 요청이 몰려도 거절 비용이 작다. 거절이면 실패 지표를 남긴다.
+     * @return 위반 사유 (통과하면 null)
+     */
+    public PointViolation precheckAmount(TransactionType type, long amount) {
+        PointViolation violation = pointValidator.checkAmount(type, amount);
+        if (violation != null) {
+            metrics.recordRejection(type, violation);
+        }
+        return violation;
     }
 
     /**
@@ -63,25 +290,71 @@ public class PointService {
      * @return 충전 후 포인트 잔량
      */
     public UserPoint chargePoint(long userId, long amount) {
-        ReentrantLock lock = lockMap.computeIfAbsent(userId, k -> new ReentrantLock());
-        lock.lock();
-
         try {
-            // 충전 전 포인트
-            UserPoint beforePoint = userPointTable.selectById(userId);
+            UserPoint userPoint = engine != null
+                    ? engine.execute(new PointCommand(userId, TransactionType.CHARGE, amount))
+                    : chargeWithLock(userId, amount);
+            metrics.recordSuccess(TransactionType.CHARGE);
+            return userPoint;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(TransactionType.CHARGE, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 멱등 키가 있는 포인트 충전
+     * 같은 키로 다시 요청하면 충전하지 않고 처음 요청의 결과(또는 거절 사유)를 돌려준다.
+     * @param idempotencyKey 요청을 구분하는 키 (재시도 시 같은 값)
+     */
+    public UserPoint chargePoint(long userId, long amount, String idempotencyKey) {
+        return idempotencyCache.execute(userId, idempotencyKey, new PointCommand(userId, TransactionType.CHARGE, amount),
+                () -> chargePoint(userId, amount));
+    }
+
+    private UserPoint chargeWithLock(long userId, long amount) {
+        try (UserLock lock = lockRegistry.acquire(userId)) {
+            if (isHot(userId, lock)) {
+                return combiner.submit(new PointCommand(userId, TransactionType.CHARGE, amount), lock);
+            }
+            long waitStart = System.nanoTime();
+            lock.lockOrReject();
+            long holdStart = System.nanoTime();
+            metrics.recordLockWait(holdStart - waitStart);
+
+            try {
+                // 충전 전 포인트
+                UserPoint beforePoint = userPointRepository.selectById(userId);
 
-            // Logic
-            long newAmount = beforePoint.point() + amount;
+                // Logic
+                long newAmount = beforePoint.point() + amount;
 
-            // 예외 처리
-            pointValidator.validateChargeAmount(amount, newAmount);
+                // 예외 처리
+                pointValidator.validateChargeAmount(amount, newAmount);
 
-            UserPoint afterPoint = userPointTable.insertOrUpdate(userId, newAmount);
-            pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, afterPoint.updateMillis());
+                if (views != null) {
+                    views.open(userId);
+                }
+                UserPoint afterPoint;
+                try {
+                    afterPoint = userPointRepository.insertOrUpdate(userId, newAmount);
+                } catch (RuntimeException e) {
+                    abortView(userId);
+                    throw e;
+                }
+                // 잔액을 기록했으므로 이후 실패는 요청을 실패시키지 않는다. 로그는 락 안에서 남겨 기록 순서와 같게 한다.
+                PointHistory history = recordWriter.insertHistory(userId, TransactionType.CHARGE, amount, afterPoint.updateMillis());
+                recordWriter.appendLog(userId, TransactionType.CHARGE, amount, afterPoint.updateMillis());
+                if (views != null) {
+                    views.publish(afterPoint, history);
+                }
 
-            return afterPoint;
-        } finally {
-            lock.unlock();
+                return afterPoint;
+            } finally {
+                long holdNanos = System.nanoTime() - holdStart;
+                lock.unlock();
+                metrics.recordLockHold(holdNanos);
+            }
         }
     }
 
@@ -93,25 +366,341 @@ public class PointService {
      * @return 사용 후 포인트 잔량
      */
     public UserPoint usePoint(long userId, long amount) {
-        ReentrantLock lock = lockMap.computeIfAbsent(userId, k -> new ReentrantLock());
-        lock.lock();
+        try {
+            UserPoint userPoint = engine != null
+                    ? engine.execute(new PointCommand(userId, TransactionType.USE, amount))
+                    : useWithLock(userId, amount);
+            metrics.recordSuccess(TransactionType.USE);
+            return userPoint;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(TransactionType.USE, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 멱등 키가 있는 포인트 사용
+     * 같은 키로 다시 요청하면 사용하지 않고 처음 요청의 결과(또는 거절 사유)를 돌려준다.
+     * @param idempotencyKey 요청을 구분하는 키 (재시도 시 같은 값)
+     */
+    public UserPoint usePoint(long userId, long amount, String idempotencyKey) {
+        return idempotencyCache.execute(userId, idempotencyKey, new PointCommand(userId, TransactionType.USE, amount),
+                () -> usePoint(userId, amount));
+    }
+
+    private UserPoint useWithLock(long userId, long amount) {
+        try (UserLock lock = lockRegistry.acquire(userId)) {
+            if (isHot(userId, lock)) {
+                return combiner.submit(new PointCommand(userId, TransactionType.USE, amount), lock);
+            }
+            long waitStart = System.nanoTime();
+            lock.lockOrReject();
+            long holdStart = System.nanoTime();
+            metrics.recordLockWait(holdStart - waitStart);
+
+            try {
+                // 사용 전 포인트
+                UserPoint beforePoint = userPointRepository.selectById(userId);
+
+                // Logic
+                long newAmount = beforePoint.point() - amount;
+
+                // 예외 처리
+                pointValidator.validateUseAmount(amount, newAmount);
+
+                if (views != null) {
+                    views.open(userId);
+                }
+                UserPoint afterPoint;
+                try {
+                    afterPoint = userPointRepository.insertOrUpdate(userId, newAmount);
+                } catch (RuntimeException e) {
+                    abortView(userId);
+                    throw e;
+                }
+                // 잔액을 기록했으므로 이후 실패는 요청을 실패시키지 않는다. 로그는 락 안에서 남겨 기록 순서와 같게 한다.
+                PointHistory history = recordWriter.insertHistory(userId, TransactionType.USE, amount, afterPoint.updateMillis());
+                recordWriter.appendLog(userId, TransactionType.USE, amount, afterPoint.updateMillis());
+                if (views != null) {
+                    views.publish(afterPoint, history);
+                }
+
+                return afterPoint;
+            } finally {
+                long holdNanos = System.nanoTime() - holdStart;
+                lock.unlock();
+                metrics.recordLockHold(holdNanos);
+            }
+        }
+    }
+
+    // 기록 도중 실패했으면 보관해 둔 기록 전의 뷰를 저장소 값으로 다시 만들어 고정을 푼다.
+    private void abortView(long userId) {
+        if (views != null) {
+            views.abort(userId);
+        }
+    }
+
+    // 락을 기다리는 요청이 많은 사용자는 한 스레드가 대기 요청을 모아 한 번에 기록한다.
+    private boolean isHot(long userId, UserLock lock) {
+        return hotUserTracker != null && hotUserTracker.observe(userId, lock.getQueueLength());
+    }
+
+    /**
+     * 포인트 이체
+     * 두 사용자의 락을 userId 가 작은 쪽부터 잡으므로, 서로 반대 방향의 이체가 동시에 들어와도 교착 상태에 빠지지 않는다.
+     * 보내는 쪽은 사용 규칙, 받는 쪽은 충전 규칙으로 검증하고 둘 다 통과해야 양쪽 잔액과 히스토리를 기록한다.
+     * 받는 쪽 잔액 기록에 실패하면 보내는 쪽 잔액을 되돌린다. 양쪽 잔액을 기록한 뒤의 히스토리/로그 실패는 성공으로 응답한다.
+     * 실패는 이체 한 건으로 한 번 집계하고(point.transfer.failures), 금액 검증 실패는 거절한 쪽의 처리 결과에도 남긴다.
+     * 잔액을 따로 보관하는 엔진(CAS, SHARDED)에서는 지원하지 않는다. (UnsupportedPointOperationException, 501)
+     * @param fromUserId 보내는 사용자 ID
+     * @param toUserId 받는 사용자 ID
+     * @param amount 이체할 포인트
+     * @return 양쪽의 이체 후 포인트 잔량
+     */
+    public PointTransferResult transferPoint(long fromUserId, long toUserId, long amount) {
+        if (engine instanceof CasPointEngine || engine instanceof ShardedPointEngine) {
+            throw new UnsupportedPointOperationException("현재 처리 방식에서는 이체를 지원하지 않습니다.");
+        }
+
+        try {
+            pointValidator.validateTransferUsers(fromUserId, toUserId);
+            PointTransferResult result = transferWithLocks(fromUserId, toUserId, amount);
+            metrics.recordSuccess(TransactionType.USE);
+            metrics.recordSuccess(TransactionType.CHARGE);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.recordTransferFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 비동기 포인트 이체 - 보내는 사용자의 비동기 요청 순서에 맞춰 처리된다.
+     */
+    public CompletableFuture<PointTransferResult> transferPointAsync(long fromUserId, long toUserId, long amount) {
+        return offloadExecutor.submit(fromUserId, () -> transferPoint(fromUserId, toUserId, amount));
+    }
+
+    private PointTransferResult transferWithLocks(long fromUserId, long toUserId, long amount) {
+        // 항상 같은 순서(userId 오름차순)로 락을 잡는다.
+        long firstUserId = Math.min(fromUserId, toUserId);
+        long secondUserId = Math.max(fromUserId, toUserId);
+
+        try (UserLock first = lockRegistry.acquire(firstUserId);
+             UserLock second = lockRegistry.acquire(secondUserId)) {
+            long waitStart = System.nanoTime();
+            first.lockOrReject();
+            try {
+                second.lockOrReject();
+                long holdStart = System.nanoTime();
+                metrics.recordLockWait(holdStart - waitStart);
+
+                try {
+                    UserPoint fromBefore = userPointRepository.selectById(fromUserId);
+                    UserPoint toBefore = userPointRepository.selectById(toUserId);
+                    long fromAmount = fromBefore.point() - amount;
+                    long toAmount = toBefore.point() + amount;
+
+                    // 양쪽 모두 검증한 뒤에 기록한다.
+                    validateTransferSide(TransactionType.USE, amount, fromAmount);
+                    validateTransferSide(TransactionType.CHARGE, amount, toAmount);
+
+                    if (views != null) {
+                        views.open(fromUserId);
+                        views.open(toUserId);
+                    }
+                    UserPoint fromAfter;
+                    UserPoint toAfter;
+                    try {
+                        fromAfter = userPointRepository.insertOrUpdate(fromUserId, fromAmount);
+                        try {
+                            toAfter = userPointRepository.insertOrUpdate(toUserId, toAmount);
+                        } catch (RuntimeException e) {
+                            // 받는 쪽을 기록하지 못했으므로 보내는 쪽 잔액을 되돌린다.
+                            userPointRepository.insertOrUpdate(fromUserId, fromBefore.point());
+                            throw e;
+                        }
+                    } catch (RuntimeException e) {
+                        abortView(fromUserId);
+                        abortView(toUserId);
+                        throw e;
+                    }
+                    // 양쪽 잔액을 기록했으므로 이후 실패는 이체를 실패시키지 않는다.
+                    PointHistory fromHistory = recordWriter.insertHistory(fromUserId, TransactionType.USE, amount, fromAfter.updateMillis());
+                    PointHistory toHistory = recordWriter.insertHistory(toUserId, TransactionType.CHARGE, amount, toAfter.updateMillis());
+                    recordWriter.appendTransferLog(fromUserId, toUserId, amount, fromAfter.updateMillis(), toAfter.updateMillis());
+                    // 사용자별로 각자의 뷰만 교체하므로 두 뷰 사이의 시점은 맞추지 않는다.
+                    if (views != null) {
+                        views.publish(fromAfter, fromHistory);
+                        views.publish(toAfter, toHistory);
+                    }
+
+                    return new PointTransferResult(fromAfter, toAfter);
+                } finally {
+                    long holdNanos = System.nanoTime() - holdStart;
+                    second.unlock();
+                    metrics.recordLockHold(holdNanos);
+                }
+            } finally {
+                first.unlock();
+            }
+        }
+    }
+
+    // 이체 한쪽의 금액 검증 - 실패하면 거절한 쪽의 처리 결과로 남긴다.
+    private void validateTransferSide(TransactionType type, long amount, long newAmount) {
+        PointViolation violation = type == TransactionType.CHARGE
+                ? pointValidator.checkChargeAmount(amount, newAmount)
+                : pointValidator.checkUseAmount(amount, newAmount);
+        if (violation != null) {
+            metrics.recordRejection(type, violation);
+            throw violation.exception(amount, newAmount);
+        }
+    }
+
+    /**
+     * 포인트 일괄 충전/사용
+     * 같은 사용자의 요청은 순서대로, 서로 다른 사용자의 요청은 병렬로 처리한다.
+     * @param commands 충전/사용 요청 목록
+     * @return 요청과 같은 순서의 처리 결과 (성공 시 포인트 잔량, 실패 시 에러)
+     */
+    public List<PointBatchResult> executeBatch(List<PointCommand> commands) {
+        pointValidator.validateBatchSize(commands.size());
+
+        // 사용자별 요청 위치 (요청 순서 유지)
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            indexesByUser.computeIfAbsent(commands.get(i).userId(), k -> new ArrayList<>()).add(i);
+        }
+
+        AtomicReferenceArray<PointBatchResult> results = new AtomicReferenceArray<>(commands.size());
+        // 테이블 대기 시간 동안 스레드를 점유하지 않도록 가상 스레드에서 사용자별로 처리
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<Integer> indexes : indexesByUser.values()) {
+                executor.execute(() -> {
+                    batchPermits.acquireUninterruptibly();
+                    try {
+                        for (int index : indexes) {
+                            results.set(index, executeBatchItem(commands.get(index)));
+                        }
+                    } finally {
+                        batchPermits.release();
+                    }
+                });
+            }
+        }
 
+        List<PointBatchResult> batchResults = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            batchResults.add(results.get(i));
+        }
+        return batchResults;
+    }
+
+    private PointBatchResult executeBatchItem(PointCommand command) {
         try {
-            // 사용 전 포인트
-            UserPoint beforePoint = userPointTable.selectById(userId);
+            if (command.type() == null) {
+                throw new IllegalArgumentException("거래 유형(CHARGE, USE)을 입력해야 합니다.");
+            }
+
+            UserPoint userPoint = command.type() == TransactionType.CHARGE
+                    ? chargePoint(command.userId(), command.amount())
+                    : usePoint(command.userId(), command.amount());
+            return PointBatchResult.success(command, userPoint);
+        } catch (RuntimeException e) {
+            return PointBatchResult.failure(command, e);
+        }
+    }
+
+    /**
+     * 다른 노드로 옮겨 갈 사용자의 잔액과 전체 히스토리 (클러스터 구성 변경 시)
+     * 호출 전에 이 사용자의 충전/사용이 더 들어오지 않도록 막아야 한다. (PointClusterRouter)
+     */
+    public PointHandOff exportUser(long userId) {
+        return new PointHandOff(userPointRepository.selectById(userId), pointHistoryRepository.selectAllByUserId(userId));
+    }
 
-            // Logic
-            long newAmount = beforePoint.point() - amount;
+    /**
+     * 이전 담당 노드에서 가져온 잔액과 히스토리를 기록한다. (클러스터 구성 변경 시)
+     * 히스토리는 원래 시각 그대로 기록하고, 로그 사용 시 로그에도 남겨 재시작 후에도 복구되도록 한다.
+     * 예전에 이 노드가 맡았던 사용자면 넘겨줄 때의 히스토리가 앞부분에 그대로 들어 있으므로 이어지는 것만 기록하고,
+     * 로그에는 비움 기록 뒤에 전체를 다시 남겨 재시작 시 예전 기록과 겹쳐 복구되지 않게 한다.
+     * 이 노드에 남은 히스토리가 넘겨받은 히스토리의 앞부분과 다르면 중복으로 기록되지 않도록 아무것도 기록하지 않고 거절한다.
+     * 특정 시각 잔액은 넘겨받은 잔액부터 이어서 누적한다. (넘겨받은 히스토리가 잔액과 맞지 않아도 이후 조회가 어긋나지 않음)
+     * @throws IllegalStateException 이 노드에 남은 히스토리가 넘겨받은 히스토리의 앞부분과 다른 경우
+     */
+    public void importUser(long userId, PointHandOff handOff) {
+        try (UserLock lock = lockRegistry.acquire(userId)) {
+            lock.lock();
+            try {
+                List<PointHistory> histories = handOff.histories();
+                List<PointHistory> known = pointHistoryRepository.selectAllByUserId(userId);
+                if (!startsWith(histories, known)) {
+                    throw new IllegalStateException("이 노드에 남은 히스토리가 넘겨받은 히스토리와 다릅니다. - userId: " + userId);
+                }
+                int skip = known.size();
+
+                if (views != null) {
+                    views.open(userId);
+                }
+                try {
+                    userPointRepository.insertOrUpdate(userId, handOff.userPoint().point());
+                    for (PointHistory history : histories.subList(skip, histories.size())) {
+                        pointHistoryRepository.insert(userId, history.amount(), history.type(), history.updateMillis());
+                    }
+                    pointHistoryRepository.seedBalance(handOff.userPoint());
+                    if (wal != null) {
+                        wal.appendTombstone(userId, System.currentTimeMillis());
+                        for (PointHistory history : histories) {
+                            wal.append(userId, history.type(), history.amount(), history.updateMillis());
+                        }
+                    }
+                } finally {
+                    // 넘겨받은 값으로 뷰를 다시 만든다. (도중에 실패했으면 그때까지 기록된 값)
+                    abortView(userId);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
 
-            // 예외 처리
-            pointValidator.validateUseAmount(amount, newAmount);
+    // 앞선 기록과 같은 내역(금액, 유형, 시각)으로 시작하는지 확인한다. (앞선 기록이 없으면 true)
+    private static boolean startsWith(List<PointHistory> histories, List<PointHistory> prefix) {
+        if (prefix.size() > histories.size()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.size(); i++) {
+            PointHistory history = histories.get(i);
+            PointHistory known = prefix.get(i);
+            if (history.amount() != known.amount() || history.type() != known.type()
+                    || history.updateMillis() != known.updateMillis()) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            UserPoint afterPoint = userPointTable.insertOrUpdate(userId, newAmount);
-            pointHistoryTable.insert(userId, amount, TransactionType.USE, afterPoint.updateMillis());
+    private record Components(PointDurability durability, PointEngines engines,
+                              IdempotencyCache<UserPoint> idempotencyCache, UserOrderedExecutor offloadExecutor) {
+
+        private static Components create(UserPointRepository userPointRepository,
+                                         PointHistoryRepository pointHistoryRepository,
+                                         PointProperties properties, PointMetrics metrics) {
+            PointServiceConfig config = new PointServiceConfig();
+            PointDurability durability = config.pointDurability(userPointRepository, pointHistoryRepository, properties);
+            PointEngines engines = config.pointEngines(userPointRepository, pointHistoryRepository, properties, metrics,
+                    durability);
+            return new Components(durability, engines, config.pointIdempotencyCache(properties),
+                    config.pointOffloadExecutor(properties));
+        }
 
-            return afterPoint;
-        } finally {
-            lock.unlock();
+        // 컨테이너와 같은 순서(비동기 실행기 → 엔진 → 로그/스냅샷)로 정리한다.
+        private void close() throws IOException {
+            offloadExecutor.close();
+            engines.close();
+            durability.close();
         }
     }
 }
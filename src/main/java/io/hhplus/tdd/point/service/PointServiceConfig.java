@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.concurrent.UserOrderedExecutor;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.idempotency.IdempotencyCache;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointDurability;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * PointService 와 PointService 가 쓰는 구성 요소(로그/스냅샷, 엔진, 멱등 캐시, 비동기 실행기)를 설정에 따라 만든다.
+ * 스레드나 파일을 가진 구성 요소는 컨테이너가 종료 시 정리한다. (destroyMethod)
+ * 의존 관계의 역순으로 정리되므로 비동기 실행기 → 엔진 → 로그/스냅샷 순으로 닫힌다.
+ */
+@Configuration
+public class PointServiceConfig {
+
+    // 엔진이 기록과 같은 순서로 로그를 남기도록 엔진보다 먼저 연다.
+    @Bean(destroyMethod = "close")
+    public PointDurability pointDurability(UserPointRepository userPointRepository,
+                                           PointHistoryRepository pointHistoryRepository, PointProperties properties) {
+        return new PointDurability(userPointRepository, pointHistoryRepository, properties);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PointEngines pointEngines(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                                     PointProperties properties, PointMetrics metrics, PointDurability pointDurability) {
+        return new PointEngines(userPointRepository, pointHistoryRepository, properties, metrics, pointDurability.wal());
+    }
+
+    @Bean
+    public IdempotencyCache<UserPoint> pointIdempotencyCache(PointProperties properties) {
+        return new IdempotencyCache<>(properties.getIdempotency().getMaxEntries(), properties.getIdempotency().getTtl());
+    }
+
+    // 실행 중인 작업이 엔진을 쓰므로 엔진보다 먼저 닫는다.
+    @Bean(destroyMethod = "close")
+    @DependsOn("pointEngines")
+    public UserOrderedExecutor pointOffloadExecutor(PointProperties properties) {
+        PointProperties.Offload offload = properties.getOffload();
+        return new UserOrderedExecutor("point-offload", offload.getThreads(), offload.getQueueCapacity(),
+                offload.getMaxPendingPerUser());
+    }
+
+    @Bean
+    public PointService pointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                                     PointProperties properties, PointMetrics metrics, PointDurability pointDurability,
+                                     PointEngines pointEngines, IdempotencyCache<UserPoint> pointIdempotencyCache,
+                                     UserOrderedExecutor pointOffloadExecutor) {
+        return new PointService(userPointRepository, pointHistoryRepository, properties, metrics, pointDurability,
+                pointEngines, pointIdempotencyCache, pointOffloadExecutor);
+    }
+}
@@ -0,0 +1,291 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointViewStore;
+import io.hhplus.tdd.point.validation.PointValidator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자를 샤드로 나누고, 샤드마다 하나의 스레드가 자기 사용자의 요청만 차례대로 처리한다. (single writer)
+ * - userId 로 샤드를 정하므로 같은 사용자의 요청은 항상 같은 스레드에서 처리되어 락이 필요 없다.
+ * - 샤드는 처리한 사용자의 잔액을 스레드 전용 Map 에 최근 사용 순으로 MAX_CACHED_USERS 명까지 보관하고,
+ *   보관하지 않은 사용자만 테이블에서 읽어온다.
+ * - 대기열에 쌓인 요청을 한 번에 꺼내 사용자별로 모아 잔액은 한 번만, 히스토리는 요청마다 기록한다.
+ * - 대기열이 가득 차면 offerTimeout 동안만 기다리고, 그래도 자리가 없으면 RejectedExecutionException(503)으로 거절한다.
+ * - 종료(close)하면 샤드 스레드가 끝나기를 기다린 뒤 대기열에 남은 요청을 모두 실패 처리한다.
+ * - 뷰를 사용하면 사용자별 묶음을 기록한 뒤 샤드 스레드가 교체한다.
+ * - 로그를 사용하면 샤드 스레드가 히스토리와 같은 순서로 로그에 남긴다.
+ * - 잔액을 기록한 뒤 히스토리나 로그 기록에 실패하면 기록된 잔액으로 성공 응답하고 실패는 로그와 지표로 남긴다. (PointRecordWriter)
+ */
+public class ShardedPointEngine implements PointEngine, AutoCloseable {
+
+    // 대기열에서 한 번에 꺼내 처리할 최대 요청 수
+    static final int MAX_DRAIN = 256;
+    // 샤드별로 잔액을 보관할 최대 사용자 수
+    static final int MAX_CACHED_USERS = 10_000;
+    static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ofSeconds(1);
+    // 종료 시 샤드 스레드가 끝나기를 기다리는 최대 시간
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+
+    private final UserPointRepository userPointRepository;
+    private final PointRecordWriter recordWriter;
+    private final PointValidator pointValidator;
+    // 사용하지 않으면 null
+    private final UserPointViewStore views;
+    private final long offerTimeoutNanos;
+    private final Shard[] shards;
+
+    public ShardedPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                              PointValidator pointValidator, int shardCount, int queueCapacity, PointMetrics metrics) {
+        this(userPointRepository, pointHistoryRepository, pointValidator, shardCount, queueCapacity, metrics, null);
+    }
+
+    public ShardedPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                              PointValidator pointValidator, int shardCount, int queueCapacity, PointMetrics metrics,
+                              UserPointViewStore views) {
+        this(userPointRepository, pointHistoryRepository, pointValidator, shardCount, queueCapacity, metrics, views, null,
+                DEFAULT_OFFER_TIMEOUT);
+    }
+
+    public ShardedPointEngine(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+                              PointValidator pointValidator, int shardCount, int queueCapacity, PointMetrics metrics,
+                              UserPointViewStore views, PointWriteAheadLog wal, Duration offerTimeout) {
+        this.userPointRepository = userPointRepository;
+        this.recordWriter = new PointRecordWriter(pointHistoryRepository, wal, metrics);
+        this.pointValidator = pointValidator;
+        this.views = views;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, queueCapacity);
+            metrics.registerShardQueue(i, shards[i].queue);
+            shards[i].thread.start();
+        }
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command) {
+        try {
+            return submit(command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 요청을 사용자의 샤드 대기열에 넣고, 처리 결과를 담을 future 를 돌려준다.
+     * 대기열이 offerTimeout 동안 가득 차 있거나 종료된 샤드면 RejectedExecutionException 으로 실패한 future 를 돌려준다.
+     */
+    public CompletableFuture<UserPoint> submit(PointCommand command) {
+        Shard shard = shardOf(command.userId());
+        PendingCommand pending = new PendingCommand(command);
+        if (!shard.running) {
+            return CompletableFuture.failedFuture(closed());
+        }
+        try {
+            if (!shard.queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("샤드 대기열이 가득 찼습니다."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new RejectedExecutionException(e));
+        }
+        // 넣는 사이 종료되어 남은 요청을 실패 처리하는 단계가 지났다면 직접 꺼내 실패 처리한다.
+        if (!shard.running && shard.queue.remove(pending)) {
+            pending.future.completeExceptionally(closed());
+        }
+        return pending.future;
+    }
+
+    /**
+     * 샤드별 대기 중인 요청 수
+     */
+    public int queueDepth(int shard) {
+        return shards[shard].queue.size();
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    int shardIndexOf(long userId) {
+        return (int) Math.floorMod(userId ^ (userId >>> 32), (long) shards.length);
+    }
+
+    private Shard shardOf(long userId) {
+        return shards[shardIndexOf(userId)];
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.running = false;
+            shard.thread.interrupt();
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            shard.failPending();
+        }
+    }
+
+    private static RejectedExecutionException closed() {
+        return new RejectedExecutionException("샤드가 종료되었습니다.");
+    }
+
+    private class Shard implements Runnable {
+        private final BlockingQueue<PendingCommand> queue;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        // 이 샤드가 맡은 사용자 중 최근 처리한 사용자의 잔액 (샤드 스레드만 접근)
+        private final Map<Long, Long> balances = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > MAX_CACHED_USERS;
+            }
+        };
+
+        private Shard(int index, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "point-shard-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<PendingCommand> drained = new ArrayList<>(MAX_DRAIN);
+            while (running) {
+                try {
+                    PendingCommand first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    drained.add(first);
+                    queue.drainTo(drained, MAX_DRAIN - 1);
+                    process(drained);
+                } catch (InterruptedException e) {
+                    break;
+                } finally {
+                    drained.clear();
+                }
+            }
+
+            failPending();
+        }
+
+        // 종료 후 남은 요청이 무한히 기다리지 않도록 실패 처리
+        private void failPending() {
+            RejectedExecutionException closed = closed();
+            PendingCommand pending;
+            while ((pending = queue.poll()) != null) {
+                pending.future.completeExceptionally(closed);
+            }
+        }
+
+        private void process(List<PendingCommand> drained) {
+            // 사용자별로 요청 순서를 유지한 채 모은다.
+            Map<Long, List<PendingCommand>> groups = new LinkedHashMap<>();
+            for (PendingCommand pending : drained) {
+                groups.computeIfAbsent(pending.command.userId(), id -> new ArrayList<>()).add(pending);
+            }
+            groups.forEach(this::commitGroup);
+        }
+
+        private void commitGroup(long userId, List<PendingCommand> group) {
+            try {
+                Long cached = balances.get(userId);
+                long balance = cached != null ? cached : userPointRepository.selectById(userId).point();
+
+                // 메모리상의 잔액으로 차례대로 검증
+                List<PendingCommand> accepted = new ArrayList<>(group.size());
+                for (PendingCommand pending : group) {
+                    PointCommand command = pending.command;
+                    long newAmount = command.applyTo(balance);
+                    try {
+                        pointValidator.validate(command.type(), command.amount(), newAmount);
+                    } catch (IllegalArgumentException e) {
+                        pending.future.completeExceptionally(e);
+                        continue;
+                    }
+                    balance = newAmount;
+                    pending.balance = newAmount;
+                    accepted.add(pending);
+                }
+
+                if (accepted.isEmpty()) {
+                    balances.put(userId, balance);
+                    return;
+                }
+
+                if (views != null) {
+                    views.open(userId);
+                }
+                UserPoint afterPoint;
+                try {
+                    afterPoint = userPointRepository.insertOrUpdate(userId, balance);
+                } catch (RuntimeException e) {
+                    // 기록 전의 뷰가 고정된 채 남지 않도록 저장소 값으로 다시 만든다.
+                    if (views != null) {
+                        views.abort(userId);
+                    }
+                    throw e;
+                }
+                balances.put(userId, balance);
+                List<PointHistory> histories = new ArrayList<>(accepted.size());
+                // 잔액은 이미 기록되었으므로 이후 실패는 요청을 실패시키지 않는다. (실패로 응답하면 재시도로 중복 반영된다.)
+                for (PendingCommand pending : accepted) {
+                    PointCommand command = pending.command;
+                    PointHistory history = recordWriter.insertHistory(userId, command.type(), command.amount(), afterPoint.updateMillis());
+                    if (history != null) {
+                        histories.add(history);
+                    }
+                    recordWriter.appendLog(userId, command.type(), command.amount(), afterPoint.updateMillis());
+                }
+                if (views != null) {
+                    views.publish(afterPoint, histories);
+                }
+                for (PendingCommand pending : accepted) {
+                    pending.future.complete(new UserPoint(userId, pending.balance, afterPoint.updateMillis()));
+                }
+            } catch (RuntimeException e) {
+                // 기록 도중 실패하면 다음 요청에서 테이블 값을 다시 읽도록 보관한 잔액을 버린다.
+                balances.remove(userId);
+                group.forEach(pending -> pending.future.completeExceptionally(e));
+            }
+        }
+    }
+
+    private static class PendingCommand {
+        private final PointCommand command;
+        private final CompletableFuture<UserPoint> future = new CompletableFuture<>();
+        private long balance;
+
+        private PendingCommand(PointCommand command) {
+            this.command = command;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.hhplus.tdd.point.validation;
 
+import io.hhplus.tdd.point.domain.TransactionType;
 import org.springframework.stereotype.Component;
 
 import static io.hhplus.tdd.common.PointConstraints.*;
@@ -9,24 +10,90 @@ public class PointValidator {
 
     // 충전 검증
     public void validateChargeAmount(long amount, long newAmount) {
+        PointViolation violation = checkChargeAmount(amount, newAmount);
+        if (violation != null) {
+            throw violation.exception(amount, newAmount);
+        }
+    }
+
+    // 사용 검증 (1회 사용 한도 무제한, 단 음수만 방지)
+    public void validateUseAmount(long amount, long newAmount) {
+        PointViolation violation = checkUseAmount(amount, newAmount);
+        if (violation != null) {
+            throw violation.exception(amount, newAmount);
+        }
+    }
+
+    // 충전 검증 - 예외 없이 위반 사유를 돌려준다. (통과하면 null)
+    public PointViolation checkChargeAmount(long amount, long newAmount) {
         if (amount <= 0) {
-            throw new IllegalArgumentException("0보다 큰 금액을 입력해야 합니다.");
+            return PointViolation.NON_POSITIVE_AMOUNT;
         }
         if (amount > MAX_POINT_PER_CHARGE) {
-            throw new IllegalArgumentException("1회 충전 한도(" + MAX_POINT_PER_CHARGE + "포인트)를 초과할 수 없습니다.");
+            return PointViolation.CHARGE_LIMIT_EXCEEDED;
         }
         if (newAmount > MAX_POINT) {
-            throw new IllegalArgumentException("최대 보유 가능 포인트(" + MAX_POINT + "포인트)를 초과할 수 없습니다.");
+            return PointViolation.MAX_POINT_EXCEEDED;
         }
+        return null;
     }
 
-    // 사용 검증 (1회 사용 한도 무제한, 단 음수만 방지)
-    public void validateUseAmount(long amount, long newAmount) {
+    // 사용 검증 - 예외 없이 위반 사유를 돌려준다. (통과하면 null)
+    public PointViolation checkUseAmount(long amount, long newAmount) {
         if (amount <= 0) {
-            throw new IllegalArgumentException("0보다 큰 금액을 입력해야 합니다.");
+            return PointViolation.NON_POSITIVE_AMOUNT;
         }
         if (newAmount < 0) {
-            throw new IllegalArgumentException("보유 포인트(" + (amount + newAmount) + "포인트)보다 많은 금액을 사용할 수 없습니다.");
+            return PointViolation.INSUFFICIENT_POINT;
+        }
+        return null;
+    }
+
+    // 잔액 없이 판단할 수 있는 금액 검증 (0 이하, 1회 충전 한도) - 락/테이블 조회 전에 거절할 때 사용
+    public PointViolation checkAmount(TransactionType type, long amount) {
+        if (amount <= 0) {
+            return PointViolation.NON_POSITIVE_AMOUNT;
+        }
+        if (type == TransactionType.CHARGE && amount > MAX_POINT_PER_CHARGE) {
+            return PointViolation.CHARGE_LIMIT_EXCEEDED;
+        }
+        return null;
+    }
+
+    // 히스토리 페이지 크기 검증
+    public void validateHistoryPageSize(int limit) {
+        if (limit <= 0 || limit > MAX_HISTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+    }
+
+    // 이체 대상 검증
+    public void validateTransferUsers(long fromUserId, long toUserId) {
+        if (fromUserId == toUserId) {
+            throw new IllegalArgumentException("자기 자신에게 이체할 수 없습니다.");
+        }
+    }
+
+    // 잔액 조회 시각 검증
+    public void validateAtMillis(long atMillis) {
+        if (atMillis < 0) {
+            throw new IllegalArgumentException("조회 시각은 0 이상이어야 합니다.");
+        }
+    }
+
+    // 일괄 요청 크기 검증
+    public void validateBatchSize(int size) {
+        if (size <= 0 || size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 요청은 1건 이상 " + MAX_BATCH_SIZE + "건 이하여야 합니다.");
+        }
+    }
+
+    // 요청 종류에 맞는 검증
+    public void validate(TransactionType type, long amount, long newAmount) {
+        if (type == TransactionType.CHARGE) {
+            validateChargeAmount(amount, newAmount);
+        } else {
+            validateUseAmount(amount, newAmount);
         }
     }
 }
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.validation;
+
+import io.hhplus.tdd.common.exception.InsufficientPointException;
+import io.hhplus.tdd.common.exception.PointLimitExceededException;
+
+import static io.hhplus.tdd.common.PointConstraints.MAX_POINT;
+import static io.hhplus.tdd.common.PointConstraints.MAX_POINT_PER_CHARGE;
+
+/**
+ * 충전/사용 금액 검증 위반 사유 (PointConstraints 기준)
+ * 검증 결과를 예외 없이 돌려줄 때 사용하고, 메시지는 한 번만 만들어 둔다.
+ */
+public enum PointViolation {
+    NON_POSITIVE_AMOUNT("0보다 큰 금액을 입력해야 합니다."),
+    CHARGE_LIMIT_EXCEEDED("1회 충전 한도(" + MAX_POINT_PER_CHARGE + "포인트)를 초과할 수 없습니다."),
+    MAX_POINT_EXCEEDED("최대 보유 가능 포인트(" + MAX_POINT + "포인트)를 초과할 수 없습니다."),
+    INSUFFICIENT_POINT("보유 포인트보다 많은 금액을 사용할 수 없습니다.");
+
+    private final String message;
+
+    PointViolation(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * 기존 예외 기반 API(validate*)에서 던질 예외 - 잔액 부족은 보유 포인트를 메시지에 담는다.
+     */
+    public IllegalArgumentException exception(long amount, long newAmount) {
+        return switch (this) {
+            case NON_POSITIVE_AMOUNT -> new IllegalArgumentException(message);
+            case CHARGE_LIMIT_EXCEEDED, MAX_POINT_EXCEEDED -> new PointLimitExceededException(message);
+            case INSUFFICIENT_POINT -> new InsufficientPointException(
+                    "보유 포인트(" + (amount + newAmount) + "포인트)보다 많은 금액을 사용할 수 없습니다.");
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.common.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해당 테스트 클래스는 ConsistentHashRing 의 분배와 노드 추가 시 이동량을 검증한다.
+ */
+@DisplayName("일관된 해싱 링 테스트")
+public class ConsistentHashRingTest {
+
+    private static final int KEYS = 30_000;
+
+    @Test
+    @DisplayName("연속된 userId 도 노드마다 고르게 나뉜다.")
+    void ownerOf_ShouldSpreadKeys() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("http://a:8080", "http://b:8080", "http://c:8080"), 128);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= KEYS; userId++) {
+            counts.merge(ring.ownerOf(userId), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).hasSize(3);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(KEYS / 3 * 7 / 10, KEYS / 3 * 13 / 10));
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 일부 사용자만 새 노드로 옮겨 가고 나머지는 담당 노드가 바뀌지 않는다.")
+    void ownerOf_ShouldMoveOnlyToNewNode_WhenNodeAdded() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("http://a:8080", "http://b:8080"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("http://a:8080", "http://b:8080", "http://c:8080"), 128);
+
+        // when
+        int moved = 0;
+        for (long userId = 1; userId <= KEYS; userId++) {
+            String previousOwner = before.ownerOf(userId);
+            String owner = after.ownerOf(userId);
+            if (!owner.equals(previousOwner)) {
+                // then
+                assertThat(owner).isEqualTo("http://c:8080");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(KEYS / 3 * 7 / 10, KEYS / 3 * 13 / 10);
+    }
+
+    @Test
+    @DisplayName("노드가 없으면 담당 노드를 정할 수 없다.")
+    void ownerOf_ShouldThrow_WhenEmpty() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(), 128);
+
+        // when & then
+        assertThatThrownBy(() -> ring.ownerOf(1L)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해당 테스트 클래스는 UserOrderedExecutor 의 사용자별 순서 보장과 대기열 제한을 검증한다.
+ */
+@DisplayName("사용자별 순서 보장 실행기 테스트")
+public class UserOrderedExecutorTest {
+
+    private UserOrderedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 작업은 앞선 작업이 실패해도 요청 순서대로 하나씩 실행된다.")
+    void submit_ShouldRunInOrder_PerUser() {
+        // given
+        executor = new UserOrderedExecutor("test", 8, 1_000);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            int order = i;
+            futures.add(executor.submit(1L, () -> {
+                executed.add(order);
+                if (order % 50 == 0) {
+                    throw new IllegalStateException("실패");
+                }
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        // then
+        assertThat(executed).hasSize(200).isSorted();
+        assertThat(futures.get(1).join()).isEqualTo(1);
+        assertThat(futures.get(50)).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 거절된 future 를 돌려준다.")
+    void submit_ShouldReject_WhenQueueIsFull() {
+        // given
+        executor = new UserOrderedExecutor("test", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(1L, () -> await(release));
+        executor.submit(2L, () -> true);
+
+        // when
+        CompletableFuture<Boolean> rejected = executor.submit(3L, () -> true);
+
+        // then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("한 사용자에게 작업이 몰리면 사용자별 한도를 넘는 작업만 거절하고, 다른 사용자의 작업은 받는다.")
+    void submit_ShouldRejectFloodingUser_WhenPerUserLimitReached() {
+        // given
+        int maxPendingPerUser = 10;
+        executor = new UserOrderedExecutor("test", 4, 1_000, maxPendingPerUser);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> flood = new ArrayList<>();
+
+        // when
+        flood.add(executor.submit(1L, () -> await(release)));
+        for (int i = 0; i < 100; i++) {
+            flood.add(executor.submit(1L, () -> true));
+        }
+        CompletableFuture<Boolean> other = executor.submit(2L, () -> true);
+
+        // then
+        assertThat(flood.stream().filter(CompletableFuture::isCompletedExceptionally).count())
+                .isEqualTo(101 - maxPendingPerUser);
+        assertThatThrownBy(flood.get(maxPendingPerUser)::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(other.join()).isTrue();
+        assertThat(executor.pendingTasks()).isEqualTo(maxPendingPerUser);
+
+        release.countDown();
+        for (CompletableFuture<Boolean> accepted : flood.subList(0, maxPendingPerUser)) {
+            assertThat(accepted.join()).isTrue();
+        }
+        assertThat(executor.pendingTasks()).isZero();
+        assertThat(executor.pendingUsers()).isZero();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.hhplus.tdd.common.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해당 테스트 클래스는 IdempotencyCache 의 중복 제거와 크기/시간 제한을 검증한다.
+ */
+@DisplayName("멱등 키 캐시 테스트")
+public class IdempotencyCacheTest {
+
+    @Test
+    @DisplayName("같은 키로 동시에 요청해도 한 번만 처리하고 모두 같은 결과를 받는다.")
+    void execute_ShouldRunOnce_WhenConcurrentRetries() throws Exception {
+        // given
+        IdempotencyCache<Long> cache = new IdempotencyCache<>(100, Duration.ofMinutes(1));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int retries = 10;
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(retries + 1);
+        Future<Long> first = executor.submit(() -> cache.execute(1L, "key", 1L, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 100L;
+        }));
+        started.await();
+        List<Future<Long>> others = new ArrayList<>();
+        for (int i = 0; i < retries; i++) {
+            others.add(executor.submit(() -> cache.execute(1L, "key", 1L, () -> (long) executions.incrementAndGet())));
+        }
+        release.countDown();
+
+        // then
+        assertThat(first.get()).isEqualTo(100L);
+        for (Future<Long> other : others) {
+            assertThat(other.get()).isEqualTo(100L);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("검증 실패는 보관해서 같은 사유로 거절하고, 그 외 예외는 보관하지 않아 다시 처리한다.")
+    void execute_ShouldCacheOnlyValidationFailures() {
+        // given
+        IdempotencyCache<Long> cache = new IdempotencyCache<>(100, Duration.ofMinutes(1));
+        AtomicInteger executions = new AtomicInteger();
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.execute(1L, "invalid", 1L, () -> {
+                executions.incrementAndGet();
+                throw new IllegalArgumentException("잔액 부족");
+            })).isInstanceOf(IllegalArgumentException.class).hasMessage("잔액 부족");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+
+        assertThatThrownBy(() -> cache.execute(1L, "error", 1L, () -> {
+            throw new IllegalStateException("일시적인 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.execute(1L, "error", 1L, () -> 7L)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("만료된 키와 최대 크기를 넘은 오래된 키는 새 요청으로 처리한다.")
+    void execute_ShouldForgetKeys_WhenExpiredOrOverCapacity() throws InterruptedException {
+        // given
+        IdempotencyCache<Long> expiring = new IdempotencyCache<>(100, Duration.ofMillis(10));
+        IdempotencyCache<Long> bounded = new IdempotencyCache<>(2, Duration.ofMinutes(1));
+
+        // when
+        expiring.execute(1L, "key", 1L, () -> 1L);
+        Thread.sleep(20);
+        long afterExpire = expiring.execute(1L, "key", 1L, () -> 2L);
+
+        bounded.execute(1L, "a", 1L, () -> 1L);
+        bounded.execute(1L, "b", 1L, () -> 1L);
+        bounded.execute(1L, "c", 1L, () -> 1L);
+        long afterEvict = bounded.execute(1L, "a", 1L, () -> 2L);
+
+        // then
+        assertThat(afterExpire).isEqualTo(2L);
+        assertThat(afterEvict).isEqualTo(2L);
+        assertThat(bounded.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 키를 보내면 각자 처리하고 서로의 결과를 돌려받지 않는다.")
+    void execute_ShouldScopeKeysByUser() {
+        // given
+        IdempotencyCache<Long> cache = new IdempotencyCache<>(100, Duration.ofMinutes(1));
+
+        // when
+        long first = cache.execute(1L, "key", 1L, () -> 1L);
+        long second = cache.execute(2L, "key", 1L, () -> 2L);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(2L);
+        assertThat(cache.execute(1L, "key", 1L, () -> 3L)).isEqualTo(1L);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키는 최대 크기를 넘어도 제거하지 않고, 처리 중인 키로 가득 차면 새 키를 거절한다.")
+    void execute_ShouldKeepInFlightKeys_AndRejectWhenFull() throws Exception {
+        // given
+        IdempotencyCache<Long> cache = new IdempotencyCache<>(1, Duration.ofMinutes(1));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<Long> inFlight = executor.submit(() -> cache.execute(1L, "a", 1L, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 100L;
+        }));
+        started.await();
+
+        // then
+        assertThatThrownBy(() -> cache.execute(1L, "b", 1L, () -> 1L))
+                .isInstanceOf(RejectedExecutionException.class);
+        Future<Long> retry = executor.submit(() -> cache.execute(1L, "a", 1L, () -> (long) executions.incrementAndGet()));
+        release.countDown();
+        assertThat(inFlight.get()).isEqualTo(100L);
+        assertThat(retry.get()).isEqualTo(100L);
+        assertThat(executions.get()).isEqualTo(1);
+
+        // 처리가 끝난 키는 새 키에 자리를 내준다.
+        assertThat(cache.execute(1L, "b", 1L, () -> 2L)).isEqualTo(2L);
+        assertThat(cache.size()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.common.lock;
+
+import io.hhplus.tdd.common.exception.UserBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해당 테스트 클래스는 UserLockRegistry 의 락 보관/제거를 검증한다.
+ */
+@DisplayName("사용자 락 저장소 테스트")
+public class UserLockRegistryTest {
+
+    private final UserLockRegistry registry = new UserLockRegistry();
+
+    @Test
+    @DisplayName("같은 사용자는 같은 락을 빌려가고, 모두 반납하면 락이 제거된다.")
+    void acquire_ShouldShareLock_AndRemoveAfterRelease() {
+        // given
+        long userId = 1L;
+
+        // when
+        UserLock first = registry.acquire(userId);
+        UserLock second = registry.acquire(userId);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(registry.size()).isEqualTo(1);
+
+        first.close();
+        assertThat(registry.size()).isEqualTo(1);
+
+        second.close();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 빌리고 반납해도 상호 배제가 보장되고 끝나면 보관된 락이 없다.")
+    void acquire_ShouldKeepMutualExclusion_WhenConcurrent() throws InterruptedException {
+        // given
+        int threads = 10;
+        int repeat = 1_000;
+        long[] counter = new long[1];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < repeat; i++) {
+                        try (UserLock lock = registry.acquire(1L)) {
+                            lock.lock();
+                            try {
+                                counter[0]++;
+                            } finally {
+                                lock.unlock();
+                            }
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // then
+        assertThat(counter[0]).isEqualTo((long) threads * repeat);
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("락을 기다리는 스레드가 최대 대기열 크기만큼 있으면 빌려주지 않고 바로 거절한다.")
+    void acquire_ShouldReject_WhenQueueIsFull() {
+        // given - 잡고 있는 스레드 1 + 기다리는 스레드 2
+        UserLockRegistry limited = new UserLockRegistry(2, Duration.ZERO, Duration.ofSeconds(3));
+        UserLock holder = limited.acquire(1L);
+        UserLock firstWaiter = limited.acquire(1L);
+        UserLock secondWaiter = limited.acquire(1L);
+
+        // when & then
+        assertThatThrownBy(() -> limited.acquire(1L))
+                .isInstanceOf(UserBusyException.class)
+                .extracting(e -> ((UserBusyException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(3));
+        // 다른 사용자는 영향을 받지 않는다.
+        limited.acquire(2L).close();
+
+        // 하나가 반납하면 다시 빌릴 수 있다.
+        secondWaiter.close();
+        UserLock next = limited.acquire(1L);
+
+        // verify
+        next.close();
+        firstWaiter.close();
+        holder.close();
+        assertThat(limited.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 락을 얻지 못하면 거절하고, 반납 후 락이 남지 않는다.")
+    void lockOrReject_ShouldReject_WhenWaitExceeded() throws Exception {
+        // given
+        UserLockRegistry limited = new UserLockRegistry(10, Duration.ofMillis(50), Duration.ofSeconds(1));
+        UserLock holder = limited.acquire(1L);
+        holder.lock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> waiter = executor.submit(() -> {
+            try (UserLock lock = limited.acquire(1L)) {
+                lock.lockOrReject();
+                lock.unlock();
+            }
+        });
+
+        // then
+        assertThatThrownBy(waiter::get).hasCauseInstanceOf(UserBusyException.class);
+
+        // verify
+        holder.unlock();
+        holder.close();
+        executor.shutdown();
+        assertThat(limited.size()).isZero();
+    }
+}
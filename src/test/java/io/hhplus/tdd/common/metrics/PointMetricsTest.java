@@ -0,0 +1,118 @@
+package io.hhplus.tdd.common.metrics;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 해당 테스트 클래스는 PointService 처리 중 남는 지표를 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("포인트 지표 테스트")
+public class PointMetricsTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        PointProperties properties = new PointProperties();
+        PointMetrics metrics = new PointMetrics(registry);
+        pointService = new PointService(
+                new UserPointRepository(userPointTable, properties, metrics),
+                new PointHistoryRepository(pointHistoryTable, properties, metrics),
+                properties, metrics);
+    }
+
+    @Test
+    @DisplayName("충전/사용 결과는 유형과 결과별로 집계되고, 락 대기/점유 시간과 테이블 호출 시간이 기록된다.")
+    void pointService_ShouldRecordOutcomesAndLatencies() {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, millis));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(new PointHistory(1L, userId, 500L, TransactionType.CHARGE, millis));
+
+        // when
+        pointService.chargePoint(userId, 500L);
+        assertThatThrownBy(() -> pointService.chargePoint(userId, 200_000L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointService.usePoint(userId, 5_000L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointService.usePoint(userId, 0L)).isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(transactions("CHARGE", "success")).isEqualTo(1);
+        assertThat(transactions("CHARGE", "limit_exceeded")).isEqualTo(1);
+        assertThat(transactions("USE", "insufficient_balance")).isEqualTo(1);
+        assertThat(transactions("USE", "invalid_amount")).isEqualTo(1);
+
+        assertThat(registry.get("point.lock.wait").timer().count()).isEqualTo(4);
+        assertThat(registry.get("point.lock.hold").timer().count()).isEqualTo(4);
+        assertThat(registry.get("point.table.latency").tags("table", "user_point", "operation", "selectById")
+                .timer().count()).isEqualTo(4);
+        assertThat(registry.get("point.table.latency").tags("table", "user_point", "operation", "insertOrUpdate")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("point.table.latency").tags("table", "point_history", "operation", "insert")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이체 실패는 한 번만 집계하고, 금액 검증 실패는 거절한 쪽의 처리 결과에만 남긴다.")
+    void transferPoint_ShouldRecordFailureOncePerTransfer() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(fromUserId)).thenReturn(new UserPoint(fromUserId, 100L, millis));
+        when(userPointTable.selectById(toUserId)).thenReturn(new UserPoint(toUserId, 0L, millis));
+
+        // when
+        assertThatThrownBy(() -> pointService.transferPoint(fromUserId, toUserId, 500L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pointService.transferPoint(fromUserId, fromUserId, 500L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(transactions("USE", "insufficient_balance")).isEqualTo(1);
+        assertThat(transactions("CHARGE", "insufficient_balance")).isZero();
+        assertThat(transactions("USE", "invalid_amount") + transactions("CHARGE", "invalid_amount")).isZero();
+        assertThat(transferFailures("insufficient_balance")).isEqualTo(1);
+        assertThat(transferFailures("invalid_amount")).isEqualTo(1);
+    }
+
+    private double transferFailures(String outcome) {
+        return registry.get("point.transfer.failures").tag("outcome", outcome).counter().count();
+    }
+
+    private double transactions(String type, String outcome) {
+        return registry.get("point.transactions").tags("type", type, "outcome", outcome).counter().count();
+    }
+}
@@ -2,11 +2,18 @@ package io.hhplus.tdd.point.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.common.GlobalExceptionHandler;
+import io.hhplus.tdd.common.exception.UnsupportedPointOperationException;
+import io.hhplus.tdd.common.exception.UserBusyException;
 import io.hhplus.tdd.common.exception.UserNotFoundException;
+import io.hhplus.tdd.point.DTO.PointBatchResult;
+import io.hhplus.tdd.point.DTO.PointTransferResult;
+import io.hhplus.tdd.point.domain.PointCommand;
 import io.hhplus.tdd.point.domain.TransactionType;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
 import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.validation.PointViolation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,10 +24,20 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.util.List;
-
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -61,6 +78,42 @@ public class PointControllerTest {
 
     }
 
+    @Test
+    @DisplayName("사용자의 ID가 담긴 뷰 조회 요청을 받으면 같은 시점의 포인트와 최근 히스토리를 버전과 함께 응답한다.")
+    void selectUserPointView_ShouldReturnView() throws Exception {
+        // given
+        long userId = 1L;
+        UserPointView expected = new UserPointView(2L, new UserPoint(userId, 500L, 2L), List.of(
+                new PointHistory(2L, userId, 500L, TransactionType.USE, 2L),
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L)));
+        when(pointService.selectUserPointView(userId)).thenReturn(expected);
+
+        // when & then
+        mockMvc.perform(get("/point/{id}/view", userId))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expected)))
+                .andExpect(jsonPath("$.version").value(2))
+                .andExpect(jsonPath("$.recentHistories[0].id").value(2));
+    }
+
+    @Test
+    @DisplayName("사용자의 ID와 조회 시각(at)이 담긴 HTTP 요청을 받으면 그 시각의 포인트를 조회한다.")
+    void selectUserPoint_ShouldReturnPointAt_WhenAtGiven() throws Exception {
+        // given
+        long userId = 1L;
+        long at = 1_700_000_000_000L;
+        UserPoint expected = new UserPoint(userId, 700L, at - 10);
+        when(pointService.selectUserPointAt(userId, at)).thenReturn(expected);
+
+        // when & then
+        mockMvc.perform(get("/point/{id}", userId).param("at", String.valueOf(at)))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+
+        // verify
+        verify(pointService, never()).selectUserPoint(userId);
+    }
+
     @Test
     @DisplayName("사용자의 ID가 담긴 HTTP 요청을 받으면 사용자의 포인트 이력을 조회한다.")
     void selectUserHistories_ShouldUserHistories_WhenValidInput() throws Exception {
@@ -81,6 +134,58 @@ public class PointControllerTest {
                 .andExpect(content().json(expectedJson));
     }
 
+    @Test
+    @DisplayName("cursor와 limit이 담긴 HTTP 요청을 받으면 사용자의 포인트 이력을 최신순으로 페이지 조회한다.")
+    void selectUserHistories_ShouldReturnPage_WhenCursorAndLimitGiven() throws Exception {
+        // given
+        long userId = 1L;
+        List<PointHistory> expected = List.of(
+                new PointHistory(4L, userId, 500L, TransactionType.USE, System.currentTimeMillis()),
+                new PointHistory(3L, userId, 2000L, TransactionType.CHARGE, System.currentTimeMillis())
+        );
+
+        when(pointService.selectUserHistories(userId, 5L, 2)).thenReturn(expected);
+
+        // when & then
+        mockMvc.perform(get("/point/histories/{id}", userId)
+                        .param("cursor", "5")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(objectMapper.writeValueAsString(expected)));
+    }
+
+    @Test
+    @DisplayName("Accept 가 NDJSON 인 HTTP 요청을 받으면 사용자의 포인트 이력을 한 줄에 하나씩 스트리밍한다.")
+    void streamUserHistories_ShouldWriteNdjson_WhenAcceptNdjson() throws Exception {
+        // given
+        long userId = 1L;
+        PointHistory first = new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L);
+        PointHistory second = new PointHistory(2L, userId, 500L, TransactionType.USE, 2L);
+        PointHistory third = new PointHistory(3L, userId, 2000L, TransactionType.CHARGE, 3L);
+
+        doAnswer(invocation -> {
+            Consumer<List<PointHistory>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(first, second));
+            consumer.accept(List.of(third));
+            return null;
+        }).when(pointService).streamUserHistories(eq(userId), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/histories/{id}", userId)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String expected = objectMapper.writeValueAsString(first) + "\n"
+                + objectMapper.writeValueAsString(second) + "\n"
+                + objectMapper.writeValueAsString(third) + "\n";
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(expected));
+    }
+
     @Test
     @DisplayName("사용자의 ID와 충전량이 담긴 HTTP 요청을 받으면 사용자의 포인트에서 충전량을 추가한다.")
     void chargePoint_ShouldIncreaseUserPoint_WhenValidInput() throws Exception {
@@ -100,6 +205,26 @@ public class PointControllerTest {
                 .andExpect(jsonPath("$.point").value(expectedAmount));
     }
 
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 담긴 충전 요청은 키와 함께 서비스에 전달한다.")
+    void chargePoint_ShouldPassIdempotencyKey_WhenHeaderGiven() throws Exception {
+        // given
+        long userId = 1L;
+        long chargeAmount = 500L;
+        String idempotencyKey = "retry-1";
+
+        UserPoint expected = new UserPoint(userId, 1000L, System.currentTimeMillis());
+        when(pointService.chargePoint(userId, chargeAmount, idempotencyKey)).thenReturn(expected);
+
+        // when & then
+        mockMvc.perform(patch("/point/charge/{id}", userId)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType("application/json")
+                        .content(String.valueOf(chargeAmount)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(1000L));
+    }
+
     @Test
     @DisplayName("사용자의 ID와 사용량이 담긴 HTTP 요청을 받으면 사용자의 포인트에서 사용량을 차감한다.")
     void usePoint_ShouldDecreaseUserPoint_WhenValidInput() throws Exception {
@@ -120,6 +245,71 @@ public class PointControllerTest {
 
     }
 
+    @Test
+    @DisplayName("보내는 사용자 ID, 받는 사용자(to)와 이체량이 담긴 HTTP 요청을 받으면 양쪽의 이체 후 포인트를 반환한다.")
+    void transferPoint_ShouldReturnBothPoints_WhenValidInput() throws Exception {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long amount = 300L;
+        PointTransferResult expected = new PointTransferResult(new UserPoint(fromUserId, 700L, 1L),
+                new UserPoint(toUserId, 300L, 1L));
+        when(pointService.transferPoint(fromUserId, toUserId, amount)).thenReturn(expected);
+
+        // when & then
+        mockMvc.perform(patch("/point/transfer/{id}", fromUserId)
+                        .param("to", String.valueOf(toUserId))
+                        .contentType("application/json")
+                        .content(String.valueOf(amount)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from.point").value(700L))
+                .andExpect(jsonPath("$.to.point").value(300L));
+    }
+
+    @Test
+    @DisplayName("현재 처리 방식에서 이체를 지원하지 않으면 501 을 반환한다.")
+    void transferPoint_ShouldReturnNotImplemented_WhenUnsupported() throws Exception {
+        // given
+        when(pointService.transferPoint(1L, 2L, 300L))
+                .thenThrow(new UnsupportedPointOperationException("현재 처리 방식에서는 이체를 지원하지 않습니다."));
+
+        // when & then
+        mockMvc.perform(patch("/point/transfer/{id}", 1L)
+                        .param("to", "2")
+                        .contentType("application/json")
+                        .content("300"))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.message").value("현재 처리 방식에서는 이체를 지원하지 않습니다."));
+    }
+
+    @Test
+    @DisplayName("여러 건의 충전/사용 요청을 받으면 요청 순서대로 건별 결과를 반환한다.")
+    void executeBatch_ShouldReturnResultPerItem() throws Exception {
+        // given
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, TransactionType.CHARGE, 1000L),
+                new PointCommand(2L, TransactionType.USE, 500L),
+                new PointCommand(3L, TransactionType.CHARGE, 100L)
+        );
+        List<PointBatchResult> expected = List.of(
+                PointBatchResult.success(commands.get(0), new UserPoint(1L, 1000L, System.currentTimeMillis())),
+                PointBatchResult.failure(commands.get(1), new IllegalArgumentException("보유 포인트(0포인트)보다 많은 금액을 사용할 수 없습니다.")),
+                PointBatchResult.failure(commands.get(2), new RejectedExecutionException("대기열이 가득 찼습니다."))
+        );
+        when(pointService.executeBatch(commands)).thenReturn(expected);
+
+        // when & then
+        mockMvc.perform(patch("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(commands)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userPoint.point").value(1000L))
+                .andExpect(jsonPath("$[1].error.error").value("400"))
+                .andExpect(jsonPath("$[1].error.message").value("보유 포인트(0포인트)보다 많은 금액을 사용할 수 없습니다."))
+                .andExpect(jsonPath("$[2].error.error").value("503"))
+                .andExpect(jsonPath("$[2].error.message").value("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     // back-end에서 소수를 막는 것보다 front-end에서 정수 입력을 강제하는 게 효율적이라 판단.
     /*@Test
     @DisplayName("충전 혹은 사용 시 외부 입력으로 소수가 들어왔을 때 예외처리한다.")
@@ -192,7 +382,8 @@ public class PointControllerTest {
                             .content(String.valueOf(amount)))
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.error").value("400"))
-                    .andExpect(jsonPath("$.message").value("0보다 큰 금액을 입력해야 합니다."));
+                    .andExpect(jsonPath("$.message").value("0보다 큰 금액을 입력해야 합니다."))
+                    .andExpect(jsonPath("$.timestamp").isNotEmpty());
         }
     }
 
@@ -235,4 +426,48 @@ public class PointControllerTest {
                 .andExpect(jsonPath("$.message").value("보유 포인트(0포인트)보다 많은 금액을 사용할 수 없습니다."));
     }
 
+    @Test
+    @DisplayName("사용자에게 요청이 몰려 거절되면 429 와 Retry-After 헤더를 반환")
+    void chargePoint_ShouldReturn429_WhenUserBusy() throws Exception {
+        // given
+        long userId = 1L;
+        long amount = 1000L;
+
+        when(pointService.chargePoint(userId, amount))
+                .thenThrow(new UserBusyException("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", Duration.ofMillis(1500)));
+
+        // when & then
+        mockMvc.perform(patch("/point/charge/{id}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(amount)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.error").value("429"))
+                .andExpect(jsonPath("$.message").value("요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @Test
+    @DisplayName("잔액과 무관하게 잘못된 금액은 서비스 처리 없이 미리 만든 400 응답으로 거절한다.")
+    void chargePoint_ShouldRejectWithoutProcessing_WhenPrecheckFails() throws Exception {
+        // given
+        long userId = 1L;
+        long amount = -1L;
+        when(pointService.precheckAmount(TransactionType.CHARGE, amount)).thenReturn(PointViolation.NON_POSITIVE_AMOUNT);
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(patch("/point/charge/{id}", userId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(String.valueOf(amount)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.error").value("400"))
+                    .andExpect(jsonPath("$.message").value("0보다 큰 금액을 입력해야 합니다."))
+                    .andExpect(jsonPath("$.timestamp").isNotEmpty());
+        }
+
+        // verify
+        verify(pointService, never()).chargePoint(eq(userId), eq(amount));
+    }
+
 }
@@ -0,0 +1,151 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.common.GlobalExceptionHandler;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.validation.PointViolation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 해당 테스트 클래스는 ReactivePointController의 HTTP 입출력을 검증한다.
+ */
+@WebFluxTest(ReactivePointController.class)
+@Import(GlobalExceptionHandler.class)
+@DisplayName("WebFlux 컨트롤러 테스트")
+public class ReactivePointControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @MockBean
+    private PointService pointService;
+
+    @Test
+    @DisplayName("사용자의 ID가 담긴 HTTP 요청을 받으면 비동기로 사용자의 포인트를 조회")
+    void selectUserPoint_ShouldReturnUserPoint() {
+        // given
+        long userId = 1L;
+        UserPoint expected = new UserPoint(userId, 1000L, 1L);
+        when(pointService.selectUserPointAsync(userId)).thenReturn(CompletableFuture.completedFuture(expected));
+
+        // when & then
+        webTestClient.get().uri("/point/{id}", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserPoint.class).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("사용자의 ID가 담긴 뷰 조회 요청을 받으면 포인트와 최근 히스토리를 함께 응답한다.")
+    void selectUserPointView_ShouldReturnView() {
+        // given
+        long userId = 1L;
+        UserPointView expected = new UserPointView(1L, new UserPoint(userId, 1000L, 1L),
+                List.of(new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L)));
+        when(pointService.selectUserPointViewAsync(userId)).thenReturn(CompletableFuture.completedFuture(expected));
+
+        // when & then
+        webTestClient.get().uri("/point/{id}/view", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserPointView.class).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("사용자의 ID와 충전량, Idempotency-Key 가 담긴 HTTP 요청을 받으면 비동기로 충전한다.")
+    void chargePoint_ShouldReturnUserPoint() {
+        // given
+        long userId = 1L;
+        UserPoint expected = new UserPoint(userId, 1500L, 1L);
+        when(pointService.chargePointAsync(userId, 500L, "retry-1")).thenReturn(CompletableFuture.completedFuture(expected));
+
+        // when & then
+        webTestClient.patch().uri("/point/charge/{id}", userId)
+                .header("Idempotency-Key", "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("500")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(UserPoint.class).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("비동기 처리 중 검증에 실패하면 400, 대기열이 가득 차면 503 을 응답한다.")
+    void usePoint_ShouldMapErrors() {
+        // given
+        long userId = 1L;
+        when(pointService.usePointAsync(userId, 500L, null))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("포인트가 부족합니다.")));
+        when(pointService.usePointAsync(userId, 700L, null))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException()));
+
+        // when & then
+        webTestClient.patch().uri("/point/use/{id}", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("500")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("포인트가 부족합니다.");
+        webTestClient.patch().uri("/point/use/{id}", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("700")
+                .exchange()
+                .expectStatus().isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("1회 충전 한도를 넘는 금액은 비동기 처리 없이 미리 만든 400 응답으로 거절한다.")
+    void chargePoint_ShouldRejectWithoutOffload_WhenPrecheckFails() {
+        // given
+        long userId = 1L;
+        long amount = 100_001L;
+        when(pointService.precheckAmount(TransactionType.CHARGE, amount)).thenReturn(PointViolation.CHARGE_LIMIT_EXCEEDED);
+
+        // when & then
+        webTestClient.patch().uri("/point/charge/{id}", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(String.valueOf(amount))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("400")
+                .jsonPath("$.message").isEqualTo("1회 충전 한도(100000포인트)를 초과할 수 없습니다.");
+
+        // verify
+        verify(pointService, never()).chargePointAsync(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("사용자의 ID가 담긴 HTTP 요청을 받으면 비동기로 사용자의 포인트 이력을 조회")
+    void selectUserHistories_ShouldReturnHistories() {
+        // given
+        long userId = 1L;
+        List<PointHistory> expected = List.of(new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L));
+        when(pointService.selectUserHistoriesAsync(userId, null, null)).thenReturn(CompletableFuture.completedFuture(expected));
+
+        // when & then
+        webTestClient.get().uri("/point/histories/{id}", userId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(PointHistory.class).isEqualTo(expected);
+    }
+}
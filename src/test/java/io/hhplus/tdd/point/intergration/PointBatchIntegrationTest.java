@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.point.DTO.PointBatchResult;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class PointBatchIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    @DisplayName("일괄 요청은 사용자별로 순서를 지켜 처리되고, 실패한 건은 에러로 응답한다.")
+    void executeBatch_ShouldKeepOrderPerUser_AndReportFailures() {
+        // given
+        long firstUser = 8001L;
+        long secondUser = 8002L;
+        List<PointCommand> commands = List.of(
+                new PointCommand(firstUser, TransactionType.CHARGE, 1000L),
+                new PointCommand(secondUser, TransactionType.USE, 500L),
+                new PointCommand(firstUser, TransactionType.USE, 300L),
+                new PointCommand(secondUser, TransactionType.CHARGE, 700L),
+                new PointCommand(firstUser, TransactionType.USE, 800L)
+        );
+
+        // when
+        List<PointBatchResult> results = pointService.executeBatch(commands);
+
+        // then
+        assertThat(results).hasSize(commands.size());
+        assertThat(results.get(0).userPoint().point()).isEqualTo(1000L);
+        assertThat(results.get(1).error().getError()).isEqualTo("400");
+        assertThat(results.get(2).userPoint().point()).isEqualTo(700L);
+        assertThat(results.get(3).userPoint().point()).isEqualTo(700L);
+        assertThat(results.get(4).error().getMessage()).isEqualTo("보유 포인트(700포인트)보다 많은 금액을 사용할 수 없습니다.");
+
+        assertThat(pointService.selectUserPoint(firstUser).point()).isEqualTo(700L);
+        assertThat(pointService.selectUserPoint(secondUser).point()).isEqualTo(700L);
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.intergration;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * PointConcurrencyTest 의 시나리오를 CAS 엔진으로 다시 실행한다.
+ */
+@SpringBootTest(properties = "point.engine=CAS")
+@AutoConfigureMockMvc
+public class PointCasConcurrencyTest extends PointConcurrencyTest {
+}
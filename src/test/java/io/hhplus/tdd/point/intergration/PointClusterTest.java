@@ -0,0 +1,192 @@
+package io.hhplus.tdd.point.intergration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.cluster.PointClusterRouter;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 한 프로세스 안에서 노드 여러 개(localhost 의 서로 다른 포트)를 띄워 클러스터 모드를 검증한다.
+ * 처음에는 A, B 두 노드로 시작하고, 이후 C 를 추가해 사용자 일부가 C 로 옮겨 가는지 확인한다.
+ */
+@DisplayName("클러스터 모드 통합 테스트")
+public class PointClusterTest {
+
+    private static final int USERS = 30;
+    private static final String SECRET = "cluster-test-secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+        client.close();
+    }
+
+    @Test
+    @DisplayName("어느 노드로 요청해도 담당 노드가 처리하고, 노드를 추가하면 옮겨 간 사용자의 잔액과 히스토리가 새 노드로 넘어간다.")
+    void cluster_ShouldRouteAndRebalance() throws Exception {
+        // given - A, B 두 노드
+        String a = "http://localhost:" + freePort();
+        String b = "http://localhost:" + freePort();
+        String c = "http://localhost:" + freePort();
+        ConfigurableApplicationContext nodeA = start(a, List.of(a, b));
+        start(b, List.of(a, b));
+
+        StringBuilder batch = new StringBuilder("[");
+        for (long userId = 1; userId <= USERS; userId++) {
+            batch.append(userId == 1 ? "" : ",").append("{\"userId\":").append(userId)
+                    .append(",\"type\":\"CHARGE\",\"amount\":1000}");
+        }
+        HttpResponse<String> charged = send(a, "PATCH", "/point/batch", batch.append("]").toString());
+        assertThat(charged.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(charged.body()).findValues("point"))
+                .hasSize(USERS).allSatisfy(point -> assertThat(point.asLong()).isEqualTo(1000L));
+        for (long userId = 1; userId <= USERS; userId++) {
+            assertThat(pointOf(b, userId)).isEqualTo(1000L);
+        }
+
+        // when - C 를 추가한다. (새 노드부터 구성을 바꾼다.)
+        ConfigurableApplicationContext nodeC = start(c, List.of(a, b));
+        String nodes = objectMapper.writeValueAsString(List.of(a, b, c));
+        for (String node : List.of(c, a, b)) {
+            assertThat(send(node, "PUT", "/cluster/nodes", nodes).statusCode()).isEqualTo(200);
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (long userId = 1; userId <= USERS; userId++) {
+                long id = userId;
+                responses.add(executor.submit(() -> send(b, "PATCH", "/point/charge/" + id, "500")));
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                assertThat(response.get().statusCode()).isEqualTo(200);
+            }
+        }
+
+        // then
+        PointClusterRouter router = nodeA.getBean(PointClusterRouter.class);
+        PointService serviceC = nodeC.getBean(PointService.class);
+        int movedToC = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            assertThat(pointOf(a, userId)).isEqualTo(1500L);
+            assertThat(objectMapper.readTree(send(c, "GET", "/point/histories/" + userId, null).body())).hasSize(2);
+            if (router.ownerOf(userId).equals(c)) {
+                // 옮겨 간 사용자는 C 가 직접 보관한다.
+                assertThat(serviceC.selectUserPoint(userId).point()).isEqualTo(1500L);
+                assertThat(serviceC.selectUserHistories(userId)).hasSize(2);
+                movedToC++;
+            }
+        }
+        assertThat(movedToC).isPositive();
+    }
+
+    @Test
+    @DisplayName("비밀 값이 없거나 다른 클러스터 요청은 거절하고, 사용자를 맡지 않는 노드에는 넘겨주지 않는다.")
+    void cluster_ShouldRejectUnauthenticatedOrForeignRequests() throws Exception {
+        // given
+        String a = "http://localhost:" + freePort();
+        String b = "http://localhost:" + freePort();
+        ConfigurableApplicationContext nodeA = start(a, List.of(a, b));
+        PointClusterRouter router = nodeA.getBean(PointClusterRouter.class);
+        long userId = 1;
+        String owner = router.ownerOf(userId);
+
+        // when & then - 비밀 값이 없거나 다르면 403
+        assertThat(sendWithSecret(a, "PUT", "/cluster/nodes", objectMapper.writeValueAsString(List.of(a)), null)
+                .statusCode()).isEqualTo(403);
+        assertThat(sendWithSecret(a, "POST", "/cluster/handoff/" + userId + "?requester=" + b, null, "wrong")
+                .statusCode()).isEqualTo(403);
+        assertThat(router.nodes()).containsExactly(a, b);
+
+        // when & then - 구성에 없는 노드나 사용자를 맡지 않는 노드는 400
+        assertThat(send(a, "POST", "/cluster/handoff/" + userId + "?requester=http://localhost:1", null)
+                .statusCode()).isEqualTo(400);
+        String notOwner = owner.equals(a) ? b : a;
+        assertThat(send(a, "POST", "/cluster/handoff/" + userId + "?requester=" + notOwner, null)
+                .statusCode()).isEqualTo(400);
+        assertThat(router.ownerOf(userId)).isEqualTo(owner);
+    }
+
+    @Test
+    @DisplayName("요청을 전달할 인터셉터가 없는 reactive 환경에서는 클러스터 모드로 시작하지 않는다.")
+    void cluster_ShouldFailToStart_WhenReactive() throws Exception {
+        // given
+        String a = "http://localhost:" + freePort();
+
+        // when & then
+        assertThatThrownBy(() -> new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=" + URI.create(a).getPort(),
+                "--spring.main.web-application-type=reactive",
+                "--point.cluster.enabled=true",
+                "--point.cluster.self=" + a,
+                "--point.cluster.secret=" + SECRET,
+                "--point.cluster.nodes=" + a))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .rootCause().hasMessageContaining("서블릿");
+    }
+
+    private ConfigurableApplicationContext start(String self, List<String> nodes) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=" + URI.create(self).getPort(),
+                "--point.cluster.enabled=true",
+                "--point.cluster.self=" + self,
+                "--point.cluster.secret=" + SECRET,
+                "--point.cluster.nodes=" + String.join(",", nodes));
+        contexts.add(context);
+        return context;
+    }
+
+    private long pointOf(String node, long userId) throws Exception {
+        HttpResponse<String> response = send(node, "GET", "/point/" + userId, null);
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("point").asLong();
+    }
+
+    private HttpResponse<String> send(String node, String method, String path, String json) throws Exception {
+        return sendWithSecret(node, method, path, json, SECRET);
+    }
+
+    private HttpResponse<String> sendWithSecret(String node, String method, String path, String json, String secret) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(node + path));
+        if (secret != null) {
+            builder.header(PointClusterRouter.SECRET_HEADER, secret);
+        }
+        if (json == null) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
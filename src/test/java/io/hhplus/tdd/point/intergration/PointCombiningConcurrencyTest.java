@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LOCK 방식에서 요청이 몰린 사용자만 묶음 처리로 바뀌어도 모든 요청이 정확히 반영되는지 검증한다.
+ * 테이블 지연(최대 300ms)이 있으면 오래 걸리므로 1ms 지연 테이블로 실행한다.
+ */
+@DisplayName("hot user 묶음 처리 동시성 테스트")
+public class PointCombiningConcurrencyTest {
+
+    private static final long HOT_USER_ID = 1L;
+    private static final long COLD_USER_ID = 2L;
+    private static final int THREADS = 16;
+    private static final int CHARGES_PER_THREAD = 100;
+    private static final long AMOUNT = 10L;
+
+    private final AtomicInteger writes = new AtomicInteger();
+    private final AtomicLong histories = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("한 사용자에게 몰린 충전은 묶음으로 기록되어 쓰기 횟수가 줄고, 잔액과 히스토리는 요청 수만큼 반영된다.")
+    void chargePoint_ShouldCombineHotUser_AndKeepColdUserDirect() throws InterruptedException {
+        // given
+        PointProperties properties = new PointProperties();
+        properties.getCombining().setEnabled(true);
+        properties.getCombining().setPromoteQueueLength(2);
+        properties.getCombining().setCoolDown(Duration.ofSeconds(10));
+        PointMetrics metrics = new PointMetrics(registry);
+        PointService pointService = new PointService(
+                new UserPointRepository(new SlowUserPointTable()),
+                new PointHistoryRepository(new PointHistoryTable() {
+                    @Override
+                    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                        return new PointHistory(histories.incrementAndGet(), userId, amount, type, updateMillis);
+                    }
+                }),
+                properties, metrics);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                executor.execute(() -> {
+                    await(start);
+                    for (int i = 0; i < CHARGES_PER_THREAD; i++) {
+                        pointService.chargePoint(HOT_USER_ID, AMOUNT);
+                    }
+                });
+            }
+            start.countDown();
+        }
+        int hotWrites = writes.getAndSet(0);
+        pointService.chargePoint(COLD_USER_ID, AMOUNT);
+        pointService.chargePoint(COLD_USER_ID, AMOUNT);
+
+        // then
+        long requests = (long) THREADS * CHARGES_PER_THREAD;
+        assertThat(pointService.selectUserPoint(HOT_USER_ID).point()).isEqualTo(requests * AMOUNT);
+        assertThat(pointService.selectUserPoint(COLD_USER_ID).point()).isEqualTo(2 * AMOUNT);
+        assertThat(histories.get()).isEqualTo(requests + 2);
+        assertThat(hotWrites).isLessThan((int) requests);
+        // 몰리지 않은 사용자는 요청마다 기록한다.
+        assertThat(writes.get()).isEqualTo(2);
+
+        // verify
+        assertThat(registry.get("point.hot.transitions").tag("direction", "promoted").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("point.hot.users").gauge().value()).isEqualTo(1.0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 기록에 1ms 걸리는 UserPointTable (락 대기가 쌓이도록)
+     */
+    private class SlowUserPointTable extends UserPointTable {
+        private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writes.incrementAndGet();
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.intergration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.intergration.load.PointLoadConfig;
+import io.hhplus.tdd.point.intergration.load.PointLoadHarness;
+import io.hhplus.tdd.point.intergration.load.PointLoadReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 쏠림(Zipf)이 있는 조회/충전/사용 부하에서 처리량과 응답 시간 백분위 측정 (./gradlew loadTest)
+ * 결과는 JSON 으로 남긴다. (기본 build/reports/load/point-load.json, -Dpoint.load.report 로 변경)
+ * - 부하 설정은 PointLoadConfig 참고 (예: -Dpoint.load.rate=500 -Dpoint.load.mix=50:25:25)
+ * - -Dpoint.load.base-url 을 주면 이미 떠 있는 서버로 보내고, 없으면 애플리케이션을 직접 띄운다. (-Dpoint.engine 등 설정 적용)
+ * - -Dpoint.load.max-p99-millis 를 주면 전체 p99 가 그 값을 넘을 때 실패한다. (릴리스 전 회귀 확인용)
+ */
+@Tag("load")
+@DisplayName("사용자 쏠림 부하 테스트")
+public class PointSkewedLoadTest {
+
+    @Test
+    @DisplayName("open-loop 부하에서 모든 요청이 서버 오류 없이 응답되고, 처리량과 응답 시간 백분위를 남긴다.")
+    void skewedLoad_ShouldReportThroughputAndPercentiles() throws Exception {
+        // given
+        PointLoadConfig config = PointLoadConfig.fromSystemProperties();
+        PointLoadHarness harness = new PointLoadHarness(config);
+        String baseUrl = System.getProperty("point.load.base-url");
+
+        // when
+        PointLoadReport report;
+        if (baseUrl != null) {
+            report = harness.run(URI.create(baseUrl));
+        } else {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class).run(
+                    "--server.port=0",
+                    "--server.tomcat.accept-count=" + config.rate(),
+                    "--server.tomcat.max-connections=" + Math.max(config.rate() * 10, 8_192))) {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                report = harness.run(URI.create("http://localhost:" + port));
+            }
+        }
+
+        // then
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writeValueAsString(report);
+        Path output = Path.of(System.getProperty("point.load.report", "build/reports/load/point-load.json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, json);
+        System.out.println(json);
+
+        assertThat(report.count("error")).isZero();
+        assertThat(report.serverErrors()).isZero();
+        Long maxP99Millis = Long.getLong("point.load.max-p99-millis");
+        if (maxP99Millis != null) {
+            assertThat(report.latency().p99Micros()).isLessThanOrEqualTo(maxP99Millis * 1_000);
+        }
+    }
+}
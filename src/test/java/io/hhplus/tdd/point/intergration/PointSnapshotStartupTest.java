@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSnapshot;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 1,000만 명의 스냅샷으로 재시작할 때의 시작 시간 (./gradlew loadTest)
+ * 로그에는 스냅샷에 반영된 기록 10만 건과 그 이후 기록 10만 건이 있다.
+ * 기본 설정(replay-histories=false)으로 시작하므로 스냅샷 이후의 로그만 읽는다.
+ */
+@Tag("load")
+@DisplayName("스냅샷 재시작 시간 테스트")
+public class PointSnapshotStartupTest {
+
+    private static final int USERS = 10_000_000;
+    private static final int RECORDS_IN_SNAPSHOT = 100_000;
+    private static final int RECORDS_AFTER_SNAPSHOT = 100_000;
+    private static final int TAIL_USERS = 1_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("1,000만 명의 잔액을 1초 안에 복구한다.")
+    void startup_ShouldRecoverTenMillionUsersWithinOneSecond() throws IOException {
+        // given
+        PointProperties properties = snapshotProperties();
+        writeLog(properties);
+        writeSnapshot(properties);
+
+        // when
+        long start = System.nanoTime();
+        PointService pointService = newPointService(properties);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        System.out.printf("startup users=%,d tail=%,d elapsed=%dms%n", USERS, RECORDS_AFTER_SNAPSHOT, elapsedMillis);
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(pointService.selectUserPoint(7L).point()).isEqualTo(1_000L + RECORDS_AFTER_SNAPSHOT / TAIL_USERS);
+        assertThat(pointService.selectUserPoint(USERS - 1).point()).isEqualTo(1_000L);
+
+        // 종료 시 변경분을 합쳐 1,000만 명의 스냅샷을 다시 기록한다.
+        pointService.chargePoint(7L, 1L);
+        start = System.nanoTime();
+        pointService.close();
+        System.out.printf("checkpoint users=%,d elapsed=%dms%n", USERS, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void writeLog(PointProperties properties) throws IOException {
+        PointProperties.Wal wal = properties.getWal();
+        try (PointWriteAheadLog log = new PointWriteAheadLog(Path.of(wal.getPath()), wal.getSegmentSize().toBytes(),
+                wal.getSyncBatchSize(), Duration.ZERO, history -> {
+        })) {
+            for (int i = 0; i < RECORDS_IN_SNAPSHOT; i++) {
+                log.append(i, TransactionType.CHARGE, 1_000L, 1L);
+            }
+            for (int i = 0; i < RECORDS_AFTER_SNAPSHOT; i++) {
+                log.append(i % TAIL_USERS, TransactionType.CHARGE, 1L, 2L);
+            }
+        }
+    }
+
+    // 모든 사용자가 1,000 포인트를 가진 스냅샷
+    private void writeSnapshot(PointProperties properties) {
+        long[] userIds = new long[USERS];
+        Arrays.setAll(userIds, i -> i);
+        long[] points = new long[USERS];
+        Arrays.fill(points, 1_000L);
+        long[] updateMillis = new long[USERS];
+        Arrays.fill(updateMillis, 1L);
+        new PointSnapshot(RECORDS_IN_SNAPSHOT, userIds, points, updateMillis).write(Path.of(properties.getSnapshot().getPath()));
+    }
+
+    private PointProperties snapshotProperties() {
+        PointProperties properties = new PointProperties();
+        properties.getWal().setEnabled(true);
+        properties.getWal().setPath(dir.resolve("point.wal").toString());
+        properties.getSnapshot().setEnabled(true);
+        properties.getSnapshot().setPath(dir.resolve("point.snapshot").toString());
+        properties.getSnapshot().setInterval(Duration.ofHours(1));
+        return properties;
+    }
+
+    private PointService newPointService(PointProperties properties) {
+        return new PointService(new UserPointRepository(new UserPointTable(), properties),
+                new PointHistoryRepository(new PointHistoryTable(), properties), properties, PointMetrics.noop());
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 여러 스레드가 서로 반대 방향으로 동시에 이체해도 교착 상태 없이 끝나고, 전체 포인트 합이 유지되는지 검증한다.
+ * 테이블 지연(최대 300ms)이 있으면 오래 걸리므로 지연 없는 테이블로 실행한다.
+ */
+@DisplayName("포인트 이체 동시성 테스트")
+public class PointTransferConcurrencyTest {
+
+    private static final int USERS = 4;
+    private static final long INITIAL_POINT = 100_000L;
+    private static final int THREADS = 16;
+    private static final int TRANSFERS_PER_THREAD = 500;
+
+    private final FastUserPointTable userPointTable = new FastUserPointTable();
+    private final AtomicLong histories = new AtomicLong();
+    private final PointService pointService = new PointService(userPointTable, new PointHistoryTable() {
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(histories.incrementAndGet(), userId, amount, type, updateMillis);
+        }
+    });
+
+    @Test
+    @DisplayName("서로 반대 방향의 이체가 동시에 들어와도 교착 상태 없이 처리되고 전체 합이 유지된다.")
+    void transferPoint_ShouldConserveTotal_WhenConcurrentOppositeTransfers() {
+        // given
+        for (long userId = 1; userId <= USERS; userId++) {
+            pointService.chargePoint(userId, INITIAL_POINT);
+        }
+        histories.set(0);
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+                for (int t = 0; t < THREADS; t++) {
+                    executor.execute(() -> {
+                        await(start);
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                            long from = random.nextLong(1, USERS + 1);
+                            // 이웃한 사용자에게 양방향으로 보낸다.
+                            long to = random.nextBoolean() ? from % USERS + 1 : (from + USERS - 2) % USERS + 1;
+                            try {
+                                pointService.transferPoint(from, to, random.nextLong(1, 5_000));
+                                succeeded.incrementAndGet();
+                            } catch (IllegalArgumentException ignored) {
+                                // 잔액 부족 / 한도 초과는 기록되지 않는다.
+                            }
+                        }
+                    });
+                }
+                start.countDown();
+            }
+        });
+
+        // then
+        long total = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            total += pointService.selectUserPoint(userId).point();
+        }
+        assertThat(total).isEqualTo(USERS * INITIAL_POINT);
+        assertThat(succeeded.get()).isPositive();
+        assertThat(histories.get()).isEqualTo(succeeded.get() * 2L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 지연 없이 동시 접근이 가능한 UserPointTable
+     * 락 순서가 어긋나면 교착 상태가 드러나도록 기록 전에 잠깐 양보한다.
+     */
+    private static class FastUserPointTable extends UserPointTable {
+        private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            Thread.yield();
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointEngine;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 충전이 몰리는 동안 조회한 뷰의 잔액과 최근 히스토리가 항상 같은 시점인지 검증한다.
+ * 한 사용자에게 1 포인트씩만 충전하므로 어느 시점이든 잔액 = 히스토리 수 = 가장 최근 히스토리의 id 이다.
+ * 테이블 지연(최대 300ms)이 있으면 오래 걸리므로 1ms 지연 테이블로 실행한다.
+ */
+@DisplayName("잔액/최근 히스토리 뷰 일관성 테스트")
+public class PointViewConsistencyTest {
+
+    private static final long USER_ID = 1L;
+    private static final int WRITERS = 8;
+    private static final int READERS = 2;
+    private static final int CHARGES_PER_WRITER = 50;
+    private static final int RECENT_SIZE = 10;
+
+    private final AtomicLong histories = new AtomicLong();
+
+    @ParameterizedTest
+    @EnumSource(PointEngine.Type.class)
+    @DisplayName("충전 도중 조회한 뷰는 잔액과 최근 히스토리가 일치하고, 버전은 줄어들지 않는다.")
+    void selectUserPointView_ShouldMatchBalanceWithHistories_WhileCharging(PointEngine.Type type) throws InterruptedException {
+        // given
+        PointProperties properties = new PointProperties();
+        properties.setEngine(type);
+        properties.getView().setEnabled(true);
+        properties.getView().setRecentSize(RECENT_SIZE);
+        properties.getCombining().setEnabled(true);
+        properties.getCombining().setPromoteQueueLength(2);
+        PointService pointService = new PointService(
+                new UserPointRepository(new SlowUserPointTable()),
+                new PointHistoryRepository(new PointHistoryTable() {
+                    @Override
+                    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                        return new PointHistory(histories.incrementAndGet(), userId, amount, type, updateMillis);
+                    }
+                }),
+                properties, PointMetrics.noop());
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+
+        // when
+        try (ExecutorService readers = Executors.newFixedThreadPool(READERS)) {
+            for (int r = 0; r < READERS; r++) {
+                readers.execute(() -> {
+                    await(start);
+                    long lastVersion = -1;
+                    while (writing.get()) {
+                        UserPointView view = pointService.selectUserPointView(USER_ID);
+                        if (!isConsistent(view) || view.version() < lastVersion) {
+                            violations.incrementAndGet();
+                        }
+                        lastVersion = view.version();
+                        reads.incrementAndGet();
+                    }
+                });
+            }
+
+            try (ExecutorService writers = Executors.newFixedThreadPool(WRITERS)) {
+                for (int w = 0; w < WRITERS; w++) {
+                    writers.execute(() -> {
+                        await(start);
+                        for (int i = 0; i < CHARGES_PER_WRITER; i++) {
+                            pointService.chargePoint(USER_ID, 1L);
+                        }
+                    });
+                }
+                start.countDown();
+            }
+            writing.set(false);
+        }
+
+        // then
+        long requests = (long) WRITERS * CHARGES_PER_WRITER;
+        UserPointView view = pointService.selectUserPointView(USER_ID);
+        assertThat(view.userPoint().point()).isEqualTo(requests);
+        assertThat(view.recentHistories()).hasSize(RECENT_SIZE);
+        assertThat(isConsistent(view)).isTrue();
+
+        // verify
+        assertThat(reads.get()).isPositive();
+        assertThat(violations.get()).isZero();
+    }
+
+    // 최근 히스토리는 최신순으로 id 가 1씩 줄어들고, 가장 최근 id 가 잔액과 같아야 한다.
+    private static boolean isConsistent(UserPointView view) {
+        List<PointHistory> recent = view.recentHistories();
+        long balance = view.userPoint().point();
+        if (recent.size() != Math.min(RECENT_SIZE, balance)) {
+            return false;
+        }
+        for (int i = 0; i < recent.size(); i++) {
+            if (recent.get(i).id() != balance - i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 기록에 1ms 걸리는 UserPointTable (조회가 기록 도중에 끼어들도록)
+     */
+    private static class SlowUserPointTable extends UserPointTable {
+        private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+}
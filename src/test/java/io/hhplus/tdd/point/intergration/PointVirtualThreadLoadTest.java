@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드 on/off 에 따른 동시 요청 처리량 비교 (./gradlew loadTest)
+ * Tomcat 스레드 수를 같게 두고, 테이블 지연(최대 200ms)이 있는 조회 요청을 동시에 보낸다.
+ * 플랫폼 스레드는 Tomcat 스레드 수만큼만 동시에 처리하지만 가상 스레드는 요청 수만큼 동시에 처리한다.
+ */
+@Tag("load")
+@DisplayName("가상 스레드 모드 부하 테스트")
+public class PointVirtualThreadLoadTest {
+
+    private static final int TOMCAT_MAX_THREADS = 10;
+    private static final int CONCURRENT_REQUESTS = 1_000;
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 Tomcat 스레드 수보다 많은 요청을 동시에 처리한다.")
+    void virtualThreads_ShouldServeMoreConcurrentRequests() throws Exception {
+        // when
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        // then
+        System.out.printf("platform threads : %s%n", platform);
+        System.out.printf("virtual threads  : %s%n", virtual);
+        assertThat(virtual.requestsPerSecond()).isGreaterThan(platform.requestsPerSecond());
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                "--server.tomcat.accept-count=" + CONCURRENT_REQUESTS,
+                "--server.tomcat.max-connections=" + CONCURRENT_REQUESTS,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                // 캐시를 끄고 매 요청이 테이블 지연을 겪도록 한다.
+                "--point.cache.enabled=false");
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + i)).build();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            long succeeded = responses.stream().map(CompletableFuture::join).filter(response -> response.statusCode() == 200).count();
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(succeeded).isEqualTo(CONCURRENT_REQUESTS);
+            return new Result(CONCURRENT_REQUESTS, elapsedSeconds);
+        }
+    }
+
+    private record Result(int requests, double elapsedSeconds) {
+        double requestsPerSecond() {
+            return requests / elapsedSeconds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d elapsed=%.2fs throughput=%.0f req/s", requests, elapsedSeconds, requestsPerSecond());
+        }
+    }
+}
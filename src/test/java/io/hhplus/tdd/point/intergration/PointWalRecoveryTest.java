@@ -0,0 +1,209 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSnapshot;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointEngine;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 해당 테스트 클래스는 로그(point.wal)로 재시작 후 잔액과 히스토리가 복구되는지 검증한다.
+ */
+@DisplayName("포인트 로그 복구 테스트")
+public class PointWalRecoveryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("재시작하면 성공한 충전/사용 내역만으로 잔액과 히스토리가 복구된다.")
+    void restart_ShouldRecoverBalancesAndHistories() throws IOException {
+        // given
+        PointProperties properties = walProperties();
+        properties.getWal().setReplayHistories(true);
+        PointService before = newPointService(properties);
+        before.chargePoint(1L, 1000L);
+        before.usePoint(1L, 300L);
+        before.chargePoint(2L, 500L);
+        assertThatThrownBy(() -> before.usePoint(2L, 800L)).isInstanceOf(IllegalArgumentException.class);
+        before.close();
+
+        // when
+        PointService after = newPointService(properties);
+
+        // then
+        assertThat(after.selectUserPoint(1L).point()).isEqualTo(700L);
+        assertThat(after.selectUserPoint(2L).point()).isEqualTo(500L);
+        assertThat(after.selectUserHistories(1L))
+                .extracting(PointHistory::id, PointHistory::amount, PointHistory::type)
+                .containsExactly(
+                        tuple(1L, 1000L, TransactionType.CHARGE),
+                        tuple(2L, 300L, TransactionType.USE));
+        assertThat(after.selectUserHistories(2L)).hasSize(1);
+
+        // 복구 후에도 이어서 기록된다.
+        after.chargePoint(2L, 100L);
+        after.close();
+        PointService restarted = newPointService(properties);
+        assertThat(restarted.selectUserPoint(2L).point()).isEqualTo(600L);
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("기본 설정이면 재시작 시 잔액만 복구하고 히스토리는 복구하지 않는다.")
+    void restart_ShouldRecoverBalancesOnly_ByDefault() throws IOException {
+        // given
+        PointProperties properties = walProperties();
+        PointService before = newPointService(properties);
+        before.chargePoint(1L, 1000L);
+        before.usePoint(1L, 300L);
+        before.close();
+
+        // when
+        PointService after = newPointService(properties);
+
+        // then
+        assertThat(properties.getWal().isReplayHistories()).isFalse();
+        assertThat(after.selectUserPoint(1L).point()).isEqualTo(700L);
+        assertThat(after.selectUserHistories(1L)).isEmpty();
+
+        // 복구된 잔액에 이어서 기록된다.
+        assertThat(after.chargePoint(1L, 100L).point()).isEqualTo(800L);
+        after.close();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 사용하면 스냅샷과 그 이후의 로그만으로 잔액이 복구된다.")
+    void restart_ShouldRecoverFromSnapshotAndTail() throws IOException {
+        // given
+        PointProperties properties = walProperties();
+        properties.getSnapshot().setEnabled(true);
+        properties.getSnapshot().setPath(dir.resolve("point.snapshot").toString());
+        properties.getSnapshot().setInterval(Duration.ofHours(1));
+
+        PointService first = newPointService(properties);
+        first.chargePoint(1L, 1000L);
+        first.chargePoint(2L, 200L);
+        // 종료 시 마지막 스냅샷을 남긴다.
+        first.close();
+
+        PointService second = newPointService(properties);
+        second.usePoint(1L, 400L);
+        second.chargePoint(3L, 300L);
+        // 종료 절차 없이 중단 (스냅샷 이후 내역은 로그에만 남음)
+
+        // when
+        PointService restarted = newPointService(properties);
+
+        // then
+        assertThat(PointSnapshot.read(dir.resolve("point.snapshot")).orElseThrow().position()).isEqualTo(2L);
+        assertThat(restarted.selectUserPoint(1L).point()).isEqualTo(600L);
+        assertThat(restarted.selectUserPoint(2L).point()).isEqualTo(200L);
+        assertThat(restarted.selectUserPoint(3L).point()).isEqualTo(300L);
+        assertThat(restarted.selectUserHistories(1L)).isEmpty();
+        restarted.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(PointEngine.Type.class)
+    @DisplayName("동시에 충전해도 로그는 히스토리와 같은 순서로 남아, 재시작 후 같은 순서로 복구된다.")
+    void restart_ShouldRecoverHistoriesInCommitOrder_WhenChargedConcurrently(PointEngine.Type type) throws IOException {
+        // given
+        PointProperties properties = walProperties();
+        properties.getWal().setReplayHistories(true);
+        properties.setEngine(type);
+        PointService before = newPointService(properties);
+        int writers = 4;
+        int chargesPerWriter = 3;
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers)) {
+            for (int w = 0; w < writers; w++) {
+                long base = w * 10L;
+                executor.execute(() -> {
+                    for (int i = 1; i <= chargesPerWriter; i++) {
+                        before.chargePoint(1L, base + i);
+                    }
+                });
+            }
+        }
+        List<Long> committed = before.selectUserHistories(1L).stream().map(PointHistory::amount).toList();
+        before.close();
+        PointService after = newPointService(properties);
+
+        // then
+        assertThat(committed).hasSize(writers * chargesPerWriter);
+        assertThat(after.selectUserHistories(1L)).extracting(PointHistory::amount).containsExactlyElementsOf(committed);
+        assertThat(after.selectUserPoint(1L).point()).isEqualTo(committed.stream().mapToLong(Long::longValue).sum());
+        after.close();
+    }
+
+    @Test
+    @Tag("load")
+    @DisplayName("열 단위 저장소를 사용하면 로그 100만 건의 히스토리를 테이블을 거치지 않고 3초 안에 복구한다. (./gradlew loadTest)")
+    void restart_ShouldReplayMillionHistoriesWithinThreeSeconds_WhenColumnar() throws IOException {
+        // given - 사용자 1만 명에게 100건씩 충전한 로그
+        int records = 1_000_000;
+        int users = 10_000;
+        PointProperties properties = walProperties();
+        properties.getWal().setReplayHistories(true);
+        properties.getHistory().setColumnar(true);
+        PointProperties.Wal wal = properties.getWal();
+        try (PointWriteAheadLog log = new PointWriteAheadLog(Path.of(wal.getPath()), wal.getSegmentSize().toBytes(),
+                wal.getSyncBatchSize(), Duration.ZERO, history -> {
+        })) {
+            for (int i = 0; i < records; i++) {
+                log.append(i % users, TransactionType.CHARGE, 1L, i);
+            }
+        }
+
+        // when
+        long start = System.nanoTime();
+        PointService restarted = newPointService(properties);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        System.out.printf("replay records=%,d elapsed=%dms%n", records, elapsedMillis);
+        assertThat(elapsedMillis).isLessThan(3_000);
+        assertThat(restarted.selectUserPoint(7L).point()).isEqualTo(records / users);
+        assertThat(restarted.selectUserHistories(7L)).hasSize(records / users);
+        restarted.close();
+    }
+
+    private PointProperties walProperties() {
+        PointProperties properties = new PointProperties();
+        properties.getWal().setEnabled(true);
+        properties.getWal().setPath(dir.resolve("point.wal").toString());
+        return properties;
+    }
+
+    // 재시작을 흉내 내기 위해 매번 빈 테이블로 생성
+    private PointService newPointService(PointProperties properties) {
+        return new PointService(new UserPointRepository(new UserPointTable(), properties),
+                new PointHistoryRepository(new PointHistoryTable(), properties), properties, PointMetrics.noop());
+    }
+}
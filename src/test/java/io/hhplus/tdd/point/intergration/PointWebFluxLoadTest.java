@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point.intergration;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Spring MVC(Tomcat) 와 WebFlux(Netty) 의 동시 연결 처리 비교 (./gradlew loadTest)
+ * CONNECTIONS 개의 연결이 동시에 REQUESTS_PER_CONNECTION 번씩 조회 요청(테이블 지연 최대 200ms)을 보낸다.
+ * 두 방식 모두 블로킹 작업에 쓰는 스레드 수를 BLOCKING_THREADS 로 같게 둔다. (Tomcat 스레드 / offload 스레드)
+ * 연결 수는 -Dpoint.load.connections 로 바꿀 수 있다. (클라이언트와 서버가 한 프로세스라 연결 하나에 파일 디스크립터 2개)
+ */
+@Tag("load")
+@DisplayName("MVC / WebFlux 부하 테스트")
+public class PointWebFluxLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("point.load.connections", 10_000);
+    private static final int REQUESTS_PER_CONNECTION = 3;
+    private static final int BLOCKING_THREADS = 200;
+
+    @Test
+    @DisplayName("동시 연결 수만큼 요청해도 두 방식 모두 모든 요청을 처리한다.")
+    void webStacks_ShouldServeAllConnections() throws Exception {
+        // when
+        Result mvc = run("servlet");
+        Result webflux = run("reactive");
+
+        // then
+        System.out.printf("mvc     : %s%n", mvc);
+        System.out.printf("webflux : %s%n", webflux);
+        assertThat(mvc.failed()).isZero();
+        assertThat(webflux.failed()).isZero();
+    }
+
+    private Result run(String webApplicationType) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class).run(
+                "--server.port=0",
+                "--spring.main.web-application-type=" + webApplicationType,
+                "--server.tomcat.threads.max=" + BLOCKING_THREADS,
+                "--server.tomcat.accept-count=" + CONNECTIONS,
+                "--server.tomcat.max-connections=" + CONNECTIONS,
+                "--point.offload.threads=" + BLOCKING_THREADS,
+                "--point.offload.queue-capacity=" + CONNECTIONS,
+                // 캐시를 끄고 매 요청이 테이블 지연을 겪도록 한다.
+                "--point.cache.enabled=false");
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor)
+                     .connectTimeout(Duration.ofSeconds(60)).build()) {
+
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+
+            long[] latencies = new long[CONNECTIONS * REQUESTS_PER_CONNECTION];
+            AtomicInteger index = new AtomicInteger();
+            AtomicLong failed = new AtomicLong();
+            CountDownLatch done = new CountDownLatch(CONNECTIONS);
+            long start = System.nanoTime();
+            for (int c = 0; c < CONNECTIONS; c++) {
+                long userId = c;
+                // 요청을 동시에 CONNECTIONS 개씩 보내므로 클라이언트는 그만큼 연결을 열고 재사용(keep-alive)한다.
+                clientExecutor.execute(() -> {
+                    try {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId)).build();
+                        for (int r = 0; r < REQUESTS_PER_CONNECTION; r++) {
+                            long requestStart = System.nanoTime();
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            latencies[index.getAndIncrement()] = System.nanoTime() - requestStart;
+                            if (status != 200) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await(10, TimeUnit.MINUTES);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            long[] recorded = Arrays.copyOf(latencies, index.get());
+            Arrays.sort(recorded);
+            return new Result(recorded.length, failed.get(), elapsedSeconds, percentile(recorded, 0.5),
+                    percentile(recorded, 0.99), threads.getPeakThreadCount());
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * p)] / 1e6;
+    }
+
+    private record Result(int requests, long failed, double elapsedSeconds, double p50Millis, double p99Millis,
+                          int peakThreads) {
+
+        @Override
+        public String toString() {
+            return String.format("connections=%d requests=%d failed=%d elapsed=%.2fs throughput=%.0f req/s p50=%.0fms p99=%.0fms peakThreads=%d",
+                    CONNECTIONS, requests, failed, elapsedSeconds, requests / elapsedSeconds, p50Millis, p99Millis, peakThreads);
+        }
+    }
+}
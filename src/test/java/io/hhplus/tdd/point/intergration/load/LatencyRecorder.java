@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.intergration.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간을 모두 기록해 두었다가 정확한 백분위를 계산한다.
+ * 보낼 요청 수가 정해져 있으므로 배열을 미리 잡아 두고, 여러 스레드가 자리 번호만 받아 기록한다.
+ */
+public class LatencyRecorder {
+
+    private final long[] nanos;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public LatencyRecorder(int capacity) {
+        this.nanos = new long[capacity];
+    }
+
+    public void record(long latencyNanos) {
+        int index = size.getAndIncrement();
+        if (index < nanos.length) {
+            nanos[index] = latencyNanos;
+        }
+    }
+
+    /**
+     * 기록이 모두 끝난 뒤 호출한다.
+     */
+    public Summary summarize() {
+        long[] sorted = Arrays.copyOf(nanos, Math.min(size.get(), nanos.length));
+        Arrays.sort(sorted);
+        return new Summary(sorted.length,
+                micros(sorted, 0.50), micros(sorted, 0.99), micros(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000);
+    }
+
+    // nearest-rank 방식 - 전체의 percentile 이상이 이 값 이하가 되는 가장 작은 기록
+    private static long micros(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1_000;
+    }
+
+    public record Summary(int count, long p50Micros, long p99Micros, long p999Micros, long maxMicros) {
+    }
+}
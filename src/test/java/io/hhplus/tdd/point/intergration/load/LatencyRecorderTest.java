@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.intergration.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해당 테스트 클래스는 LatencyRecorder 의 백분위 계산을 검증한다.
+ */
+@DisplayName("응답 시간 기록 테스트")
+public class LatencyRecorderTest {
+
+    @Test
+    @DisplayName("기록 순서와 상관없이 nearest-rank 백분위와 최댓값을 마이크로초로 돌려준다.")
+    void summarize_ShouldReturnPercentiles() {
+        // given - 1ms ~ 1000ms 를 섞어서 기록
+        LatencyRecorder recorder = new LatencyRecorder(1_000);
+        List<Integer> millis = new ArrayList<>(IntStream.rangeClosed(1, 1_000).boxed().toList());
+        Collections.shuffle(millis);
+
+        // when
+        millis.parallelStream().forEach(value -> recorder.record(value * 1_000_000L));
+        LatencyRecorder.Summary summary = recorder.summarize();
+
+        // then
+        assertThat(summary.count()).isEqualTo(1_000);
+        assertThat(summary.p50Micros()).isEqualTo(500_000L);
+        assertThat(summary.p99Micros()).isEqualTo(990_000L);
+        assertThat(summary.p999Micros()).isEqualTo(999_000L);
+        assertThat(summary.maxMicros()).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 모든 값이 0 이다.")
+    void summarize_ShouldReturnZero_WhenEmpty() {
+        assertThat(new LatencyRecorder(10).summarize()).isEqualTo(new LatencyRecorder.Summary(0, 0, 0, 0, 0));
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.intergration.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 설정 - 시스템 속성(-Dpoint.load.*)으로 바꿀 수 있다.
+ * - rate : 초당 요청 수 (open-loop - 응답을 기다리지 않고 정해진 간격으로 보낸다.)
+ * - duration : 요청을 보내는 시간
+ * - users, zipfExponent : 사용자 수와 Zipf 분포 지수 (userId 1 이 가장 많이 요청된다.)
+ * - mix : 조회:충전:사용 비율 (예: 80:10:10)
+ * - amount : 충전/사용 금액
+ */
+public record PointLoadConfig(
+        int rate,
+        Duration duration,
+        int users,
+        double zipfExponent,
+        int readWeight,
+        int chargeWeight,
+        int useWeight,
+        long amount,
+        Duration timeout
+) {
+
+    public PointLoadConfig {
+        if (rate <= 0 || duration.isNegative() || duration.isZero() || users <= 0) {
+            throw new IllegalArgumentException("rate, duration, users 는 0 보다 커야 합니다.");
+        }
+        if (readWeight < 0 || chargeWeight < 0 || useWeight < 0 || readWeight + chargeWeight + useWeight == 0) {
+            throw new IllegalArgumentException("요청 비율이 올바르지 않습니다.");
+        }
+    }
+
+    public static PointLoadConfig fromSystemProperties() {
+        String[] mix = System.getProperty("point.load.mix", "80:10:10").split(":");
+        if (mix.length != 3) {
+            throw new IllegalArgumentException("point.load.mix 는 조회:충전:사용 형식이어야 합니다.");
+        }
+        return new PointLoadConfig(
+                Integer.getInteger("point.load.rate", 200),
+                Duration.ofSeconds(Long.getLong("point.load.duration-seconds", 10)),
+                Integer.getInteger("point.load.users", 1_000),
+                Double.parseDouble(System.getProperty("point.load.zipf-exponent", "0.99")),
+                Integer.parseInt(mix[0].trim()),
+                Integer.parseInt(mix[1].trim()),
+                Integer.parseInt(mix[2].trim()),
+                Long.getLong("point.load.amount", 100L),
+                Duration.ofSeconds(Long.getLong("point.load.timeout-seconds", 30)));
+    }
+
+    public int totalRequests() {
+        return (int) Math.min(Integer.MAX_VALUE, rate * duration.toMillis() / 1_000);
+    }
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.intergration.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * PointController 에 Zipf 분포의 사용자로 조회/충전/사용 요청을 open-loop 로 보내고 처리량과 응답 시간 백분위를 잰다.
+ * 요청은 응답과 상관없이 1/rate 초 간격으로 보내므로, 서버가 느려지면 대기 요청이 쌓이고 그만큼 응답 시간에 드러난다.
+ * (closed-loop 는 서버가 느려지면 요청도 덜 보내 꼬리 지연이 가려진다.)
+ */
+public class PointLoadHarness {
+
+    public enum Operation {
+        READ, CHARGE, USE
+    }
+
+    private final PointLoadConfig config;
+    private final ZipfSampler userSampler;
+
+    public PointLoadHarness(PointLoadConfig config) {
+        this.config = config;
+        this.userSampler = new ZipfSampler(config.users(), config.zipfExponent());
+    }
+
+    public PointLoadReport run(URI baseUrl) {
+        int total = config.totalRequests();
+        long intervalNanos = 1_000_000_000L / config.rate();
+        // 전체 분포와 요청 종류별 분포를 따로 기록한다.
+        LatencyRecorder all = new LatencyRecorder(total);
+        Map<Operation, LatencyRecorder> byOperation = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            byOperation.put(operation, new LatencyRecorder(total));
+        }
+        Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+        // 같은 설정이면 같은 요청 순서가 되도록 시드를 고정한다.
+        SplittableRandom random = new SplittableRandom(42);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build()) {
+
+            List<CompletableFuture<?>> responses = new ArrayList<>(total);
+            long start = System.nanoTime();
+            for (int i = 0; i < total; i++) {
+                long scheduled = start + i * intervalNanos;
+                parkUntil(scheduled);
+
+                Operation operation = nextOperation(random);
+                long userId = userSampler.sample(random);
+                responses.add(client.sendAsync(request(baseUrl, operation, userId), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            long latency = System.nanoTime() - scheduled;
+                            all.record(latency);
+                            byOperation.get(operation).record(latency);
+                            String status = failure != null ? "error" : String.valueOf(response.statusCode());
+                            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                        }));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                    .exceptionally(failure -> null)
+                    .join();
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            Map<String, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+            Map<Operation, LatencyRecorder.Summary> operationSummaries = new EnumMap<>(Operation.class);
+            byOperation.forEach((operation, recorder) -> operationSummaries.put(operation, recorder.summarize()));
+            long answered = total - statusCounts.getOrDefault("error", 0L);
+            return new PointLoadReport(config, total, elapsedSeconds, answered / elapsedSeconds,
+                    statusCounts, all.summarize(), operationSummaries);
+        }
+    }
+
+    private Operation nextOperation(SplittableRandom random) {
+        int value = random.nextInt(config.readWeight() + config.chargeWeight() + config.useWeight());
+        if (value < config.readWeight()) {
+            return Operation.READ;
+        }
+        return value < config.readWeight() + config.chargeWeight() ? Operation.CHARGE : Operation.USE;
+    }
+
+    private HttpRequest request(URI baseUrl, Operation operation, long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(config.timeout());
+        return switch (operation) {
+            case READ -> builder.uri(baseUrl.resolve("/point/" + userId)).GET().build();
+            case CHARGE -> patch(builder, baseUrl.resolve("/point/charge/" + userId));
+            case USE -> patch(builder, baseUrl.resolve("/point/use/" + userId));
+        };
+    }
+
+    private HttpRequest patch(HttpRequest.Builder builder, URI uri) {
+        return builder.uri(uri)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(config.amount())))
+                .build();
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.intergration.load;
+
+import java.util.Map;
+
+/**
+ * 부하 결과 - JSON 으로 남겨 실행 간에 비교한다.
+ * 응답 시간은 요청을 보내기로 예정된 시각부터 잰다. (서버가 밀려 늦게 보낸 시간도 포함 - coordinated omission 방지)
+ * - throughput : 초당 응답 수 (상태 코드 무관, 전송 실패 제외)
+ * - statuses : 상태 코드별 응답 수, 전송 실패(타임아웃 등)는 "error"
+ */
+public record PointLoadReport(
+        PointLoadConfig config,
+        int sent,
+        double elapsedSeconds,
+        double throughput,
+        Map<String, Long> statuses,
+        LatencyRecorder.Summary latency,
+        Map<PointLoadHarness.Operation, LatencyRecorder.Summary> latencyByOperation
+) {
+
+    public long count(String status) {
+        return statuses.getOrDefault(status, 0L);
+    }
+
+    public long serverErrors() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("5"))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.intergration.load;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf 분포로 순위(1..n)를 뽑는다. - 순위 k 가 뽑힐 확률은 1/k^exponent 에 비례한다.
+ * exponent 가 0 이면 균등 분포, 1 근처이면 소수의 사용자에게 요청이 몰리는 실제 서비스와 비슷한 분포가 된다.
+ * 누적 확률을 미리 계산해 두고 이진 탐색으로 뽑는다. (생성 O(n), 추출 O(log n), 메모리 8n 바이트)
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0 || exponent < 0) {
+            throw new IllegalArgumentException("n 은 1 이상, exponent 는 0 이상이어야 합니다.");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+    }
+
+    public long sample(RandomGenerator random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low + 1;
+    }
+}
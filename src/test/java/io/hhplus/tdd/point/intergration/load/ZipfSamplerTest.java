@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.intergration.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * 해당 테스트 클래스는 ZipfSampler 의 순위별 추출 비율을 검증한다.
+ */
+@DisplayName("Zipf 추출 테스트")
+public class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("순위 k 는 1/k^s 에 비례해 뽑히고, 범위(1..n)를 벗어나지 않는다.")
+    void sample_ShouldFollowZipf() {
+        // given
+        int n = 100;
+        int samples = 200_000;
+        ZipfSampler sampler = new ZipfSampler(n, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[n + 1];
+
+        // when
+        for (int i = 0; i < samples; i++) {
+            long rank = sampler.sample(random);
+            assertThat(rank).isBetween(1L, (long) n);
+            counts[(int) rank]++;
+        }
+
+        // then
+        double harmonic = 0;
+        for (int k = 1; k <= n; k++) {
+            harmonic += 1.0 / k;
+        }
+        assertThat(counts[1] / (double) samples).isCloseTo(1 / harmonic, offset(0.01));
+        assertThat(counts[1] / (double) counts[2]).isCloseTo(2.0, offset(0.1));
+        assertThat(counts[1]).isGreaterThan(counts[10]).isGreaterThan(counts[100]);
+    }
+
+    @Test
+    @DisplayName("지수가 0 이면 모든 순위가 고르게 뽑힌다.")
+    void sample_ShouldBeUniform_WhenExponentIsZero() {
+        // given
+        int n = 10;
+        int samples = 100_000;
+        ZipfSampler sampler = new ZipfSampler(n, 0);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] counts = new int[n + 1];
+
+        // when
+        for (int i = 0; i < samples; i++) {
+            counts[(int) sampler.sample(random)]++;
+        }
+
+        // then
+        for (int k = 1; k <= n; k++) {
+            assertThat(counts[k]).isBetween(9_000, 11_000);
+        }
+    }
+
+    @Test
+    @DisplayName("n 이 0 이하이거나 지수가 음수이면 예외가 발생한다.")
+    void constructor_ShouldThrow_WhenInvalid() {
+        assertThatThrownBy(() -> new ZipfSampler(0, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ZipfSampler(10, -0.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
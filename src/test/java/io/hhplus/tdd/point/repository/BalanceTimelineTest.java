@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해당 테스트 클래스는 BalanceTimeline 의 특정 시각 잔액 조회를 검증한다.
+ */
+@DisplayName("잔액 기록 테스트")
+public class BalanceTimelineTest {
+
+    @Test
+    @DisplayName("조회 시각까지 기록된 내역의 누적 잔액과 마지막 변경 시각을 돌려준다.")
+    void balanceAt_ShouldReturnRunningBalance() {
+        // given
+        BalanceTimeline timeline = new BalanceTimeline();
+        long userId = 1L;
+        timeline.append(userId, 1000L, TransactionType.CHARGE, 100L);
+        timeline.append(2L, 300L, TransactionType.CHARGE, 150L);
+        timeline.append(userId, 400L, TransactionType.USE, 200L);
+        timeline.append(userId, 50L, TransactionType.CHARGE, 200L);
+        timeline.append(userId, 100L, TransactionType.USE, 300L);
+
+        // when & then
+        assertThat(timeline.balanceAt(userId, 99L)).isEqualTo(new UserPoint(userId, 0L, 0L));
+        assertThat(timeline.balanceAt(userId, 100L)).isEqualTo(new UserPoint(userId, 1000L, 100L));
+        assertThat(timeline.balanceAt(userId, 250L)).isEqualTo(new UserPoint(userId, 650L, 200L));
+        assertThat(timeline.balanceAt(userId, Long.MAX_VALUE)).isEqualTo(new UserPoint(userId, 550L, 300L));
+        assertThat(timeline.balanceAt(3L, 300L)).isEqualTo(new UserPoint(3L, 0L, 0L));
+    }
+
+    @Test
+    @DisplayName("시각이 앞 내역보다 이른 내역은 앞 내역의 시각으로 기록되어 이진 탐색 순서가 유지된다.")
+    void append_ShouldKeepOrder_WhenClockGoesBack() {
+        // given
+        BalanceTimeline timeline = new BalanceTimeline();
+        long userId = 1L;
+        for (int i = 1; i <= 100; i++) {
+            timeline.append(userId, 10L, TransactionType.CHARGE, i * 10L);
+        }
+
+        // when
+        timeline.append(userId, 10L, TransactionType.CHARGE, 5L);
+
+        // then
+        assertThat(timeline.balanceAt(userId, 500L).point()).isEqualTo(500L);
+        assertThat(timeline.balanceAt(userId, 1_000L)).isEqualTo(new UserPoint(userId, 1010L, 1_000L));
+    }
+
+    @Test
+    @DisplayName("복구된 잔액을 시작값으로 남기면 이후 내역은 그 잔액에 누적된다.")
+    void seed_ShouldStartFromRestoredBalance() {
+        // given
+        BalanceTimeline timeline = new BalanceTimeline();
+        long userId = 1L;
+        timeline.seed(userId, 1000L, 100L);
+
+        // when
+        timeline.append(userId, 300L, TransactionType.USE, 200L);
+
+        // then
+        assertThat(timeline.balanceAt(userId, 150L)).isEqualTo(new UserPoint(userId, 1000L, 100L));
+        assertThat(timeline.balanceAt(userId, 200L)).isEqualTo(new UserPoint(userId, 700L, 200L));
+    }
+}
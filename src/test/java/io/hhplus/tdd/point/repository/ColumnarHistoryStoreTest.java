@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해당 테스트 클래스는 ColumnarHistoryStore 의 기록/조회를 검증한다.
+ */
+@DisplayName("열 단위 히스토리 저장소 테스트")
+public class ColumnarHistoryStoreTest {
+
+    @Test
+    @DisplayName("기록 순서대로 1부터 id 가 발급되고, 사용자별 내역이 오래된 순으로 조회된다.")
+    void selectAllByUserId_ShouldReturnUserHistoriesInOrder() {
+        // given
+        ColumnarHistoryStore store = new ColumnarHistoryStore();
+
+        // when
+        store.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        store.insert(2L, 300L, TransactionType.CHARGE, 2L);
+        long lastId = store.insert(1L, 500L, TransactionType.USE, 3L);
+        List<PointHistory> actual = store.selectAllByUserId(1L);
+
+        // then
+        assertThat(lastId).isEqualTo(3L);
+        assertThat(actual).containsExactly(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(3L, 1L, 500L, TransactionType.USE, 3L)
+        );
+        assertThat(store.selectAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세그먼트 경계를 넘어가도 beforeId 이전의 내역이 최신순으로 조회된다.")
+    void selectPage_ShouldReturnLatestFirst_AcrossSegments() {
+        // given
+        ColumnarHistoryStore store = new ColumnarHistoryStore();
+        int records = 200_000;
+        for (int i = 0; i < records; i++) {
+            store.insert(i % 2, i, TransactionType.CHARGE, i);
+        }
+
+        // when
+        List<PointHistory> page = store.selectPage(1L, 70_000L, 3);
+
+        // then
+        assertThat(store.size()).isEqualTo(records);
+        assertThat(page).containsExactly(
+                new PointHistory(69_998L, 1L, 69_997L, TransactionType.CHARGE, 69_997L),
+                new PointHistory(69_996L, 1L, 69_995L, TransactionType.CHARGE, 69_995L),
+                new PointHistory(69_994L, 1L, 69_993L, TransactionType.CHARGE, 69_993L)
+        );
+        assertThat(store.selectPage(1L, 3L, 10)).containsExactly(
+                new PointHistory(2L, 1L, 1L, TransactionType.CHARGE, 1L)
+        );
+        assertThat(store.selectAllByUserId(0L)).hasSize(records / 2);
+    }
+
+    @Test
+    @DisplayName("afterId 이후의 내역이 오래된 순으로 limit 건씩 조회된다.")
+    void selectAfter_ShouldReturnOldestFirst() {
+        // given
+        ColumnarHistoryStore store = new ColumnarHistoryStore();
+        for (int i = 0; i < 10; i++) {
+            store.insert(i % 2, i, TransactionType.CHARGE, i);
+        }
+
+        // when
+        List<PointHistory> actual = store.selectAfter(0L, 3L, 2);
+
+        // then
+        assertThat(actual).extracting(PointHistory::id).containsExactly(5L, 7L);
+        assertThat(store.selectAfter(0L, 9L, 2)).isEmpty();
+        assertThat(store.selectAfter(0L, 0L, 100)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("열 단위 저장소를 사용하면 테이블에 기록하지 않고 저장소에서 조회한다.")
+    void repository_ShouldUseColumnarStore_WhenConfigured() throws InterruptedException {
+        // given
+        PointHistoryTable pointHistoryTable = new PointHistoryTable();
+        PointProperties properties = new PointProperties();
+        properties.getHistory().setColumnar(true);
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(pointHistoryTable, properties);
+
+        // when
+        pointHistoryRepository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.insert(1L, 500L, TransactionType.USE, 2L);
+
+        // then
+        assertThat(pointHistoryRepository.selectAllByUserId(1L)).containsExactly(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, 1L, 500L, TransactionType.USE, 2L)
+        );
+        assertThat(pointHistoryRepository.selectPage(1L, Long.MAX_VALUE, 1)).containsExactly(
+                new PointHistory(2L, 1L, 500L, TransactionType.USE, 2L)
+        );
+        assertThat(pointHistoryTable.selectAllByUserId(1L)).isEmpty();
+        pointHistoryRepository.close();
+    }
+}
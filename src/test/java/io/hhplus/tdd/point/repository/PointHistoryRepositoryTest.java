@@ -0,0 +1,152 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해당 테스트 클래스는 비동기 모드의 PointHistoryRepository 를 검증한다.
+ */
+@DisplayName("히스토리 비동기 기록 테스트")
+public class PointHistoryRepositoryTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+    private PointHistoryRepository pointHistoryRepository;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointHistoryRepository.close();
+    }
+
+    @Test
+    @DisplayName("기록 직후 조회해도 아직 기록되지 않은 내역까지 순서대로 조회된다.")
+    void selectAllByUserId_ShouldIncludePending_WhenInsertedAsync() {
+        // given
+        pointHistoryRepository = new PointHistoryRepository(pointHistoryTable, asyncProperties(100, PointHistoryRepository.OverflowPolicy.BLOCK));
+        long userId = 1L;
+
+        // when
+        pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.insert(2L, 300L, TransactionType.CHARGE, 2L);
+        pointHistoryRepository.insert(userId, 500L, TransactionType.USE, 3L);
+        List<PointHistory> actual = pointHistoryRepository.selectAllByUserId(userId);
+
+        // then
+        assertThat(actual).containsExactly(
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(3L, userId, 500L, TransactionType.USE, 3L)
+        );
+    }
+
+    @Test
+    @DisplayName("flush 이후에는 모든 내역이 테이블에 기록되어 있다.")
+    void flush_ShouldWriteAllPending() {
+        // given
+        pointHistoryRepository = new PointHistoryRepository(pointHistoryTable, asyncProperties(100, PointHistoryRepository.OverflowPolicy.BLOCK));
+        long userId = 1L;
+        pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.insert(userId, 500L, TransactionType.USE, 2L);
+
+        // when
+        pointHistoryRepository.flush();
+
+        // then
+        assertThat(pointHistoryTable.selectAllByUserId(userId))
+                .extracting(PointHistory::id)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찼을 때 CALLER_RUNS 정책이면 요청 스레드가 앞선 내역을 직접 기록해 자리를 만들고, 기록 순서는 유지된다.")
+    void insert_ShouldWriteInCaller_WhenQueueIsFull() {
+        // given
+        pointHistoryRepository = new PointHistoryRepository(pointHistoryTable, asyncProperties(1, PointHistoryRepository.OverflowPolicy.CALLER_RUNS));
+        long userId = 1L;
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryRepository.insert(userId, i * 100L, TransactionType.CHARGE, i);
+        }
+        pointHistoryRepository.flush();
+
+        // then
+        assertThat(pointHistoryTable.selectAllByUserId(userId))
+                .extracting(PointHistory::amount)
+                .containsExactly(100L, 200L, 300L, 400L, 500L);
+    }
+
+    @Test
+    @DisplayName("비동기 기록이 실패하면 다시 시도하고, 끝내 기록하지 못하면 실패 지표를 남긴다.")
+    void write_ShouldRetryAndRecordFailure_WhenTableFails() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger calls = new AtomicInteger();
+        PointHistoryTable failingTable = new PointHistoryTable() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                // 첫 내역은 두 번 실패한 뒤 기록되고, 두 번째 내역은 계속 실패한다.
+                if (calls.incrementAndGet() <= 2 || amount == 200L) {
+                    throw new IllegalStateException("테이블 오류");
+                }
+                return super.insert(userId, amount, type, updateMillis);
+            }
+        };
+        pointHistoryRepository = new PointHistoryRepository(failingTable,
+                asyncProperties(100, PointHistoryRepository.OverflowPolicy.BLOCK), new PointMetrics(registry));
+        long userId = 1L;
+
+        // when
+        pointHistoryRepository.insert(userId, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.insert(userId, 200L, TransactionType.CHARGE, 2L);
+        pointHistoryRepository.flush();
+
+        // then
+        assertThat(failingTable.selectAllByUserId(userId)).extracting(PointHistory::amount).containsExactly(100L);
+        assertThat(registry.get("point.history.write.failures").tag("reason", "error").counter().count()).isEqualTo(1);
+        assertThat(registry.get("point.history.write.failures").tag("reason", "id_mismatch").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("색인을 사용하면 cursor 이전 내역을 최신순으로 limit 건 조회한다.")
+    void selectPage_ShouldReturnNewestFirst_WhenIndexed() {
+        // given
+        PointProperties properties = new PointProperties();
+        properties.getHistory().setIndexed(true);
+        pointHistoryRepository = new PointHistoryRepository(pointHistoryTable, properties);
+        long userId = 1L;
+        for (int i = 1; i <= 5; i++) {
+            pointHistoryRepository.insert(userId, i * 100L, TransactionType.CHARGE, i);
+        }
+        pointHistoryRepository.insert(2L, 100L, TransactionType.CHARGE, 6L);
+
+        // when
+        List<PointHistory> firstPage = pointHistoryRepository.selectPage(userId, Long.MAX_VALUE, 2);
+        List<PointHistory> secondPage = pointHistoryRepository.selectPage(userId, firstPage.get(1).id(), 2);
+        List<PointHistory> lastPage = pointHistoryRepository.selectPage(userId, secondPage.get(1).id(), 2);
+
+        // then
+        assertThat(firstPage).extracting(PointHistory::id).containsExactly(5L, 4L);
+        assertThat(secondPage).extracting(PointHistory::id).containsExactly(3L, 2L);
+        assertThat(lastPage).extracting(PointHistory::id).containsExactly(1L);
+        assertThat(pointHistoryRepository.selectAllByUserId(userId)).hasSize(5);
+    }
+
+    private PointProperties asyncProperties(int queueCapacity, PointHistoryRepository.OverflowPolicy overflowPolicy) {
+        PointProperties properties = new PointProperties();
+        properties.getHistory().setAsync(true);
+        properties.getHistory().setQueueCapacity(queueCapacity);
+        properties.getHistory().setOverflowPolicy(overflowPolicy);
+        return properties;
+    }
+}
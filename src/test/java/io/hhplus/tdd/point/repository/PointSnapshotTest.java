@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해당 테스트 클래스는 PointSnapshot 의 변경분 합치기와 파일 기록/읽기를 검증한다.
+ */
+@DisplayName("잔액 스냅샷 테스트")
+public class PointSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("변경분을 합치면 기존 사용자는 증감이 반영되고, 새 사용자는 정렬된 위치에 추가된다.")
+    void merge_ShouldApplyChangesInOrder() {
+        // given
+        PointSnapshot snapshot = new PointSnapshot(2L, new long[]{1L, 5L}, new long[]{100L, 500L}, new long[]{1L, 2L});
+        PointSnapshot.Changes changes = new PointSnapshot.Changes(snapshot.position());
+        changes.apply(new PointHistory(3L, 5L, 200L, TransactionType.USE, 3L));
+        changes.apply(new PointHistory(4L, 3L, 300L, TransactionType.CHARGE, 4L));
+        changes.apply(new PointHistory(5L, 3L, 50L, TransactionType.USE, 5L));
+
+        // when
+        PointSnapshot merged = snapshot.merge(changes);
+
+        // then
+        assertThat(merged.position()).isEqualTo(5L);
+        assertThat(merged.size()).isEqualTo(3);
+        assertThat(merged.find(1L)).isEqualTo(new UserPoint(1L, 100L, 1L));
+        assertThat(merged.find(3L)).isEqualTo(new UserPoint(3L, 250L, 5L));
+        assertThat(merged.find(5L)).isEqualTo(new UserPoint(5L, 300L, 3L));
+        assertThat(merged.find(4L)).isNull();
+    }
+
+    @Test
+    @DisplayName("비움 기록이 있으면 그 이전의 변경분과 스냅샷 잔액은 버리고 이후 변경분만 반영한다.")
+    void merge_ShouldResetBalance_WhenTombstoneApplied() {
+        // given
+        PointSnapshot snapshot = new PointSnapshot(1L, new long[]{1L}, new long[]{100L}, new long[]{1L});
+        PointSnapshot.Changes changes = new PointSnapshot.Changes(snapshot.position());
+        changes.apply(new PointHistory(2L, 1L, 50L, TransactionType.CHARGE, 2L));
+        changes.apply(new PointHistory(3L, 1L, 0L, null, 3L));
+        changes.apply(new PointHistory(4L, 1L, 150L, TransactionType.CHARGE, 4L));
+
+        // when
+        PointSnapshot merged = snapshot.merge(changes);
+
+        // then
+        assertThat(merged.position()).isEqualTo(4L);
+        assertThat(merged.find(1L)).isEqualTo(new UserPoint(1L, 150L, 4L));
+    }
+
+    @Test
+    @DisplayName("기록한 스냅샷을 그대로 읽어오고, 손상된 파일은 읽지 않는다.")
+    void writeAndRead_ShouldRoundTrip_AndRejectCorruption() throws IOException {
+        // given
+        Path path = dir.resolve("point.snapshot");
+        PointSnapshot snapshot = new PointSnapshot(7L, new long[]{1L, 2L}, new long[]{100L, 200L}, new long[]{10L, 20L});
+
+        // when
+        snapshot.write(path);
+        PointSnapshot read = PointSnapshot.read(path).orElseThrow();
+
+        // then
+        assertThat(read.position()).isEqualTo(7L);
+        assertThat(read.find(2L)).isEqualTo(new UserPoint(2L, 200L, 20L));
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            file.writeByte(0x7F);
+        }
+        assertThat(PointSnapshot.read(path)).isEmpty();
+        assertThat(PointSnapshot.read(dir.resolve("missing.snapshot"))).isEmpty();
+    }
+}
@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해당 테스트 클래스는 PointWriteAheadLog 의 기록/복구를 검증한다.
+ */
+@DisplayName("포인트 로그 테스트")
+public class PointWriteAheadLogTest {
+
+    // 헤더 + 레코드 3건이 들어가는 작은 세그먼트 (세그먼트 전환 확인용)
+    private static final long SEGMENT_SIZE = PointWriteAheadLog.RECORD_SIZE * 4L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("다시 열면 세그먼트를 넘어간 기록까지 순서대로 전달되고, 이어서 기록할 수 있다.")
+    void reopen_ShouldReplayInOrder_AndContinueAppending() throws IOException {
+        // given
+        Path path = dir.resolve("point.wal");
+        try (PointWriteAheadLog wal = open(path, new ArrayList<>())) {
+            for (int i = 1; i <= 5; i++) {
+                wal.append(i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i * 100L, i);
+            }
+        }
+
+        // when
+        List<PointHistory> replayed = new ArrayList<>();
+        try (PointWriteAheadLog wal = open(path, replayed)) {
+            wal.append(6L, TransactionType.CHARGE, 600L, 6L);
+            assertThat(wal.records()).isEqualTo(6);
+        }
+        List<PointHistory> all = new ArrayList<>();
+        open(path, all).close();
+
+        // then
+        assertThat(replayed).hasSize(5);
+        assertThat(replayed.get(1)).isEqualTo(new PointHistory(2L, 2L, 200L, TransactionType.USE, 2L));
+        assertThat(all).extracting(PointHistory::id).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(all.get(5)).isEqualTo(new PointHistory(6L, 6L, 600L, TransactionType.CHARGE, 6L));
+    }
+
+    @Test
+    @DisplayName("이체는 보내는 쪽 사용, 받는 쪽 충전 순서로 연달아 기록된다.")
+    void appendTransfer_ShouldWriteBothSidesInOrder() throws IOException {
+        // given
+        Path path = dir.resolve("point.wal");
+        try (PointWriteAheadLog wal = open(path, new ArrayList<>())) {
+            wal.append(1L, TransactionType.CHARGE, 1000L, 1L);
+            wal.appendTransfer(1L, 2L, 300L, 2L, 3L);
+        }
+
+        // when
+        List<PointHistory> replayed = new ArrayList<>();
+        open(path, replayed).close();
+
+        // then
+        assertThat(replayed).containsExactly(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, 1L, 300L, TransactionType.USE, 2L),
+                new PointHistory(3L, 2L, 300L, TransactionType.CHARGE, 3L));
+    }
+
+    @Test
+    @DisplayName("비움 기록은 유형 없이 복구되어 히스토리와 구분된다.")
+    void reopen_ShouldReplayTombstone() throws IOException {
+        // given
+        Path path = dir.resolve("point.wal");
+        try (PointWriteAheadLog wal = open(path, new ArrayList<>())) {
+            wal.append(1L, TransactionType.CHARGE, 100L, 1L);
+            wal.appendTombstone(1L, 2L);
+            wal.append(1L, TransactionType.CHARGE, 100L, 1L);
+        }
+
+        // when
+        List<PointHistory> replayed = new ArrayList<>();
+        open(path, replayed).close();
+
+        // then
+        assertThat(replayed).extracting(PointWriteAheadLog::isTombstone).containsExactly(false, true, false);
+        assertThat(replayed.get(1)).isEqualTo(new PointHistory(2L, 1L, 0L, null, 2L));
+    }
+
+    @Test
+    @DisplayName("기록 도중 중단된 레코드부터는 복구하지 않고, 그 자리부터 다시 기록한다.")
+    void reopen_ShouldStopAtTornRecord() throws IOException {
+        // given
+        Path path = dir.resolve("point.wal");
+        try (PointWriteAheadLog wal = open(path, new ArrayList<>())) {
+            wal.append(1L, TransactionType.CHARGE, 100L, 1L);
+            wal.append(2L, TransactionType.CHARGE, 200L, 2L);
+            wal.append(3L, TransactionType.CHARGE, 300L, 3L);
+        }
+        // 두 번째 레코드의 금액 일부를 훼손
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(PointWriteAheadLog.RECORD_SIZE * 2L + 8);
+            file.writeByte(0x7F);
+        }
+
+        // when
+        List<PointHistory> replayed = new ArrayList<>();
+        try (PointWriteAheadLog wal = open(path, replayed)) {
+            wal.append(4L, TransactionType.USE, 50L, 4L);
+        }
+        List<PointHistory> all = new ArrayList<>();
+        open(path, all).close();
+
+        // then
+        assertThat(replayed).extracting(PointHistory::userId).containsExactly(1L);
+        assertThat(all).extracting(PointHistory::userId).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("이체의 받는 쪽 레코드가 중단되었으면 보내는 쪽 레코드도 복구하지 않고, 그 자리부터 다시 기록한다.")
+    void reopen_ShouldDropTransfer_WhenSecondHalfIsTorn() throws IOException {
+        // given - 세그먼트 경계에 걸친 이체 (보내는 쪽은 첫 세그먼트 마지막 칸, 받는 쪽은 다음 세그먼트 첫 칸)
+        Path path = dir.resolve("point.wal");
+        try (PointWriteAheadLog wal = open(path, new ArrayList<>())) {
+            wal.append(1L, TransactionType.CHARGE, 1000L, 1L);
+            wal.append(2L, TransactionType.CHARGE, 1000L, 2L);
+            wal.appendTransfer(1L, 2L, 300L, 3L, 4L);
+        }
+        // 받는 쪽 레코드의 금액 일부를 훼손
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(SEGMENT_SIZE + 8);
+            file.writeByte(0x7F);
+        }
+
+        // when
+        List<PointHistory> replayed = new ArrayList<>();
+        try (PointWriteAheadLog wal = open(path, replayed)) {
+            assertThat(wal.records()).isEqualTo(2);
+            wal.append(3L, TransactionType.CHARGE, 500L, 5L);
+        }
+        List<PointHistory> all = new ArrayList<>();
+        open(path, all).close();
+
+        // then
+        assertThat(replayed).extracting(PointHistory::userId).containsExactly(1L, 2L);
+        assertThat(all).containsExactly(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L),
+                new PointHistory(2L, 2L, 1000L, TransactionType.CHARGE, 2L),
+                new PointHistory(3L, 3L, 500L, TransactionType.CHARGE, 5L));
+    }
+
+    private PointWriteAheadLog open(Path path, List<PointHistory> replayed) {
+        return new PointWriteAheadLog(path, SEGMENT_SIZE, 2, Duration.ZERO, replayed::add);
+    }
+}
@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 해당 테스트 클래스는 캐시를 사용하는 UserPointRepository 를 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사용자 포인트 캐시 테스트")
+public class UserPointRepositoryTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    @Test
+    @DisplayName("한 번 조회한 사용자는 테이블을 거치지 않고 캐시에서 조회되고, 적중/미스는 지표로도 남는다.")
+    void selectById_ShouldHitCache_WhenLoadedBefore() {
+        // given
+        long userId = 1L;
+        UserPoint expected = new UserPoint(userId, 1000L, System.currentTimeMillis());
+        when(userPointTable.selectById(userId)).thenReturn(expected);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        UserPointRepository userPointRepository = new UserPointRepository(userPointTable, cacheProperties(10),
+                new PointMetrics(registry));
+
+        // when
+        userPointRepository.selectById(userId);
+        UserPoint actual = userPointRepository.selectById(userId);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(userPointRepository.cacheStats()).hasValueSatisfying(stats -> {
+            assertThat(stats.hits()).isEqualTo(1);
+            assertThat(stats.misses()).isEqualTo(1);
+        });
+        assertThat(registry.get("point.cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("point.cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("point.cache.size").gauge().value()).isEqualTo(1);
+
+        // verify
+        verify(userPointTable, times(1)).selectById(userId);
+    }
+
+    @Test
+    @DisplayName("테이블을 읽는 사이 변경된 값이 캐시에서 제거되어도, 읽어온 오래된 값으로 캐시를 채우지 않는다.")
+    void selectById_ShouldNotFillStaleValue_WhenUpdatedWhileReading() {
+        // given
+        long userId = 1L;
+        UserPoint stale = new UserPoint(userId, 1000L, 1L);
+        UserPoint updated = new UserPoint(userId, 2000L, 2L);
+        UserPointRepository userPointRepository = new UserPointRepository(userPointTable, cacheProperties(1));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 2L));
+        when(userPointTable.selectById(userId))
+                .thenAnswer(invocation -> {
+                    // 읽는 도중 다른 요청이 변경하고, 그 값이 다른 사용자에 밀려 캐시에서 제거된다.
+                    userPointRepository.insertOrUpdate(userId, 2000L);
+                    userPointRepository.insertOrUpdate(2L, 100L);
+                    return stale;
+                })
+                .thenReturn(updated);
+
+        // when
+        userPointRepository.selectById(userId);
+        UserPoint actual = userPointRepository.selectById(userId);
+
+        // then
+        assertThat(actual).isEqualTo(updated);
+    }
+
+    @Test
+    @DisplayName("포인트를 변경하면 캐시에도 반영되어 이후 조회는 변경된 값을 캐시에서 돌려준다.")
+    void insertOrUpdate_ShouldWriteThroughCache() {
+        // given
+        long userId = 1L;
+        UserPoint updated = new UserPoint(userId, 2000L, System.currentTimeMillis());
+        when(userPointTable.insertOrUpdate(userId, 2000L)).thenReturn(updated);
+        UserPointRepository userPointRepository = new UserPointRepository(userPointTable, cacheProperties(10));
+
+        // when
+        userPointRepository.insertOrUpdate(userId, 2000L);
+        UserPoint actual = userPointRepository.selectById(userId);
+
+        // then
+        assertThat(actual).isEqualTo(updated);
+
+        // verify
+        verify(userPointTable, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 사용자부터 제거된다.")
+    void insertOrUpdate_ShouldEvictEldest_WhenExceedsMaxEntries() {
+        // given
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+        UserPointRepository userPointRepository = new UserPointRepository(userPointTable, cacheProperties(1));
+
+        // when
+        userPointRepository.insertOrUpdate(1L, 100L);
+        userPointRepository.insertOrUpdate(2L, 200L);
+
+        // then
+        assertThat(userPointRepository.cacheStats()).hasValueSatisfying(stats -> {
+            assertThat(stats.evictions()).isEqualTo(1);
+            assertThat(stats.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("복구한 사용자는 새로 기록될 때까지 복구한 값으로 응답하고, 모두 새로 기록되면 복구 상태를 놓아준다.")
+    void restore_ShouldServeSnapshotUntilRewritten_AndRelease() {
+        // given
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 300L, 0L));
+        UserPointRepository userPointRepository = new UserPointRepository(userPointTable);
+        userPointRepository.restore(new PointSnapshot(2L, new long[]{1L, 2L}, new long[]{100L, 200L}, new long[]{1L, 1L}));
+
+        // when & then
+        assertThat(userPointRepository.selectById(1L).point()).isEqualTo(100L);
+        assertThat(userPointRepository.restoredRemaining()).isEqualTo(2);
+
+        // 복구하지 않은 사용자의 기록은 복구 상태에 영향을 주지 않는다.
+        userPointRepository.insertOrUpdate(3L, 50L);
+        assertThat(userPointRepository.restoredRemaining()).isEqualTo(2);
+
+        userPointRepository.insertOrUpdate(1L, 300L);
+        userPointRepository.insertOrUpdate(1L, 300L);
+        assertThat(userPointRepository.restoredRemaining()).isEqualTo(1);
+        assertThat(userPointRepository.selectById(1L).point()).isEqualTo(300L);
+        assertThat(userPointRepository.selectById(2L).point()).isEqualTo(200L);
+
+        userPointRepository.insertOrUpdate(2L, 400L);
+        assertThat(userPointRepository.restoredRemaining()).isZero();
+
+        // verify
+        verify(userPointTable, times(1)).selectById(1L);
+        verify(userPointTable, never()).selectById(2L);
+    }
+
+    private PointProperties cacheProperties(int maxEntries) {
+        PointProperties properties = new PointProperties();
+        properties.getCache().setEnabled(true);
+        properties.getCache().setMaxEntries(maxEntries);
+        return properties;
+    }
+}
@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해당 테스트 클래스는 UserPointViewStore 의 뷰 생성/교체를 검증한다.
+ */
+@DisplayName("잔액/최근 히스토리 뷰 저장소 테스트")
+public class UserPointViewStoreTest {
+
+    private static final int RECENT_SIZE = 3;
+
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+    private UserPointViewStore store;
+
+    @BeforeEach
+    void setUp() {
+        userPointRepository = new UserPointRepository(new UserPointTable());
+        pointHistoryRepository = new PointHistoryRepository(new PointHistoryTable());
+        store = new UserPointViewStore(userPointRepository, pointHistoryRepository, RECENT_SIZE);
+    }
+
+    @Test
+    @DisplayName("뷰가 없는 사용자는 저장소의 잔액과 최신순 최근 히스토리로 버전 0 의 뷰를 만들되, 조회만으로는 보관하지 않는다.")
+    void get_ShouldLoadFromRepositories_WithoutStoring_WhenAbsent() {
+        // given
+        long userId = 1L;
+        userPointRepository.insertOrUpdate(userId, 500L);
+        PointHistory first = pointHistoryRepository.insert(userId, 1000L, TransactionType.CHARGE, 1L);
+        PointHistory second = pointHistoryRepository.insert(userId, 500L, TransactionType.USE, 2L);
+
+        // when
+        UserPointView view = store.get(userId);
+
+        // then
+        assertThat(view.version()).isZero();
+        assertThat(view.userPoint().point()).isEqualTo(500L);
+        assertThat(view.recentHistories()).containsExactly(second, first);
+
+        // verify
+        assertThat(store.find(userId)).isNull();
+        assertThat(store.get(2L).version()).isZero();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("기록한 잔액과 히스토리로 교체할 때마다 버전이 1 증가하고, 최근 히스토리는 최신순으로 recentSize 건만 남는다.")
+    void publish_ShouldReplaceViewWithRecentHistories() {
+        // given
+        long userId = 1L;
+        store.open(userId);
+        List<PointHistory> written = new ArrayList<>();
+
+        // when
+        for (int i = 1; i <= 2; i++) {
+            written.add(pointHistoryRepository.insert(userId, 100L, TransactionType.CHARGE, i));
+            store.publish(new UserPoint(userId, i * 100L, i), written.get(written.size() - 1));
+        }
+        List<PointHistory> group = List.of(
+                pointHistoryRepository.insert(userId, 100L, TransactionType.CHARGE, 3L),
+                pointHistoryRepository.insert(userId, 50L, TransactionType.USE, 3L));
+        store.publish(new UserPoint(userId, 250L, 3L), group);
+
+        // then
+        UserPointView view = store.get(userId);
+        assertThat(view.version()).isEqualTo(3L);
+        assertThat(view.userPoint()).isEqualTo(new UserPoint(userId, 250L, 3L));
+        assertThat(view.recentHistories()).containsExactly(group.get(1), group.get(0), written.get(1));
+    }
+
+    @Test
+    @DisplayName("다시 만들면 저장소의 값으로 교체하고 버전은 이어서 증가한다.")
+    void reload_ShouldReadRepositories_AndKeepVersionIncreasing() {
+        // given
+        long userId = 1L;
+        store.open(userId);
+        userPointRepository.insertOrUpdate(userId, 700L);
+        PointHistory history = pointHistoryRepository.insert(userId, 700L, TransactionType.CHARGE, 1L);
+
+        // when
+        store.reload(userId);
+
+        // then
+        UserPointView view = store.get(userId);
+        assertThat(view.version()).isEqualTo(1L);
+        assertThat(view.userPoint().point()).isEqualTo(700L);
+        assertThat(view.recentHistories()).containsExactly(history);
+    }
+
+    @Test
+    @DisplayName("최대 보관 수를 넘으면 오래 사용되지 않은 뷰부터 제거하되, 기록 중인 사용자의 뷰는 남긴다.")
+    void open_ShouldEvictLeastRecentlyUsed_ExceptOpenViews() {
+        // given - 구역이 하나인 작은 저장소
+        UserPointViewStore bounded = new UserPointViewStore(userPointRepository, pointHistoryRepository, RECENT_SIZE, 2);
+        bounded.open(1L);
+        bounded.open(2L);
+        bounded.publish(new UserPoint(2L, 100L, 1L), pointHistoryRepository.insert(2L, 100L, TransactionType.CHARGE, 1L));
+
+        // when - 1 은 기록 중이므로 제거되지 않고, 기록이 끝난 2 가 제거된다.
+        bounded.open(3L);
+
+        // then
+        assertThat(bounded.size()).isEqualTo(2);
+        assertThat(bounded.find(1L)).isNotNull();
+        assertThat(bounded.find(2L)).isNull();
+        assertThat(bounded.find(3L)).isNotNull();
+
+        // when - 1 의 기록이 끝나면 다시 제거 대상이 된다.
+        bounded.publish(new UserPoint(1L, 100L, 2L), pointHistoryRepository.insert(1L, 100L, TransactionType.CHARGE, 2L));
+        bounded.publish(new UserPoint(3L, 100L, 3L), pointHistoryRepository.insert(3L, 100L, TransactionType.CHARGE, 3L));
+        bounded.open(4L);
+
+        // then
+        assertThat(bounded.size()).isEqualTo(2);
+        assertThat(bounded.find(1L)).isNull();
+        assertThat(bounded.find(4L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("최근 히스토리 건수가 1 미만이면 예외가 발생한다.")
+    void constructor_ShouldThrow_WhenRecentSizeIsNotPositive() {
+        // when & then
+        assertThatThrownBy(() -> new UserPointViewStore(userPointRepository, pointHistoryRepository, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,214 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.validation.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 해당 테스트 클래스는 CasPointEngine 의 반영/기록 순서를 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CAS 엔진 테스트")
+public class CasPointEngineTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private CasPointEngine casPointEngine;
+
+    @BeforeEach
+    void setUp() {
+        casPointEngine = new CasPointEngine(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), new PointValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        casPointEngine.close();
+    }
+
+    @Test
+    @DisplayName("반영된 순서대로 잔액과 히스토리를 기록하고, 기록이 끝난 Cell 은 제거한다.")
+    void execute_ShouldPersistInOrder() {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        AtomicReference<UserPoint> stored = new AtomicReference<>(new UserPoint(userId, 1000L, millis));
+        when(userPointTable.selectById(userId)).thenAnswer(invocation -> stored.get());
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    UserPoint userPoint = new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis);
+                    stored.set(userPoint);
+                    return userPoint;
+                });
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(new PointHistory(1L, userId, 0L, TransactionType.CHARGE, millis));
+
+        // when
+        UserPoint charged = casPointEngine.execute(new PointCommand(userId, TransactionType.CHARGE, 500L));
+        UserPoint used = casPointEngine.execute(new PointCommand(userId, TransactionType.USE, 700L));
+
+        // then
+        assertThat(charged.point()).isEqualTo(1500L);
+        assertThat(used.point()).isEqualTo(800L);
+        assertThat(casPointEngine.current(userId)).isNull();
+        assertThat(casPointEngine.size()).isZero();
+
+        // verify
+        verify(userPointTable, times(2)).selectById(userId);
+        InOrder inOrder = inOrder(userPointTable, pointHistoryTable);
+        inOrder.verify(userPointTable).insertOrUpdate(userId, 1500L);
+        inOrder.verify(pointHistoryTable).insert(userId, 500L, TransactionType.CHARGE, millis);
+        inOrder.verify(userPointTable).insertOrUpdate(userId, 800L);
+        inOrder.verify(pointHistoryTable).insert(userId, 700L, TransactionType.USE, millis);
+    }
+
+    @Test
+    @DisplayName("검증에 실패하면 잔액을 바꾸지 않고 테이블에도 기록하지 않는다.")
+    void execute_ShouldNotChange_WhenValidationFails() {
+        // given
+        long userId = 1L;
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 100L, System.currentTimeMillis()));
+
+        // when & then
+        assertThatThrownBy(() -> casPointEngine.execute(new PointCommand(userId, TransactionType.USE, 200L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("보유 포인트(100포인트)보다 많은 금액을 사용할 수 없습니다.");
+        assertThat(casPointEngine.size()).isZero();
+
+        // verify
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verifyNoInteractions(pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("반영 후 테이블 기록에 실패해도 성공으로 응답하고, 다음 기록 때 남은 연산을 이어서 기록한다.")
+    void execute_ShouldSucceed_WhenPersistFailsAfterApply() {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, millis));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenThrow(new IllegalStateException("history down"))
+                .thenReturn(new PointHistory(1L, userId, 0L, TransactionType.CHARGE, millis));
+
+        // when
+        UserPoint charged = casPointEngine.execute(new PointCommand(userId, TransactionType.CHARGE, 500L));
+
+        // then - 기록되지 않은 연산이 남아 있으므로 Cell 을 보관하고 반영된 잔액으로 응답한다.
+        assertThat(charged.point()).isEqualTo(1500L);
+        assertThat(casPointEngine.current(userId).point()).isEqualTo(1500L);
+
+        // when
+        UserPoint used = casPointEngine.execute(new PointCommand(userId, TransactionType.USE, 700L));
+
+        // then
+        assertThat(used.point()).isEqualTo(800L);
+        assertThat(casPointEngine.size()).isZero();
+
+        // verify
+        verify(userPointTable, times(1)).selectById(userId);
+        InOrder inOrder = inOrder(userPointTable, pointHistoryTable);
+        inOrder.verify(userPointTable).insertOrUpdate(userId, 1500L);
+        inOrder.verify(pointHistoryTable).insert(userId, 500L, TransactionType.CHARGE, millis);
+        inOrder.verify(userPointTable).insertOrUpdate(userId, 800L);
+        inOrder.verify(pointHistoryTable).insert(userId, 500L, TransactionType.CHARGE, millis);
+        inOrder.verify(pointHistoryTable).insert(userId, 700L, TransactionType.USE, millis);
+    }
+
+    @Test
+    @DisplayName("테이블 기록에 실패한 뒤 같은 사용자의 요청이 없어도 백그라운드에서 다시 기록하고 Cell 을 제거한다.")
+    void execute_ShouldRetryInBackground_WhenPersistFailsWithoutFollowUp() throws InterruptedException {
+        // given
+        casPointEngine.close();
+        casPointEngine = new CasPointEngine(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), new PointValidator(), null, null, PointMetrics.noop(), Duration.ofMillis(10));
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, millis));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenThrow(new IllegalStateException("history down"))
+                .thenThrow(new IllegalStateException("history down"))
+                .thenReturn(new PointHistory(1L, userId, 500L, TransactionType.CHARGE, millis));
+
+        // when
+        UserPoint charged = casPointEngine.execute(new PointCommand(userId, TransactionType.CHARGE, 500L));
+
+        // then - 두 번째 재시도에서 기록을 마치고 Cell 을 제거한다.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (casPointEngine.size() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(charged.point()).isEqualTo(1500L);
+        assertThat(casPointEngine.size()).isZero();
+        assertThat(casPointEngine.current(userId)).isNull();
+
+        // verify
+        verify(userPointTable, times(3)).insertOrUpdate(userId, 1500L);
+        verify(pointHistoryTable, times(3)).insert(userId, 500L, TransactionType.CHARGE, millis);
+    }
+
+    @Test
+    @DisplayName("히스토리를 기록한 뒤 로그 기록에 실패해도 히스토리를 다시 기록하지 않고 실패를 지표로 남긴다.")
+    void execute_ShouldNotDuplicateHistory_WhenLogAppendFails(@TempDir Path dir) throws IOException {
+        // given - 닫힌 로그는 기록 시 예외를 던진다.
+        PointWriteAheadLog wal = new PointWriteAheadLog(dir.resolve("point.wal"), 4096, 1, Duration.ZERO, record -> {});
+        wal.close();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        casPointEngine.close();
+        casPointEngine = new CasPointEngine(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), new PointValidator(), null, wal,
+                new PointMetrics(registry), Duration.ofMillis(10));
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, millis));
+        when(userPointTable.insertOrUpdate(userId, 1500L)).thenReturn(new UserPoint(userId, 1500L, millis));
+
+        // when
+        UserPoint charged = casPointEngine.execute(new PointCommand(userId, TransactionType.CHARGE, 500L));
+
+        // then - 모든 연산이 기록된 것으로 보고 Cell 을 바로 제거한다.
+        assertThat(charged.point()).isEqualTo(1500L);
+        assertThat(casPointEngine.size()).isZero();
+        assertThat(registry.get("point.history.write.failures").tag("reason", "log_error").counter().count()).isEqualTo(1);
+
+        // verify
+        verify(pointHistoryTable, times(1)).insert(userId, 500L, TransactionType.CHARGE, millis);
+    }
+}
@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해당 테스트 클래스는 HotUserTracker 의 승격/강등 판정과 지표를 검증한다.
+ */
+@DisplayName("hot user 판정 테스트")
+public class HotUserTrackerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("락 대기 수가 기준 이상이면 승격되고, 기준 미만이어도 cool-down 동안은 묶음 처리를 유지한다.")
+    void observe_ShouldPromote_WhenQueueLengthReachesThreshold() {
+        // given
+        HotUserTracker tracker = new HotUserTracker(4, Duration.ofHours(1), new PointMetrics(registry));
+
+        // when & then
+        assertThat(tracker.observe(1L, 3)).isFalse();
+        assertThat(tracker.observe(1L, 4)).isTrue();
+        assertThat(tracker.observe(1L, 10)).isTrue();
+        assertThat(tracker.observe(1L, 0)).isTrue();
+        assertThat(tracker.observe(2L, 0)).isFalse();
+
+        // verify - 여러 번 몰려도 승격은 한 번만 집계한다.
+        assertThat(registry.get("point.hot.transitions").tag("direction", "promoted").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("point.hot.users").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("cool-down 이 지나도록 몰리지 않으면 다음 요청에서 강등된다.")
+    void observe_ShouldDemote_AfterCoolDown() throws InterruptedException {
+        // given
+        HotUserTracker tracker = new HotUserTracker(2, Duration.ofMillis(20), new PointMetrics(registry));
+        tracker.observe(1L, 5);
+
+        // when
+        Thread.sleep(50);
+        boolean hot = tracker.observe(1L, 1);
+
+        // then
+        assertThat(hot).isFalse();
+        assertThat(tracker.isHot(1L)).isFalse();
+
+        // verify
+        assertThat(registry.get("point.hot.transitions").tag("direction", "demoted").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("point.hot.users").gauge().value()).isZero();
+    }
+}
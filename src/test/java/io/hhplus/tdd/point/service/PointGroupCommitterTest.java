@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.exception.UserBusyException;
+import io.hhplus.tdd.common.lock.UserLock;
+import io.hhplus.tdd.common.lock.UserLockRegistry;
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointWriteAheadLog;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.validation.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 해당 테스트 클래스는 PointGroupCommitter의 묶음 처리를 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Group Commit 묶음 처리 테스트")
+public class PointGroupCommitterTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private final UserLockRegistry lockRegistry = new UserLockRegistry();
+    private PointGroupCommitter groupCommitter;
+
+    @BeforeEach
+    void setUp() {
+        groupCommitter = new PointGroupCommitter(new UserPointRepository(userPointTable), new PointHistoryRepository(pointHistoryTable), new PointValidator(), lockRegistry, 100, PointMetrics.noop());
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청들은 insertOrUpdate 1회로 기록되고 각 요청자는 자신의 결과를 받는다.")
+    void submit_ShouldWriteOnce_WhenRequestsAreQueued() throws Exception {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, millis));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis));
+
+        UserLock lock = lockRegistry.acquire(userId);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // 락을 먼저 잡아 요청들이 대기열에 쌓이도록 한다.
+        lock.lock();
+        CompletableFuture<UserPoint> charge = CompletableFuture.supplyAsync(
+                () -> groupCommitter.submit(new PointCommand(userId, TransactionType.CHARGE, 500L), lock), executor);
+        awaitQueued(lock, 1);
+        CompletableFuture<UserPoint> use = CompletableFuture.supplyAsync(
+                () -> groupCommitter.submit(new PointCommand(userId, TransactionType.USE, 1200L), lock), executor);
+        awaitQueued(lock, 2);
+        CompletableFuture<UserPoint> overUse = CompletableFuture.supplyAsync(
+                () -> groupCommitter.submit(new PointCommand(userId, TransactionType.USE, 1000L), lock), executor);
+        awaitQueued(lock, 3);
+
+        // when
+        lock.unlock();
+
+        // then
+        assertThat(charge.get().point()).isEqualTo(1500L);
+        assertThat(use.get().point()).isEqualTo(300L);
+        assertThatThrownBy(overUse::join)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("보유 포인트(300포인트)보다 많은 금액을 사용할 수 없습니다.");
+
+        // verify
+        verify(userPointTable, times(1)).selectById(userId);
+        verify(userPointTable, times(1)).insertOrUpdate(userId, 300L);
+        verify(pointHistoryTable, times(1)).insert(userId, 500L, TransactionType.CHARGE, millis);
+        verify(pointHistoryTable, times(1)).insert(userId, 1200L, TransactionType.USE, millis);
+        verifyNoMoreInteractions(pointHistoryTable);
+
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶음의 모든 요청이 검증에 실패하면 포인트를 기록하지 않는다.")
+    void submit_ShouldNotWrite_WhenAllRequestsRejected() {
+        // given
+        long userId = 1L;
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 0L, System.currentTimeMillis()));
+
+        // when & then
+        assertThatThrownBy(() -> groupCommitter.submit(new PointCommand(userId, TransactionType.USE, 100L), lockRegistry.acquire(userId)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("보유 포인트(0포인트)보다 많은 금액을 사용할 수 없습니다.");
+
+        // verify
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verifyNoInteractions(pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 락을 얻지 못한 요청은 거절되고, 이후 묶음에서도 처리되지 않는다.")
+    void submit_ShouldRejectAndDrop_WhenLockWaitTimesOut() throws Exception {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        UserLockRegistry boundedRegistry = new UserLockRegistry(Integer.MAX_VALUE, Duration.ofMillis(50), Duration.ofSeconds(1));
+        PointGroupCommitter bounded = new PointGroupCommitter(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), new PointValidator(), boundedRegistry, 100, PointMetrics.noop());
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 0L, millis));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis));
+
+        UserLock holder = boundedRegistry.acquire(userId);
+        holder.lock();
+
+        // when
+        CompletableFuture<UserPoint> rejected = CompletableFuture.supplyAsync(
+                () -> bounded.submit(new PointCommand(userId, TransactionType.CHARGE, 500L), boundedRegistry.acquire(userId)));
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(UserBusyException.class);
+        holder.unlock();
+        UserPoint charged = bounded.submit(new PointCommand(userId, TransactionType.CHARGE, 100L), boundedRegistry.acquire(userId));
+
+        // then - 거절된 충전은 반영되지 않는다.
+        assertThat(charged.point()).isEqualTo(100L);
+        verify(userPointTable, times(1)).insertOrUpdate(userId, 100L);
+        verify(pointHistoryTable, never()).insert(userId, 500L, TransactionType.CHARGE, millis);
+    }
+
+    @Test
+    @DisplayName("잔액을 기록한 뒤 히스토리 기록에 실패해도 기록된 잔액으로 성공 응답한다.")
+    void submit_ShouldSucceed_WhenHistoryInsertFailsAfterCommit() {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 0L, millis));
+        when(userPointTable.insertOrUpdate(userId, 500L)).thenReturn(new UserPoint(userId, 500L, millis));
+        when(pointHistoryTable.insert(userId, 500L, TransactionType.CHARGE, millis)).thenThrow(new IllegalStateException("기록 실패"));
+
+        // when
+        UserPoint actual = groupCommitter.submit(new PointCommand(userId, TransactionType.CHARGE, 500L), lockRegistry.acquire(userId));
+
+        // then
+        assertThat(actual).isEqualTo(new UserPoint(userId, 500L, millis));
+    }
+
+    @Test
+    @DisplayName("잔액을 기록한 뒤 로그 기록에 실패해도 기록된 잔액으로 성공 응답하고 실패를 지표로 남긴다.")
+    void submit_ShouldSucceed_WhenLogAppendFailsAfterCommit(@TempDir Path dir) throws IOException {
+        // given - 닫힌 로그는 기록 시 예외를 던진다.
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        PointWriteAheadLog wal = new PointWriteAheadLog(dir.resolve("point.wal"), 4096, 1, Duration.ZERO, record -> {});
+        wal.close();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PointGroupCommitter committer = new PointGroupCommitter(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), new PointValidator(), lockRegistry, 100,
+                new PointMetrics(registry), null, wal);
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 0L, millis));
+        when(userPointTable.insertOrUpdate(userId, 500L)).thenReturn(new UserPoint(userId, 500L, millis));
+
+        // when
+        UserPoint actual = committer.submit(new PointCommand(userId, TransactionType.CHARGE, 500L), lockRegistry.acquire(userId));
+
+        // then
+        assertThat(actual).isEqualTo(new UserPoint(userId, 500L, millis));
+        assertThat(registry.get("point.history.write.failures").tag("reason", "log_error").counter().count()).isEqualTo(1);
+        verify(pointHistoryTable).insert(userId, 500L, TransactionType.CHARGE, millis);
+    }
+
+    private void awaitQueued(ReentrantLock lock, int count) throws InterruptedException {
+        while (lock.getQueueLength() < count) {
+            Thread.sleep(10);
+        }
+    }
+}
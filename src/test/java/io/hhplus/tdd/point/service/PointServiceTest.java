@@ -1,11 +1,23 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.common.concurrent.UserOrderedExecutor;
+import io.hhplus.tdd.common.config.PointProperties;
+import io.hhplus.tdd.common.exception.PointLimitExceededException;
+import io.hhplus.tdd.common.exception.UnsupportedPointOperationException;
 import io.hhplus.tdd.common.exception.UserNotFoundException;
+import io.hhplus.tdd.common.metrics.PointMetrics;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.DTO.PointHandOff;
+import io.hhplus.tdd.point.DTO.PointTransferResult;
 import io.hhplus.tdd.point.domain.TransactionType;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.UserPointView;
+import io.hhplus.tdd.point.repository.PointDurability;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.validation.PointViolation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +32,7 @@ import static io.hhplus.tdd.common.PointConstraints.MAX_POINT_PER_CHARGE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -120,6 +133,145 @@ public class PointServiceTest {
         verify(pointHistoryTable, times(1)).insert(userId, useAmount, TransactionType.USE, expectedPoint.updateMillis());
     }
 
+    @Test
+    @DisplayName("보내는 사용자와 받는 사용자, 금액을 입력받으면 양쪽 잔액과 히스토리를 기록한다.")
+    void transferPoint_ShouldMovePoint_WhenValidInput() {
+        // given
+        long fromUserId = 2L;
+        long toUserId = 1L;
+        long amount = 300L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(fromUserId)).thenReturn(new UserPoint(fromUserId, 1000L, millis));
+        when(userPointTable.selectById(toUserId)).thenReturn(new UserPoint(toUserId, 200L, millis));
+        when(userPointTable.insertOrUpdate(fromUserId, 700L)).thenReturn(new UserPoint(fromUserId, 700L, millis));
+        when(userPointTable.insertOrUpdate(toUserId, 500L)).thenReturn(new UserPoint(toUserId, 500L, millis));
+
+        // when
+        PointTransferResult actual = pointService.transferPoint(fromUserId, toUserId, amount);
+
+        // then
+        assertThat(actual.from().point()).isEqualTo(700L);
+        assertThat(actual.to().point()).isEqualTo(500L);
+
+        // verify
+        verify(pointHistoryTable, times(1)).insert(fromUserId, amount, TransactionType.USE, millis);
+        verify(pointHistoryTable, times(1)).insert(toUserId, amount, TransactionType.CHARGE, millis);
+    }
+
+    @Test
+    @DisplayName("받는 쪽이 최대 보유량을 넘거나 자기 자신에게 이체하면 양쪽 모두 기록하지 않는다.")
+    void transferPoint_ShouldNotWrite_WhenEitherSideInvalid() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(fromUserId)).thenReturn(new UserPoint(fromUserId, 1000L, millis));
+        when(userPointTable.selectById(toUserId)).thenReturn(new UserPoint(toUserId, MAX_POINT, millis));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.transferPoint(fromUserId, toUserId, 100L))
+                .isInstanceOf(PointLimitExceededException.class);
+        assertThatThrownBy(() -> pointService.transferPoint(fromUserId, fromUserId, 100L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // verify
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verifyNoInteractions(pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("받는 쪽 잔액 기록에 실패하면 보내는 쪽 잔액을 되돌리고 히스토리를 남기지 않는다.")
+    void transferPoint_ShouldRestoreSender_WhenReceiverWriteFails() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long millis = System.currentTimeMillis();
+        when(userPointTable.selectById(fromUserId)).thenReturn(new UserPoint(fromUserId, 1000L, millis));
+        when(userPointTable.selectById(toUserId)).thenReturn(new UserPoint(toUserId, 200L, millis));
+        when(userPointTable.insertOrUpdate(fromUserId, 700L)).thenReturn(new UserPoint(fromUserId, 700L, millis));
+        when(userPointTable.insertOrUpdate(toUserId, 500L)).thenThrow(new IllegalStateException("기록 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.transferPoint(fromUserId, toUserId, 300L))
+                .isInstanceOf(IllegalStateException.class);
+
+        // verify
+        verify(userPointTable, times(1)).insertOrUpdate(fromUserId, 1000L);
+        verifyNoInteractions(pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("뷰를 사용할 때 잔액 기록 후 히스토리 기록에 실패해도 성공으로 응답하고, 뷰는 기록된 잔액으로 교체된다.")
+    void chargePoint_ShouldPublishView_WhenHistoryInsertFails() {
+        // given
+        long userId = 1L;
+        PointService viewService = newViewService();
+        UserPoint afterPoint = new UserPoint(userId, 500L, 1L);
+        when(userPointTable.selectById(userId)).thenReturn(UserPoint.empty(userId));
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of());
+        when(userPointTable.insertOrUpdate(userId, 500L)).thenReturn(afterPoint);
+        when(pointHistoryTable.insert(userId, 500L, TransactionType.CHARGE, 1L)).thenThrow(new IllegalStateException("기록 실패"));
+
+        // when
+        UserPoint actual = viewService.chargePoint(userId, 500L);
+
+        // then - 기록 전의 뷰(잔액 0)가 남지 않는다.
+        assertThat(actual).isEqualTo(afterPoint);
+        assertThat(viewService.selectUserPointView(userId)).isEqualTo(new UserPointView(1L, afterPoint, List.of()));
+    }
+
+    @Test
+    @DisplayName("뷰를 사용할 때 잔액 기록에 실패하면 기록 전의 뷰를 고정해 두지 않고 저장소 값으로 다시 만든다.")
+    void chargePoint_ShouldReloadView_WhenBalanceWriteFails() {
+        // given
+        long userId = 1L;
+        PointService viewService = newViewService();
+        UserPoint stored = new UserPoint(userId, 300L, 2L);
+        // 충전 전 잔액, 기록 전 뷰, 실패 후 다시 만든 뷰 순서로 읽는다.
+        when(userPointTable.selectById(userId)).thenReturn(UserPoint.empty(userId), UserPoint.empty(userId), stored);
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of());
+        when(userPointTable.insertOrUpdate(userId, 500L)).thenThrow(new IllegalStateException("기록 실패"));
+
+        // when
+        assertThatThrownBy(() -> viewService.chargePoint(userId, 500L)).isInstanceOf(IllegalStateException.class);
+
+        // then - 다른 경로로 바뀐 저장소 값이 보인다.
+        assertThat(viewService.selectUserPointView(userId).userPoint()).isEqualTo(stored);
+    }
+
+    @Test
+    @DisplayName("잔액을 따로 보관하는 엔진(CAS)에서는 이체를 지원하지 않는다는 예외를 던지고 아무것도 기록하지 않는다.")
+    void transferPoint_ShouldThrowUnsupported_WhenCasEngine() {
+        // given
+        PointProperties properties = new PointProperties();
+        properties.setEngine(PointEngine.Type.CAS);
+        PointService casService = new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), properties, PointMetrics.noop());
+
+        // when & then
+        assertThatThrownBy(() -> casService.transferPoint(1L, 2L, 100L))
+                .isInstanceOf(UnsupportedPointOperationException.class);
+
+        // verify
+        verifyNoInteractions(userPointTable, pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("잔액과 무관하게 잘못된 금액은 테이블을 조회하지 않고 위반 사유를 돌려준다.")
+    void precheckAmount_ShouldReturnViolation_WithoutTableAccess() {
+        // when & then
+        assertThat(pointService.precheckAmount(TransactionType.CHARGE, 0L)).isEqualTo(PointViolation.NON_POSITIVE_AMOUNT);
+        assertThat(pointService.precheckAmount(TransactionType.USE, -1L)).isEqualTo(PointViolation.NON_POSITIVE_AMOUNT);
+        assertThat(pointService.precheckAmount(TransactionType.CHARGE, MAX_POINT_PER_CHARGE + 1))
+                .isEqualTo(PointViolation.CHARGE_LIMIT_EXCEEDED);
+        // 1회 사용 한도는 없고, 잔액 부족은 잔액을 읽어야 알 수 있다.
+        assertThat(pointService.precheckAmount(TransactionType.USE, MAX_POINT_PER_CHARGE + 1)).isNull();
+        assertThat(pointService.precheckAmount(TransactionType.CHARGE, 1_000L)).isNull();
+
+        // verify
+        verifyNoInteractions(userPointTable, pointHistoryTable);
+    }
+
     @Test
     @DisplayName("사용자 ID를 입력받으면 사용자의 포인트 사용/충전 내역 조회")
      void getUserHistories_ReturnHistories_WhenUserIdIsValid(){
@@ -141,6 +293,72 @@ public class PointServiceTest {
         verify(pointHistoryTable, times(1)).selectAllByUserId(userId);
     }
 
+    @Test
+    @DisplayName("뷰를 사용하지 않으면 포인트와 최신순 최근 히스토리를 저장소에서 차례로 읽는다.")
+    void selectUserPointView_ReadsRepositories_WhenViewDisabled() {
+        // given
+        long userId = 1L;
+        UserPoint userPoint = new UserPoint(userId, 700L, 200L);
+        PointHistory charge = new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 100L);
+        PointHistory use = new PointHistory(2L, userId, 300L, TransactionType.USE, 200L);
+        when(userPointTable.selectById(userId)).thenReturn(userPoint);
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of(charge, use));
+
+        // when
+        UserPointView actual = pointService.selectUserPointView(userId);
+
+        // then
+        assertThat(actual).isEqualTo(new UserPointView(0L, userPoint, List.of(use, charge)));
+    }
+
+    @Test
+    @DisplayName("뷰를 사용하면 충전 시 교체된 뷰를 돌려주고, 조회할 때는 테이블을 읽지 않는다.")
+    void selectUserPointView_ReturnsPublishedView_WhenViewEnabled() {
+        // given
+        long userId = 1L;
+        PointProperties properties = new PointProperties();
+        properties.getView().setEnabled(true);
+        PointService viewService = new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), properties, PointMetrics.noop());
+        UserPoint afterPoint = new UserPoint(userId, 500L, 1L);
+        PointHistory history = new PointHistory(1L, userId, 500L, TransactionType.CHARGE, 1L);
+        when(userPointTable.selectById(userId)).thenReturn(UserPoint.empty(userId));
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of());
+        when(userPointTable.insertOrUpdate(userId, 500L)).thenReturn(afterPoint);
+        when(pointHistoryTable.insert(userId, 500L, TransactionType.CHARGE, 1L)).thenReturn(history);
+        viewService.chargePoint(userId, 500L);
+        clearInvocations(userPointTable, pointHistoryTable);
+
+        // when
+        UserPointView actual = viewService.selectUserPointView(userId);
+
+        // then
+        assertThat(actual).isEqualTo(new UserPointView(1L, afterPoint, List.of(history)));
+
+        // verify
+        verifyNoInteractions(userPointTable, pointHistoryTable);
+    }
+
+    @Test
+    @DisplayName("사용자 ID와 조회 시각을 입력받으면 그 시각까지의 내역을 반영한 포인트를 조회")
+    void selectUserPointAt_ReturnBalanceAtTime_WhenHistoriesExist() {
+        // given
+        long userId = 1L;
+        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(List.of(
+                new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2L, userId, 300L, TransactionType.USE, 200L),
+                new PointHistory(3L, userId, 500L, TransactionType.CHARGE, 300L)
+        ));
+
+        // when
+        UserPoint actual = pointService.selectUserPointAt(userId, 250L);
+
+        // then
+        assertThat(actual).isEqualTo(new UserPoint(userId, 700L, 200L));
+        assertThatThrownBy(() -> pointService.selectUserPointAt(userId, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("사용자의 포인트 잔량이 부족할 때 예외를 발생시킨다.")
     void usePoint_ShouldThrowException_WhenInsufficientPoint(){
@@ -265,7 +483,118 @@ public class PointServiceTest {
                 .hasMessage("0보다 큰 금액을 입력해야 합니다.");
     }
 
+    @Test
+    @DisplayName("같은 멱등 키로 다시 충전하면 테이블을 거치지 않고 처음 결과를 돌려준다.")
+    void chargePoint_ShouldReturnFirstResult_WhenSameIdempotencyKey() {
+        // given
+        long userId = 1L;
+        long chargeAmount = 500L;
+        String idempotencyKey = "retry-1";
 
+        UserPoint beforePoint = new UserPoint(userId, 1000L, System.currentTimeMillis());
+        UserPoint expectedPoint = new UserPoint(userId, 1500L, System.currentTimeMillis());
 
+        when(userPointTable.selectById(userId)).thenReturn(beforePoint);
+        when(userPointTable.insertOrUpdate(userId, 1500L)).thenReturn(expectedPoint);
+
+        // when
+        UserPoint first = pointService.chargePoint(userId, chargeAmount, idempotencyKey);
+        UserPoint retried = pointService.chargePoint(userId, chargeAmount, idempotencyKey);
+
+        // then
+        assertThat(first).isEqualTo(expectedPoint);
+        assertThat(retried).isEqualTo(expectedPoint);
+        assertThatThrownBy(() -> pointService.chargePoint(userId, 700L, idempotencyKey))
+                .isInstanceOf(IllegalArgumentException.class);
 
+        //verify
+        verify(userPointTable, times(1)).selectById(userId);
+        verify(userPointTable, times(1)).insertOrUpdate(userId, 1500L);
+        verify(pointHistoryTable, times(1)).insert(userId, chargeAmount, TransactionType.CHARGE, expectedPoint.updateMillis());
+    }
+
+    @Test
+    @DisplayName("넘겨받은 히스토리가 이 노드에 남은 히스토리로 시작하지 않으면 아무것도 기록하지 않고 거절한다.")
+    void importUser_ShouldReject_WhenLocalHistoryIsNotPrefix() {
+        // given
+        long userId = 1L;
+        when(pointHistoryTable.selectAllByUserId(userId))
+                .thenReturn(List.of(new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 100L)));
+        PointHandOff handOff = new PointHandOff(new UserPoint(userId, 500L, 200L), List.of(
+                new PointHistory(7L, userId, 500L, TransactionType.CHARGE, 200L)));
+
+        // when & then
+        assertThatThrownBy(() -> pointService.importUser(userId, handOff))
+                .isInstanceOf(IllegalStateException.class);
+
+        // verify
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("넘겨받은 사용자의 특정 시각 잔액은 넘겨받은 잔액부터 이어서 누적한다.")
+    void importUser_ShouldSeedBalanceTimeline_WithImportedBalance() {
+        // given - 이전 노드가 히스토리 없이 잔액만 복구한 사용자
+        PointProperties properties = new PointProperties();
+        properties.getHistory().setBalanceTimeline(true);
+        PointService timelineService = new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable, properties), properties, PointMetrics.noop());
+        long userId = 1L;
+
+        // when
+        timelineService.importUser(userId, new PointHandOff(new UserPoint(userId, 700L, 300L), List.of()));
+
+        // then
+        assertThat(timelineService.selectUserPointAt(userId, 400L)).isEqualTo(new UserPoint(userId, 700L, 300L));
+
+        // verify
+        verify(userPointTable, times(1)).insertOrUpdate(userId, 700L);
+    }
+
+    @Test
+    @DisplayName("직접 만든 구성 요소는 PointService 를 닫을 때 함께 정리한다.")
+    void close_ShouldShutDownOwnedExecutor_WhenSelfWired() throws Exception {
+        // given
+        PointService selfWired = new PointService(new UserPointRepository(userPointTable),
+                new PointHistoryRepository(pointHistoryTable), new PointProperties(), PointMetrics.noop());
+
+        // when
+        selfWired.close();
+
+        // then - 비동기 실행기가 닫혀 새 요청을 받지 않는다.
+        assertThat(selfWired.selectUserPointAsync(1L)).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("컨테이너가 넘겨준 구성 요소는 PointService 를 닫아도 정리하지 않는다.")
+    void close_ShouldLeaveInjectedExecutor_WhenContainerWired() throws Exception {
+        // given
+        PointProperties properties = new PointProperties();
+        UserPointRepository userPointRepository = new UserPointRepository(userPointTable);
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(pointHistoryTable);
+        PointServiceConfig config = new PointServiceConfig();
+        PointDurability durability = config.pointDurability(userPointRepository, pointHistoryRepository, properties);
+        PointEngines engines = config.pointEngines(userPointRepository, pointHistoryRepository, properties,
+                PointMetrics.noop(), durability);
+        UserOrderedExecutor executor = config.pointOffloadExecutor(properties);
+        PointService containerWired = new PointService(userPointRepository, pointHistoryRepository, properties,
+                PointMetrics.noop(), durability, engines, config.pointIdempotencyCache(properties), executor);
+        UserPoint expected = new UserPoint(1L, 1000L, 100L);
+        when(userPointTable.selectById(1L)).thenReturn(expected);
+
+        // when
+        containerWired.close();
+
+        // then
+        assertThat(containerWired.selectUserPointAsync(1L).get()).isEqualTo(expected);
+        executor.close();
+    }
+
+    private PointService newViewService() {
+        PointProperties properties = new PointProperties();
+        properties.getView().setEnabled(true);
+        return new PointService(new UserPointRepository(userPointTable), new PointHistoryRepository(pointHistoryTable),
+                properties, PointMetrics.noop());
+    }
 }
@@ -0,0 +1,215 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.common.metrics.PointMetrics;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.TransactionType;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.validation.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 해당 테스트 클래스는 ShardedPointEngine 의 샤드별 순차 처리와 기록 순서를 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("샤드 엔진 테스트")
+public class ShardedPointEngineTest {
+
+    @Mock
+    private UserPointTable userPointTable;
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private ShardedPointEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        engine.close();
+    }
+
+    @Test
+    @DisplayName("테이블은 최초 한 번만 조회하고, 요청 순서대로 잔액과 히스토리를 기록한다.")
+    void execute_ShouldPersistInOrder() {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        engine = newEngine(2, new SimpleMeterRegistry());
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, millis));
+        stubWrites(millis);
+
+        // when
+        UserPoint charged = engine.execute(new PointCommand(userId, TransactionType.CHARGE, 500L));
+        UserPoint used = engine.execute(new PointCommand(userId, TransactionType.USE, 700L));
+
+        // then
+        assertThat(charged.point()).isEqualTo(1500L);
+        assertThat(used.point()).isEqualTo(800L);
+
+        // verify
+        verify(userPointTable, times(1)).selectById(userId);
+        InOrder inOrder = inOrder(userPointTable, pointHistoryTable);
+        inOrder.verify(userPointTable).insertOrUpdate(userId, 1500L);
+        inOrder.verify(pointHistoryTable).insert(userId, 500L, TransactionType.CHARGE, millis);
+        inOrder.verify(userPointTable).insertOrUpdate(userId, 800L);
+        inOrder.verify(pointHistoryTable).insert(userId, 700L, TransactionType.USE, millis);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 요청은 예외로 돌려주고 잔액과 테이블을 바꾸지 않는다.")
+    void execute_ShouldNotChange_WhenValidationFails() {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        engine = newEngine(2, new SimpleMeterRegistry());
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 100L, millis));
+        stubWrites(millis);
+
+        // when & then
+        assertThatThrownBy(() -> engine.execute(new PointCommand(userId, TransactionType.USE, 500L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.execute(new PointCommand(userId, TransactionType.USE, 100L)).point()).isZero();
+
+        // verify
+        verify(userPointTable, times(1)).insertOrUpdate(anyLong(), anyLong());
+        verify(userPointTable).insertOrUpdate(userId, 0L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 사용자별 요청은 한 샤드에서 빠짐없이 반영되고, 샤드별 대기열 지표가 등록된다.")
+    void submit_ShouldApplyAll_WhenConcurrent() {
+        // given
+        int users = 8;
+        int requestsPerUser = 500;
+        long millis = System.currentTimeMillis();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        engine = newEngine(4, registry);
+        when(userPointTable.selectById(anyLong()))
+                .thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+        stubWrites(millis);
+
+        // when
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < requestsPerUser; i++) {
+            for (long userId = 1; userId <= users; userId++) {
+                long id = userId;
+                futures.add(CompletableFuture.supplyAsync(() -> engine.submit(
+                        new PointCommand(id, TransactionType.CHARGE, 10L))).thenCompose(future -> future));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        for (long userId = 1; userId <= users; userId++) {
+            assertThat(engine.execute(new PointCommand(userId, TransactionType.USE, 1L)).point())
+                    .isEqualTo(requestsPerUser * 10L - 1);
+            assertThat(engine.shardIndexOf(userId)).isBetween(0, engine.shardCount() - 1);
+        }
+        assertThat(registry.find("point.shard.queue.depth").gauges()).hasSize(4);
+
+        // verify
+        verify(pointHistoryTable, times(users * requestsPerUser + users)).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 제한 시간까지만 기다린 뒤 거절하고, 종료하면 대기열에 남은 요청을 실패 처리한다.")
+    void submit_ShouldRejectWhenFull_AndFailPendingOnClose() throws InterruptedException {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        engine = new ShardedPointEngine(new UserPointRepository(userPointTable), new PointHistoryRepository(pointHistoryTable),
+                new PointValidator(), 1, 1, PointMetrics.noop(), null, null, Duration.ofMillis(50));
+        when(userPointTable.selectById(userId)).thenAnswer(invocation -> {
+            started.countDown();
+            // 종료 시 인터럽트되어도 처리 중인 요청은 끝까지 기록한다.
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new UserPoint(userId, 0L, millis);
+        });
+        stubWrites(millis);
+
+        // when
+        CompletableFuture<UserPoint> processing = engine.submit(new PointCommand(userId, TransactionType.CHARGE, 100L));
+        started.await();
+        CompletableFuture<UserPoint> queued = engine.submit(new PointCommand(userId, TransactionType.CHARGE, 200L));
+        CompletableFuture<UserPoint> rejected = engine.submit(new PointCommand(userId, TransactionType.CHARGE, 300L));
+
+        // then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(RejectedExecutionException.class);
+
+        // when
+        engine.close();
+
+        // then
+        assertThat(processing.join().point()).isEqualTo(100L);
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> engine.submit(new PointCommand(userId, TransactionType.CHARGE, 400L)).join())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("잔액을 기록한 뒤 히스토리 기록에 실패해도 묶음의 요청은 모두 기록된 잔액으로 성공하고, 실패는 지표로 남긴다.")
+    void execute_ShouldSucceed_WhenHistoryInsertFailsAfterCommit() {
+        // given
+        long userId = 1L;
+        long millis = System.currentTimeMillis();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        engine = newEngine(1, registry);
+        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, millis));
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenThrow(new IllegalStateException("history down"));
+
+        // when
+        UserPoint charged = engine.execute(new PointCommand(userId, TransactionType.CHARGE, 500L));
+        UserPoint used = engine.execute(new PointCommand(userId, TransactionType.USE, 700L));
+
+        // then - 다시 시도하지 않아도 되도록 반영된 잔액으로 응답하고, 다음 요청은 보관한 잔액에 이어서 반영한다.
+        assertThat(charged.point()).isEqualTo(1500L);
+        assertThat(used.point()).isEqualTo(800L);
+        assertThat(registry.get("point.history.write.failures").tag("reason", "error").counter().count()).isEqualTo(2);
+        verify(userPointTable, times(1)).selectById(userId);
+    }
+
+    private ShardedPointEngine newEngine(int shards, SimpleMeterRegistry registry) {
+        return new ShardedPointEngine(new UserPointRepository(userPointTable), new PointHistoryRepository(pointHistoryTable),
+                new PointValidator(), shards, 1_000, new PointMetrics(registry));
+    }
+
+    private void stubWrites(long millis) {
+        lenient().when(userPointTable.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), millis));
+        lenient().when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(new PointHistory(1L, 1L, 0L, TransactionType.CHARGE, millis));
+    }
+}